@@ -0,0 +1,99 @@
+#!/usr/bin/env bash
+# Compara o tempo de inicialização e a memória residente (RSS) da imagem JVM (Dockerfile,
+# eclipse-temurin:17-jre) com a da imagem nativa (Dockerfile.native), no mesmo PostgreSQL.
+#
+#   ./scripts/comparar-inicializacao.sh [execuções por imagem]
+#
+# Para cada execução: sobe o container, mede até /actuator/health responder UP (no perfil producao
+# o actuator fica na porta de gerenciamento, 8081), lê o VmRSS do
+# processo, faz uma carga curta de leituras e lê o VmRSS de novo. Uma execução inicial de cada
+# imagem é descartada (cria o schema com ddl-auto=update e aquece o cache de disco).
+set -euo pipefail
+
+EXECUCOES=${1:-5}
+REDE=cooperativa-comparacao
+BANCO=cooperativa-comparacao-postgres
+PORTA=18080
+PORTA_GERENCIAMENTO=18081
+# Segundos até desistir de esperar o banco ou a aplicação
+LIMITE_ESPERA=180
+REQUISICOES_CARGA=500
+
+cd "$(dirname "$0")/.."
+
+limpar() {
+    docker rm -f cooperativa-comparacao-app "$BANCO" >/dev/null 2>&1 || true
+    docker network rm "$REDE" >/dev/null 2>&1 || true
+}
+trap limpar EXIT
+
+# Repete o comando até ele ter sucesso ou passar LIMITE_ESPERA segundos
+aguardar() {
+    local descricao=$1
+    shift
+    local limite=$((SECONDS + LIMITE_ESPERA))
+    until "$@" >/dev/null 2>&1; do
+        if (( SECONDS >= limite )); then
+            echo "Tempo esgotado esperando $descricao (${LIMITE_ESPERA}s)" >&2
+            docker logs cooperativa-comparacao-app 2>&1 | tail -n 50 >&2 || true
+            exit 1
+        fi
+        sleep 0.05
+    done
+}
+
+saudavel() {
+    curl -sf "http://localhost:$PORTA_GERENCIAMENTO/actuator/health" | grep -q '"UP"'
+}
+
+echo "Construindo as imagens..."
+./mvnw -B -q -DskipTests package
+docker build -q -t cooperativa-voting:jvm . >/dev/null
+docker build -q -f Dockerfile.native -t cooperativa-voting:nativo . >/dev/null
+
+limpar
+docker network create "$REDE" >/dev/null
+docker run -d --name "$BANCO" --network "$REDE" \
+    -e POSTGRES_DB=cooperativa_voting -e POSTGRES_USER=postgres -e POSTGRES_PASSWORD=postgres \
+    postgres:15 >/dev/null
+aguardar "o PostgreSQL" docker exec "$BANCO" pg_isready -U postgres -d cooperativa_voting
+
+rss_mb() {
+    docker exec cooperativa-comparacao-app sh -c 'grep VmRSS /proc/1/status' | awk '{printf "%.0f", $2 / 1024}'
+}
+
+# Imprime: milissegundos até UP, segundos informados pelo Spring, RSS no UP e RSS após a carga
+medir() {
+    local imagem=$1
+    local inicio fim
+    inicio=$(date +%s%N)
+    docker run -d --name cooperativa-comparacao-app --network "$REDE" -p "$PORTA:8080" \
+        -p "$PORTA_GERENCIAMENTO:8081" -e SPRING_PROFILES_ACTIVE=producao \
+        -e SPRING_DATASOURCE_URL="jdbc:postgresql://$BANCO:5432/cooperativa_voting" \
+        -e SPRING_DATASOURCE_USERNAME=postgres -e SPRING_DATASOURCE_PASSWORD=postgres \
+        "$imagem" >/dev/null
+    aguardar "$imagem responder UP" saudavel
+    fim=$(date +%s%N)
+
+    local spring rss_up rss_carga
+    spring=$(docker logs cooperativa-comparacao-app 2>&1 | grep -o 'Started CooperativaVotingApplication in [0-9.]*' | grep -o '[0-9.]*$' || echo "-")
+    rss_up=$(rss_mb)
+    for _ in $(seq "$REQUISICOES_CARGA"); do
+        curl -sf -o /dev/null "http://localhost:$PORTA/api/pautas" || true
+    done
+    rss_carga=$(rss_mb)
+
+    docker rm -f cooperativa-comparacao-app >/dev/null
+    echo "$(( (fim - inicio) / 1000000 )) $spring $rss_up $rss_carga"
+}
+
+echo
+echo "| Imagem | Execução | Até UP (ms) | Spring (s) | RSS no UP (MB) | RSS após $REQUISICOES_CARGA GETs (MB) |"
+echo "|---|---|---|---|---|---|"
+for imagem in cooperativa-voting:jvm cooperativa-voting:nativo; do
+    medir "$imagem" >/dev/null
+    for execucao in $(seq "$EXECUCOES"); do
+        read -r ate_up spring rss_up rss_carga < <(medir "$imagem")
+        echo "| $imagem | $execucao | $ate_up | $spring | $rss_up | $rss_carga |"
+    done
+done
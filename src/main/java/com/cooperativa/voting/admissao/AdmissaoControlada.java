@@ -0,0 +1,13 @@
+package com.cooperativa.voting.admissao;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Endpoint protegido pelo limite adaptativo de concorrência: acima do limite a requisição é
+// recusada com 503 antes de ler o corpo ou tocar no banco.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AdmissaoControlada {
+}
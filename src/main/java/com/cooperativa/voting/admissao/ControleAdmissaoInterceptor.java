@@ -0,0 +1,97 @@
+package com.cooperativa.voting.admissao;
+
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Controle de admissão dos endpoints @AdmissaoControlada. Roda antes da leitura do corpo e do
+// controller: com o banco lento, o excedente recebe 503 com Retry-After na hora, em vez de ocupar
+// uma thread do Tomcat esperando conexão do Hikari.
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.admissao", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ControleAdmissaoInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ControleAdmissaoInterceptor.class);
+
+    private static final String INICIO = ControleAdmissaoInterceptor.class.getName() + ".inicio";
+
+    private final LimiteAdaptativo limite;
+    private final long retryAfterSegundos;
+    private final Counter admitidas;
+    private final Counter rejeitadas;
+
+    public ControleAdmissaoInterceptor(MeterRegistry meterRegistry,
+                                       @Value("${cooperativa.admissao.limite-inicial:20}") int limiteInicial,
+                                       @Value("${cooperativa.admissao.limite-minimo:4}") int limiteMinimo,
+                                       @Value("${cooperativa.admissao.limite-maximo:200}") int limiteMaximo,
+                                       @Value("${cooperativa.admissao.tolerancia:1.5}") double tolerancia,
+                                       @Value("${cooperativa.admissao.retry-after-segundos:1}") long retryAfterSegundos) {
+        this.limite = new LimiteAdaptativo(limiteInicial, limiteMinimo, limiteMaximo, tolerancia);
+        this.retryAfterSegundos = retryAfterSegundos;
+
+        Gauge.builder("cooperativa.admissao.limite", limite, LimiteAdaptativo::getLimite)
+            .description("Limite atual de requisições simultâneas admitidas")
+            .register(meterRegistry);
+        Gauge.builder("cooperativa.admissao.em.uso", limite, LimiteAdaptativo::getEmUso)
+            .description("Requisições admitidas ainda em andamento")
+            .register(meterRegistry);
+        this.admitidas = Counter.builder("cooperativa.admissao.requisicoes")
+            .description("Requisições recebidas pelo controle de admissão, por resultado")
+            .tag("resultado", "admitida")
+            .register(meterRegistry);
+        this.rejeitadas = Counter.builder("cooperativa.admissao.requisicoes")
+            .description("Requisições recebidas pelo controle de admissão, por resultado")
+            .tag("resultado", "rejeitada")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!controlado(handler)) {
+            return true;
+        }
+
+        if (!limite.tentarAdquirir()) {
+            rejeitadas.increment();
+            logger.debug("Requisição recusada pelo controle de admissão - limite: {}", limite.getLimite());
+            throw new ServicoSobrecarregadoException("Limite de requisições simultâneas atingido", retryAfterSegundos);
+        }
+
+        admitidas.increment();
+        request.setAttribute(INICIO, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object inicio = request.getAttribute(INICIO);
+        if (inicio == null) {
+            return;
+        }
+        request.removeAttribute(INICIO);
+
+        // 4xx são respostas normais (voto duplicado, sessão encerrada): entram como amostra de latência
+        boolean sobrecarga = response.getStatus() >= 500;
+        limite.liberar(System.nanoTime() - (Long) inicio, sobrecarga);
+    }
+
+    int getLimite() {
+        return limite.getLimite();
+    }
+
+    private boolean controlado(Object handler) {
+        return handler instanceof HandlerMethod metodo && metodo.hasMethodAnnotation(AdmissaoControlada.class);
+    }
+}
@@ -0,0 +1,79 @@
+package com.cooperativa.voting.admissao;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limite de concorrência ajustado pela latência, no estilo gradiente: compara cada latência com a
+// média de longo prazo e encolhe o limite quando ela sobe (banco lento, pool de conexões disputado).
+// Com latência estável o limite cresce aos poucos, e só enquanto estiver de fato sendo usado.
+final class LimiteAdaptativo {
+
+    // Amostras na média de longo prazo da latência
+    private static final int JANELA_LONGA = 600;
+    // Peso do novo limite calculado a cada amostra
+    private static final double SUAVIZACAO = 0.2;
+    // Corte multiplicativo quando a requisição terminou por sobrecarga (5xx)
+    private static final double FATOR_SOBRECARGA = 0.9;
+
+    private final int limiteMinimo;
+    private final int limiteMaximo;
+    private final double tolerancia;
+    private final AtomicInteger emUso = new AtomicInteger();
+
+    private volatile double limite;
+    private double latenciaLonga;
+
+    LimiteAdaptativo(int limiteInicial, int limiteMinimo, int limiteMaximo, double tolerancia) {
+        this.limiteMinimo = limiteMinimo;
+        this.limiteMaximo = limiteMaximo;
+        this.tolerancia = tolerancia;
+        this.limite = Math.max(limiteMinimo, Math.min(limiteMaximo, limiteInicial));
+    }
+
+    boolean tentarAdquirir() {
+        while (true) {
+            int atual = emUso.get();
+            if (atual >= (int) limite) {
+                return false;
+            }
+            if (emUso.compareAndSet(atual, atual + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void liberar(long latenciaNanos, boolean sobrecarga) {
+        int emUsoNaAmostra = emUso.getAndDecrement();
+        registrar(Math.max(1, latenciaNanos), sobrecarga, emUsoNaAmostra);
+    }
+
+    private synchronized void registrar(long latencia, boolean sobrecarga, int emUsoNaAmostra) {
+        if (sobrecarga) {
+            limite = Math.max(limiteMinimo, limite * FATOR_SOBRECARGA);
+            return;
+        }
+
+        latenciaLonga = latenciaLonga == 0 ? latencia : latenciaLonga + (latencia - latenciaLonga) / JANELA_LONGA;
+        // Depois de um período lento a média longa fica alta demais: volta mais rápido
+        if (latenciaLonga > 2 * latencia) {
+            latenciaLonga *= 0.95;
+        }
+
+        // Ociosa, a latência não diz nada sobre a capacidade
+        if (emUsoNaAmostra < limite / 2) {
+            return;
+        }
+
+        double gradiente = Math.max(0.5, Math.min(1.0, tolerancia * latenciaLonga / latencia));
+        double novo = limite * gradiente + Math.sqrt(limite);
+        novo = limite * (1 - SUAVIZACAO) + novo * SUAVIZACAO;
+        limite = Math.max(limiteMinimo, Math.min(limiteMaximo, novo));
+    }
+
+    int getLimite() {
+        return (int) limite;
+    }
+
+    int getEmUso() {
+        return emUso.get();
+    }
+}
@@ -0,0 +1,57 @@
+package com.cooperativa.voting.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+// Bytes prontos de uma resposta, com a versão comprimida quando vale a pena, e as gerações
+// (da sessão e das pautas) em que foram produzidos: uma geração diferente invalida a entrada
+final class RespostaSerializada {
+
+    // Custo aproximado do objeto e dos arrays, além dos bytes em si
+    private static final int PESO_FIXO = 64;
+
+    private final byte[] identidade;
+    private final byte[] gzip;
+    private final long geracaoSessao;
+    private final long geracaoPautas;
+
+    private RespostaSerializada(byte[] identidade, byte[] gzip, long geracaoSessao, long geracaoPautas) {
+        this.identidade = identidade;
+        this.gzip = gzip;
+        this.geracaoSessao = geracaoSessao;
+        this.geracaoPautas = geracaoPautas;
+    }
+
+    static RespostaSerializada de(byte[] conteudo, int gzipMinimoBytes, long geracaoSessao, long geracaoPautas) {
+        byte[] comprimido = conteudo.length >= gzipMinimoBytes ? comprimir(conteudo) : null;
+        // Sem ganho real a versão comprimida só ocuparia espaço
+        if (comprimido != null && comprimido.length >= conteudo.length) {
+            comprimido = null;
+        }
+        return new RespostaSerializada(conteudo, comprimido, geracaoSessao, geracaoPautas);
+    }
+
+    byte[] getIdentidade() { return identidade; }
+
+    byte[] getGzip() { return gzip; }
+
+    long getGeracaoSessao() { return geracaoSessao; }
+
+    long getGeracaoPautas() { return geracaoPautas; }
+
+    int getPeso() {
+        return PESO_FIXO + identidade.length + (gzip != null ? gzip.length : 0);
+    }
+
+    private static byte[] comprimir(byte[] conteudo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(conteudo.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(conteudo);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return saida.toByteArray();
+    }
+}
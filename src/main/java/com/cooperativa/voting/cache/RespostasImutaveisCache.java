@@ -0,0 +1,169 @@
+package com.cooperativa.voting.cache;
+
+import com.cooperativa.voting.event.PautaAlteradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Cache de respostas já serializadas de recursos que não mudam mais (sessões encerradas), limitado
+// pelo total de bytes. Um acerto escreve os bytes direto no corpo da resposta, sem consultar o banco,
+// montar DTO ou passar pelo Jackson.
+//
+// Invalidação por geração: cada entrada guarda a geração da sessão e a das pautas lidas antes da
+// consulta. Um voto gravado depois (por exemplo, projetado do journal após o encerramento) ou uma
+// pauta alterada muda a geração e a entrada deixa de ser servida. A geração de uma sessão sem
+// registro (nunca votada ou removida do cache de gerações) é criada na hora, com um valor novo:
+// nenhuma entrada guardada antes da remoção volta a valer.
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.respostas-imutaveis", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RespostasImutaveisCache {
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinimoBytes;
+    private final Cache<String, RespostaSerializada> respostas;
+
+    // Valores únicos (nunca reaproveitados), então uma geração expirada não colide com uma antiga
+    private final AtomicLong sequencia = new AtomicLong();
+    private final Cache<Long, Long> geracoesSessao;
+    private final AtomicLong geracaoPautas = new AtomicLong();
+
+    @Autowired
+    public RespostasImutaveisCache(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                   @Value("${cooperativa.respostas-imutaveis.tamanho-maximo-mb:64}") long tamanhoMaximoMb,
+                                   @Value("${cooperativa.respostas-imutaveis.gzip-minimo-bytes:1024}") int gzipMinimoBytes) {
+        this(objectMapper, meterRegistry, tamanhoMaximoMb, gzipMinimoBytes, Ticker.systemTicker());
+    }
+
+    RespostasImutaveisCache(ObjectMapper objectMapper, MeterRegistry meterRegistry, long tamanhoMaximoMb,
+                            int gzipMinimoBytes, Ticker ticker) {
+        this.objectMapper = objectMapper;
+        this.gzipMinimoBytes = gzipMinimoBytes;
+        this.geracoesSessao = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .ticker(ticker)
+                .build();
+        this.respostas = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximoMb * 1024 * 1024)
+                .<String, RespostaSerializada>weigher((chave, resposta) -> resposta.getPeso())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, "respostas-imutaveis");
+    }
+
+    // Serve o recurso do cache ou executa a consulta. Quando o resultado é imutável ele é serializado,
+    // guardado e escrito; nesses casos devolve null (a resposta já foi escrita). Caso contrário
+    // devolve o corpo para seguir o caminho normal do Spring MVC.
+    public <T> T servir(Long sessaoId, String recurso, Supplier<T> consulta, Predicate<T> imutavel,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!aceitaJson(request)) {
+            return consulta.get();
+        }
+
+        String chave = sessaoId + ":" + recurso + ":" + MediaType.APPLICATION_JSON_VALUE;
+        long geracaoSessao = geracaoSessao(sessaoId);
+        long pautas = geracaoPautas.get();
+
+        RespostaSerializada existente = respostas.getIfPresent(chave);
+        if (existente != null && existente.getGeracaoSessao() == geracaoSessao && existente.getGeracaoPautas() == pautas) {
+            escrever(existente, request, response);
+            return null;
+        }
+
+        T corpo = consulta.get();
+        if (!imutavel.test(corpo)) {
+            return corpo;
+        }
+
+        RespostaSerializada serializada = RespostaSerializada.de(
+            objectMapper.writeValueAsBytes(corpo), gzipMinimoBytes, geracaoSessao, pautas);
+        respostas.put(chave, serializada);
+        escrever(serializada, request, response);
+        return null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVotosRegistrados(VotosRegistradosEvent event) {
+        event.getSessaoIds().forEach(sessaoId -> geracoesSessao.put(sessaoId, sequencia.incrementAndGet()));
+    }
+
+    // Título e descrição da pauta fazem parte das respostas; alterações de pauta são raras
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPautaAlterada(PautaAlteradaEvent event) {
+        geracaoPautas.incrementAndGet();
+    }
+
+    private long geracaoSessao(Long sessaoId) {
+        return geracoesSessao.get(sessaoId, id -> sequencia.incrementAndGet());
+    }
+
+    private void escrever(RespostaSerializada resposta, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        byte[] corpo = resposta.getIdentidade();
+        if (resposta.getGzip() != null && aceitaGzip(request)) {
+            corpo = resposta.getGzip();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        response.setContentLength(corpo.length);
+        response.getOutputStream().write(corpo);
+        response.flushBuffer();
+    }
+
+    private boolean aceitaJson(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            // Cliente que prefere CBOR ou Smile segue pela negociação normal
+            return MediaType.parseMediaTypes(accept).stream()
+                    .max(Comparator.comparingDouble(MediaType::getQualityValue))
+                    .filter(tipo -> tipo.includes(MediaType.APPLICATION_JSON))
+                    .isPresent();
+        } catch (InvalidMediaTypeException ex) {
+            // O caminho normal responde o erro de negociação
+            return false;
+        }
+    }
+
+    private boolean aceitaGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length == 1 || !partes[1].replace(" ", "").equals("q=0");
+            }
+        }
+        return false;
+    }
+}
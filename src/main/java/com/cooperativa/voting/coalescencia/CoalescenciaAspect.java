@@ -0,0 +1,81 @@
+package com.cooperativa.voting.coalescencia;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Aplica o single-flight aos métodos @Coalescido. Roda antes (por fora) do @Transactional, de modo
+// que só a chamada líder abre transação e ocupa conexão; as demais apenas esperam o resultado.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "cooperativa.coalescencia", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescenciaAspect {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Contadores> contadores = new ConcurrentHashMap<>();
+
+    public CoalescenciaAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("cooperativa.coalescencia.em.andamento", singleFlight, SingleFlight::getEmAndamento);
+    }
+
+    @Around("@annotation(com.cooperativa.voting.coalescencia.Coalescido)")
+    public Object coalescer(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Dentro de uma transação a chamada pode depender de escritas ainda não confirmadas
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        Method metodo = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        List<Object> chave = new ArrayList<>(joinPoint.getArgs().length + 1);
+        chave.add(metodo);
+        chave.addAll(Arrays.asList(joinPoint.getArgs()));
+
+        Contadores contadoresMetodo = contadores.computeIfAbsent(metodo, this::registrarContadores);
+        return singleFlight.executar(chave, joinPoint::proceed,
+            coalescida -> (coalescida ? contadoresMetodo.coalescidas : contadoresMetodo.executadas).increment());
+    }
+
+    private Contadores registrarContadores(Method metodo) {
+        String nome = metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName();
+        return new Contadores(
+            Counter.builder("cooperativa.coalescencia.chamadas")
+                .description("Chamadas a leituras coalescidas, por papel (executada ou coalescida)")
+                .tag("metodo", nome)
+                .tag("papel", "executada")
+                .register(meterRegistry),
+            Counter.builder("cooperativa.coalescencia.chamadas")
+                .description("Chamadas a leituras coalescidas, por papel (executada ou coalescida)")
+                .tag("metodo", nome)
+                .tag("papel", "coalescida")
+                .register(meterRegistry));
+    }
+
+    private static final class Contadores {
+
+        private final Counter executadas;
+        private final Counter coalescidas;
+
+        Contadores(Counter executadas, Counter coalescidas) {
+            this.executadas = executadas;
+            this.coalescidas = coalescidas;
+        }
+    }
+}
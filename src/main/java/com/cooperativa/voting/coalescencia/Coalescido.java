@@ -0,0 +1,14 @@
+package com.cooperativa.voting.coalescencia;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Chamadas concorrentes ao método com os mesmos argumentos compartilham uma única execução
+// e o seu resultado (ou exceção). Use apenas em leituras que devolvem DTOs: o mesmo objeto
+// é entregue a todas as chamadas coalescidas.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalescido {
+}
@@ -0,0 +1,51 @@
+package com.cooperativa.voting.coalescencia;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Mapa de execuções em andamento por chave: a primeira chamada (líder) executa e as que chegam
+// enquanto ela não termina esperam pelo mesmo resultado. Nada fica guardado depois que a
+// execução termina, então não há risco de servir dado velho.
+class SingleFlight {
+
+    interface Execucao {
+        Object executar() throws Throwable;
+    }
+
+    interface Observador {
+        void chamada(boolean coalescida);
+    }
+
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> emAndamento = new ConcurrentHashMap<>();
+
+    Object executar(Object chave, Execucao execucao, Observador observador) throws Throwable {
+        CompletableFuture<Object> nova = new CompletableFuture<>();
+        CompletableFuture<Object> existente = emAndamento.putIfAbsent(chave, nova);
+
+        if (existente != null) {
+            observador.chamada(true);
+            try {
+                return existente.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        observador.chamada(false);
+        try {
+            Object resultado = execucao.executar();
+            nova.complete(resultado);
+            return resultado;
+        } catch (Throwable ex) {
+            nova.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            emAndamento.remove(chave, nova);
+        }
+    }
+
+    int getEmAndamento() {
+        return emAndamento.size();
+    }
+}
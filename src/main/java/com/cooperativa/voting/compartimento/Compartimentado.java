@@ -0,0 +1,14 @@
+package com.cooperativa.voting.compartimento;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Compartimento do endpoint; sem a anotação, o endpoint fica em CONSULTA
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Compartimentado {
+
+    Compartimento value();
+}
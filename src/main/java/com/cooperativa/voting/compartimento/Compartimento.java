@@ -0,0 +1,17 @@
+package com.cooperativa.voting.compartimento;
+
+// Tipos de tráfego isolados entre si: cada um tem seu limite de requisições simultâneas e seu
+// próprio pool de conexões, para que relatórios pesados não deixem a votação sem recursos.
+public enum Compartimento {
+
+    // Registro de votos e "pode votar"; também os shards e o projetor, que gravam os votos
+    VOTACAO,
+    // Consultas interativas e administração de pautas e sessões; também os jobs agendados
+    CONSULTA,
+    // Listagens completas, resultados em lote e feeds de alterações
+    RELATORIO;
+
+    public String getNome() {
+        return name().toLowerCase();
+    }
+}
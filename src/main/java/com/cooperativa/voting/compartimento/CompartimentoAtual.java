@@ -0,0 +1,52 @@
+package com.cooperativa.voting.compartimento;
+
+import java.util.function.Supplier;
+
+// Compartimento da thread corrente, definido pelo interceptor no início da requisição e lido pelo
+// DataSource para escolher o pool. Trabalho assíncrono (long-poll, feeds) roda no compartimento
+// capturado na chegada da requisição; shards e projetor rodam em VOTACAO. Qualquer outra thread sem
+// compartimento (jobs agendados, threads de aviso) fica em CONSULTA, para não ocupar o pool da votação.
+public final class CompartimentoAtual {
+
+    private static final Compartimento PADRAO = Compartimento.CONSULTA;
+
+    private static final ThreadLocal<Compartimento> ATUAL = new ThreadLocal<>();
+
+    private CompartimentoAtual() {
+    }
+
+    public static Compartimento obter() {
+        Compartimento compartimento = ATUAL.get();
+        return compartimento != null ? compartimento : PADRAO;
+    }
+
+    public static void executar(Compartimento compartimento, Runnable tarefa) {
+        executar(compartimento, () -> {
+            tarefa.run();
+            return null;
+        });
+    }
+
+    // Restaura o compartimento anterior ao terminar, para não vazar para a próxima tarefa da thread
+    public static <T> T executar(Compartimento compartimento, Supplier<T> tarefa) {
+        Compartimento anterior = ATUAL.get();
+        ATUAL.set(compartimento);
+        try {
+            return tarefa.get();
+        } finally {
+            if (anterior != null) {
+                ATUAL.set(anterior);
+            } else {
+                ATUAL.remove();
+            }
+        }
+    }
+
+    static void definir(Compartimento compartimento) {
+        ATUAL.set(compartimento);
+    }
+
+    static void limpar() {
+        ATUAL.remove();
+    }
+}
@@ -0,0 +1,36 @@
+package com.cooperativa.voting.compartimento;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// Um pool Hikari por compartimento, escolhido pelo compartimento da thread na hora de obter a
+// conexão (início da transação). Relatórios esgotando o próprio pool não tiram conexões da votação.
+public class CompartimentosDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final Map<Compartimento, HikariDataSource> pools;
+
+    public CompartimentosDataSource(Map<Compartimento, HikariDataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        setTargetDataSources(new HashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Compartimento.VOTACAO));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return CompartimentoAtual.obter();
+    }
+
+    public HikariDataSource getPool(Compartimento compartimento) {
+        return pools.get(compartimento);
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,109 @@
+package com.cooperativa.voting.compartimento;
+
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Limita as requisições simultâneas de cada compartimento e marca a thread com o compartimento do
+// endpoint. Uma exportação grande ocupa no máximo as threads do Tomcat do compartimento RELATORIO;
+// acima disso recebe 503 sem tocar no banco.
+public class CompartimentosInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompartimentosInterceptor.class);
+
+    private static final String PERMISSAO = CompartimentosInterceptor.class.getName() + ".permissao";
+
+    private final Map<Compartimento, Limite> limites = new EnumMap<>(Compartimento.class);
+    private final long retryAfterSegundos;
+
+    public CompartimentosInterceptor(Environment environment, MeterRegistry meterRegistry) {
+        this.retryAfterSegundos = environment.getProperty("cooperativa.compartimentos.retry-after-segundos", Long.class, 1L);
+
+        limites.put(Compartimento.VOTACAO, new Limite(Compartimento.VOTACAO, environment, meterRegistry, 150, 100));
+        limites.put(Compartimento.CONSULTA, new Limite(Compartimento.CONSULTA, environment, meterRegistry, 50, 50));
+        limites.put(Compartimento.RELATORIO, new Limite(Compartimento.RELATORIO, environment, meterRegistry, 4, 0));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws InterruptedException {
+        if (!(handler instanceof HandlerMethod metodo)) {
+            return true;
+        }
+
+        Compartimentado anotacao = metodo.getMethodAnnotation(Compartimentado.class);
+        Compartimento compartimento = anotacao != null ? anotacao.value() : Compartimento.CONSULTA;
+        Limite limite = limites.get(compartimento);
+
+        if (!limite.permissoes.tryAcquire(limite.esperaMs, TimeUnit.MILLISECONDS)) {
+            limite.rejeitadas.increment();
+            logger.debug("Requisição recusada - compartimento {} sem vagas", compartimento.getNome());
+            throw new ServicoSobrecarregadoException("Compartimento " + compartimento.getNome() + " sem vagas", retryAfterSegundos);
+        }
+
+        request.setAttribute(PERMISSAO, limite);
+        CompartimentoAtual.definir(compartimento);
+        return true;
+    }
+
+    // Long-poll e feeds: a thread do Tomcat é liberada aqui, e a permissão junto com ela
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        liberar(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        liberar(request);
+    }
+
+    int getDisponiveis(Compartimento compartimento) {
+        return limites.get(compartimento).permissoes.availablePermits();
+    }
+
+    private void liberar(HttpServletRequest request) {
+        Object limite = request.getAttribute(PERMISSAO);
+        if (limite != null) {
+            request.removeAttribute(PERMISSAO);
+            ((Limite) limite).permissoes.release();
+        }
+        CompartimentoAtual.limpar();
+    }
+
+    private static final class Limite {
+
+        private final int concorrencia;
+        private final long esperaMs;
+        private final Semaphore permissoes;
+        private final Counter rejeitadas;
+
+        private Limite(Compartimento compartimento, Environment environment, MeterRegistry meterRegistry,
+                       int concorrenciaPadrao, long esperaMsPadrao) {
+            String prefixo = "cooperativa.compartimentos." + compartimento.getNome() + ".";
+            this.concorrencia = environment.getProperty(prefixo + "concorrencia", Integer.class, concorrenciaPadrao);
+            this.esperaMs = environment.getProperty(prefixo + "espera-ms", Long.class, esperaMsPadrao);
+            this.permissoes = new Semaphore(concorrencia);
+
+            Gauge.builder("cooperativa.compartimentos.em.uso", this, l -> l.concorrencia - l.permissoes.availablePermits())
+                .description("Requisições em andamento no compartimento")
+                .tag("compartimento", compartimento.getNome())
+                .register(meterRegistry);
+            this.rejeitadas = Counter.builder("cooperativa.compartimentos.rejeicoes")
+                .description("Requisições recusadas com 503 por falta de vagas no compartimento")
+                .tag("compartimento", compartimento.getNome())
+                .register(meterRegistry);
+        }
+    }
+}
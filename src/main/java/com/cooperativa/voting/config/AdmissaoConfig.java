@@ -0,0 +1,24 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.admissao.ControleAdmissaoInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdmissaoConfig implements WebMvcConfigurer {
+
+    // Presente apenas com cooperativa.admissao.enabled=true
+    @Autowired(required = false)
+    private ControleAdmissaoInterceptor controleAdmissaoInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (controleAdmissaoInterceptor != null) {
+            registry.addInterceptor(controleAdmissaoInterceptor).addPathPatterns("/api/**");
+        }
+    }
+}
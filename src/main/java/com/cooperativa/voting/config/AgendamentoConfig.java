@@ -0,0 +1,13 @@
+package com.cooperativa.voting.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Liga os jobs com @Scheduled (encerramento de sessões expiradas). Desligado nos testes,
+// que disparam os jobs manualmente.
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "cooperativa.agendamento", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AgendamentoConfig {
+}
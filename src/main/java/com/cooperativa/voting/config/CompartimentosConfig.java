@@ -0,0 +1,85 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentosDataSource;
+import com.cooperativa.voting.compartimento.CompartimentosInterceptor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// Compartimentos (bulkheads) de votação, consulta e relatório: um pool de conexões e um limite de
+// requisições simultâneas para cada um. Substitui o DataSource criado pelo Spring Boot; as
+// propriedades spring.datasource.hikari.* valem para os três pools.
+@Configuration
+@ConditionalOnProperty(prefix = "cooperativa.compartimentos", name = "enabled", havingValue = "true")
+public class CompartimentosConfig {
+
+    private static final Map<Compartimento, Integer> CONEXOES_PADRAO = Map.of(
+        Compartimento.VOTACAO, 10,
+        Compartimento.CONSULTA, 5,
+        Compartimento.RELATORIO, 2
+    );
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Bean
+    public CompartimentosDataSource dataSource(DataSourceProperties properties) {
+        Map<Compartimento, HikariDataSource> pools = new EnumMap<>(Compartimento.class);
+
+        for (Compartimento compartimento : Compartimento.values()) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+
+            pool.setPoolName("compartimento-" + compartimento.getNome());
+            pool.setMaximumPoolSize(environment.getProperty(
+                "cooperativa.compartimentos." + compartimento.getNome() + ".conexoes", Integer.class,
+                CONEXOES_PADRAO.get(compartimento)));
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(compartimento, pool);
+        }
+
+        return new CompartimentosDataSource(pools);
+    }
+
+    // Os limites de requisições valem só para os controllers do MVC; no perfil reativo ficam apenas os pools.
+    // O @WebMvcTest registra WebMvcConfigurers diretamente, sem passar pela condição da classe externa.
+    @Configuration
+    @ConditionalOnProperty(prefix = "cooperativa.compartimentos", name = "enabled", havingValue = "true")
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class Limites implements WebMvcConfigurer {
+
+        @Autowired
+        private Environment environment;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Bean
+        public CompartimentosInterceptor compartimentosInterceptor() {
+            return new CompartimentosInterceptor(environment, meterRegistry);
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(compartimentosInterceptor()).addPathPatterns("/api/**");
+        }
+    }
+}
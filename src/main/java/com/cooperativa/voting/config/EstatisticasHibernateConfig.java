@@ -0,0 +1,36 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.estatisticas.ConsultasLentas;
+import com.cooperativa.voting.estatisticas.DataSourceMedidoPostProcessor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+// Estatísticas do Hibernate e ranking dos statements mais lentos (GET/DELETE /actuator/hibernate).
+// Desligado por padrão: generate_statistics custa alguns contadores atômicos por statement.
+@Configuration
+@ConditionalOnProperty(prefix = "cooperativa.estatisticas", name = "enabled", havingValue = "true")
+public class EstatisticasHibernateConfig {
+
+    @Bean
+    public ConsultasLentas consultasLentas(@Value("${cooperativa.estatisticas.consultas-lentas:50}") int capacidade,
+                                           @Value("${cooperativa.estatisticas.limite-ms:10}") long limiteMs) {
+        return new ConsultasLentas(capacidade, limiteMs, TimeUnit.MILLISECONDS);
+    }
+
+    // Estático para o post-processor ser registrado sem instanciar a configuração antes da hora
+    @Bean
+    public static DataSourceMedidoPostProcessor dataSourceMedidoPostProcessor(ObjectProvider<ConsultasLentas> consultasLentas) {
+        return new DataSourceMedidoPostProcessor(consultasLentas);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer estatisticasHibernate() {
+        return propriedades -> propriedades.put("hibernate.generate_statistics", true);
+    }
+}
@@ -0,0 +1,98 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.dto.request.PautaRequest;
+import com.cooperativa.voting.dto.request.PodeVotarLoteRequest;
+import com.cooperativa.voting.dto.request.SessaoRequest;
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.EventoSessaoResponse;
+import com.cooperativa.voting.dto.response.ParticipacaoResponse;
+import com.cooperativa.voting.dto.response.PautaResponse;
+import com.cooperativa.voting.dto.response.PodeVotarLoteResponse;
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.SessaoAbertaResponse;
+import com.cooperativa.voting.dto.response.SessaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.estatisticas.ConsultasLentas;
+import com.cooperativa.voting.exception.GlobalExceptionHandler;
+import com.cooperativa.voting.latencia.HistogramasLatencia;
+import com.cooperativa.voting.model.AssociadoChave;
+import com.cooperativa.voting.model.EventoSessao;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.PosicaoFeed;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.reactive.model.PautaR2dbc;
+import com.cooperativa.voting.reactive.model.SessaoR2dbc;
+import com.cooperativa.voting.reactive.model.VotoR2dbc;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+
+// Dicas para a imagem nativa (mvn -Pnative native:compile). O processamento AOT já cobre beans,
+// controllers e repositórios; aqui entra o que é lido por reflexão fora desse caminho: corpos JSON
+// montados à mão ou dentro de Map, entidades, mensagens gRPC, proxies JDK e os arquivos do Swagger UI.
+@Configuration
+@ImportRuntimeHints(ImagemNativaConfig.Dicas.class)
+@RegisterReflectionForBinding({
+    PautaRequest.class, SessaoRequest.class, VotoRequest.class, PodeVotarLoteRequest.class,
+    PautaResponse.class, SessaoResponse.class, VotoResponse.class, ResultadoVotacaoResponse.class,
+    SessaoAbertaResponse.class, EventoSessaoResponse.class, ParticipacaoResponse.class,
+    PodeVotarLoteResponse.class, AlteracoesResponse.class,
+    GlobalExceptionHandler.ErrorResponse.class, GlobalExceptionHandler.ValidationErrorResponse.class,
+    HistogramasLatencia.Resumo.class, ConsultasLentas.ConsultaLenta.class
+})
+public class ImagemNativaConfig {
+
+    static class Dicas implements RuntimeHintsRegistrar {
+
+        private static final List<Class<?>> ENTIDADES = List.of(
+            Pauta.class, Sessao.class, Voto.class, AssociadoChave.class, EventoSessao.class, PosicaoFeed.class,
+            PautaR2dbc.class, SessaoR2dbc.class, VotoR2dbc.class);
+
+        private static final List<String> MENSAGENS_GRPC = List.of(
+            "RegistrarVotoRequest", "Voto", "ConfirmacaoVoto", "Erro",
+            "PodeVotarRequest", "PodeVotarResponse", "ObterResultadoRequest", "Resultado");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Hibernate e Spring Data R2DBC instanciam e preenchem as entidades pelos campos
+            ENTIDADES.forEach(entidade -> hints.reflection().registerType(entidade,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+            // O protobuf acha os acessores das mensagens e builders pelo nome (toString, logs de erro)
+            MENSAGENS_GRPC.forEach(mensagem -> {
+                hints.reflection().registerType(TypeReference.of("com.cooperativa.voting.grpc.v1." + mensagem),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+                hints.reflection().registerType(TypeReference.of("com.cooperativa.voting.grpc.v1." + mensagem + "$Builder"),
+                    MemberCategory.INVOKE_PUBLIC_METHODS);
+            });
+
+            // Proxies de medição das estatísticas (cooperativa.estatisticas.enabled=true no build)
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(DataSource.class, AutoCloseable.class));
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(DataSource.class));
+            List.of(DataSource.class, AutoCloseable.class, Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class)
+                .forEach(tipo -> hints.reflection().registerType(tipo, MemberCategory.INVOKE_PUBLIC_METHODS));
+            List.of(Connection.class, Statement.class, PreparedStatement.class, CallableStatement.class)
+                .forEach(tipo -> hints.proxies().registerJdkProxy(tipo));
+
+            // Swagger UI servido de dentro do webjar; o springdoc lê a versão no pom.properties
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+            hints.resources().registerPattern("META-INF/maven/org.webjars/swagger-ui/pom.properties");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.latencia.HistogramasLatencia;
+import com.cooperativa.voting.latencia.LatenciaInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LatenciasConfig implements WebMvcConfigurer {
+
+    // Presente apenas com cooperativa.latencias.enabled=true
+    @Autowired(required = false)
+    private HistogramasLatencia histogramasLatencia;
+
+    // Primeiro da cadeia, para a medição incluir a espera nos interceptores de admissão e compartimentos
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (histogramasLatencia != null) {
+            registry.addInterceptor(new LatenciaInterceptor(histogramasLatencia))
+                    .addPathPatterns("/api/**")
+                    .order(Ordered.HIGHEST_PRECEDENCE);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.rastreamento.ArquivoSpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+
+// Exportação dos spans para arquivo local. O Spring Boot liga todo SpanExporter do contexto ao
+// SDK do OpenTelemetry (BatchSpanProcessor); nos testes entra um exportador em memória.
+@Configuration
+public class RastreamentoConfig {
+
+    // Quem fecha o exportador é o SdkTracerProvider, depois de esvaziar o lote pendente
+    @Bean(destroyMethod = "")
+    @ConditionalOnExpression("!'${cooperativa.rastreamento.arquivo:}'.isBlank()")
+    public ArquivoSpanExporter arquivoSpanExporter(ObjectMapper objectMapper, Environment environment) {
+        return new ArquivoSpanExporter(objectMapper, Path.of(environment.getRequiredProperty("cooperativa.rastreamento.arquivo")));
+    }
+}
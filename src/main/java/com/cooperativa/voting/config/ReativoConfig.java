@@ -0,0 +1,53 @@
+package com.cooperativa.voting.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+// Stack reativa opcional (WebFlux + R2DBC) sobre as mesmas tabelas mantidas pelo JPA.
+// A auto-configuração de R2DBC do Spring Boot fica desligada na aplicação para não
+// registrar um segundo TransactionManager ao lado do JPA.
+@Configuration
+@ConditionalOnProperty(prefix = "cooperativa.reativo", name = "enabled", havingValue = "true")
+@EnableR2dbcRepositories(basePackages = "com.cooperativa.voting.reactive.repository")
+public class ReativoConfig extends AbstractR2dbcConfiguration {
+
+    @Value("${spring.r2dbc.url}")
+    private String url;
+
+    @Value("${spring.r2dbc.username:}")
+    private String username;
+
+    @Value("${spring.r2dbc.password:}")
+    private String password;
+
+    private ConnectionFactory connectionFactory;
+
+    // Não é exposto como @Bean: o DataSourceAutoConfiguration deixa de criar o DataSource
+    // do JPA quando existe um ConnectionFactory no contexto
+    @Override
+    public synchronized ConnectionFactory connectionFactory() {
+        if (connectionFactory == null) {
+            connectionFactory = criarConnectionFactory();
+        }
+        return connectionFactory;
+    }
+
+    private ConnectionFactory criarConnectionFactory() {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+
+        return ConnectionFactories.get(options.build());
+    }
+}
@@ -1,7 +1,11 @@
 package com.cooperativa.voting.controller;
 
+import com.cooperativa.voting.compartimento.Compartimentado;
+import com.cooperativa.voting.compartimento.Compartimento;
 import com.cooperativa.voting.dto.request.PautaRequest;
+import com.cooperativa.voting.dto.response.ParticipacaoResponse;
 import com.cooperativa.voting.dto.response.PautaResponse;
+import com.cooperativa.voting.service.ParticipacaoService;
 import com.cooperativa.voting.service.PautaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +16,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +26,7 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/pautas")
 @Tag(name = "Pautas", description = "Gerenciamento de pautas para votação")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PautaController {
     
     private static final Logger logger = LoggerFactory.getLogger(PautaController.class);
@@ -28,6 +34,9 @@ public class PautaController {
     @Autowired
     private PautaService pautaService;
     
+    @Autowired
+    private ParticipacaoService participacaoService;
+    
     @PostMapping
     @Operation(summary = "Criar nova pauta", description = "Cria uma nova pauta para votação")
     @ApiResponses(value = {
@@ -48,6 +57,7 @@ public class PautaController {
     @GetMapping
     @Operation(summary = "Listar todas as pautas", description = "Retorna todas as pautas ordenadas por data de criação")
     @ApiResponse(responseCode = "200", description = "Lista de pautas retornada com sucesso")
+    @Compartimentado(Compartimento.RELATORIO)
     public ResponseEntity<List<PautaResponse>> listarPautas() {
         
         logger.debug("Recebida requisição para listar pautas");
@@ -57,6 +67,25 @@ public class PautaController {
         return ResponseEntity.ok(pautas);
     }
     
+    @GetMapping("/participacao")
+    @Operation(summary = "Participação entre pautas", 
+               description = "Retorna quantos associados votaram em cada pauta, em alguma delas e em todas elas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Participação calculada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Nenhuma pauta informada"),
+        @ApiResponse(responseCode = "404", description = "Pauta não encontrada")
+    })
+    @Compartimentado(Compartimento.RELATORIO)
+    public ResponseEntity<ParticipacaoResponse> calcularParticipacao(
+            @Parameter(description = "IDs das pautas") @RequestParam("ids") List<Long> ids) {
+        
+        logger.debug("Recebida requisição de participação para pautas: {}", ids);
+        
+        ParticipacaoResponse participacao = participacaoService.calcularParticipacao(ids);
+        
+        return ResponseEntity.ok(participacao);
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Buscar pauta por ID", description = "Retorna uma pauta específica pelo ID")
     @ApiResponses(value = {
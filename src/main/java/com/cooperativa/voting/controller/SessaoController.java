@@ -1,27 +1,43 @@
 package com.cooperativa.voting.controller;
 
+import com.cooperativa.voting.cache.RespostasImutaveisCache;
+import com.cooperativa.voting.compartimento.Compartimentado;
+import com.cooperativa.voting.compartimento.Compartimento;
 import com.cooperativa.voting.dto.request.SessaoRequest;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.EventoSessaoResponse;
 import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.SessaoAbertaResponse;
 import com.cooperativa.voting.dto.response.SessaoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.service.AcompanhamentoResultadoService;
+import com.cooperativa.voting.service.AlteracoesService;
 import com.cooperativa.voting.service.SessaoService;
+import com.cooperativa.voting.service.SessoesAbertasService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/sessoes")
 @Tag(name = "Sessões", description = "Gerenciamento de sessões de votação")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SessaoController {
     
     private static final Logger logger = LoggerFactory.getLogger(SessaoController.class);
@@ -29,6 +45,19 @@ public class SessaoController {
     @Autowired
     private SessaoService sessaoService;
     
+    @Autowired
+    private AlteracoesService alteracoesService;
+    
+    @Autowired
+    private AcompanhamentoResultadoService acompanhamentoResultadoService;
+    
+    @Autowired
+    private SessoesAbertasService sessoesAbertasService;
+    
+    // Presente apenas com cooperativa.respostas-imutaveis.enabled=true
+    @Autowired(required = false)
+    private RespostasImutaveisCache respostasImutaveisCache;
+    
     @PostMapping("/pauta/{pautaId}")
     @Operation(summary = "Abrir sessão de votação", description = "Abre uma nova sessão de votação para uma pauta")
     @ApiResponses(value = {
@@ -64,6 +93,64 @@ public class SessaoController {
         return ResponseEntity.ok(sessoes);
     }
     
+    @GetMapping("/changes")
+    @Operation(summary = "Feed de alterações de sessões", 
+               description = "Retorna, em ordem, as aberturas e encerramentos de sessões após o cursor informado. Sem novidades, aguarda até waitMs")
+    @ApiResponse(responseCode = "200", description = "Página de eventos retornada com sucesso (vazia se a espera esgotar)")
+    @Compartimentado(Compartimento.RELATORIO)
+    public DeferredResult<AlteracoesResponse<EventoSessaoResponse>> listarAlteracoes(
+            @Parameter(description = "Cursor retornado pela página anterior (0 para o início)") @RequestParam(defaultValue = "0") Long after,
+            @Parameter(description = "Quantidade máxima de eventos na página") @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Tempo máximo de espera por eventos novos, em milissegundos") @RequestParam(defaultValue = "0") long waitMs) {
+        
+        logger.debug("Recebida requisição para o feed de sessões após {}", after);
+        
+        return alteracoesService.listarAlteracoesSessoes(after, limit, waitMs);
+    }
+    
+    @GetMapping("/abertas")
+    @Operation(summary = "Listar sessões abertas", 
+               description = "Retorna as sessões abertas com título da pauta, tempo restante e votos SIM/NÃO, a partir do índice em memória")
+    @ApiResponse(responseCode = "200", description = "Lista de sessões abertas retornada com sucesso")
+    public ResponseEntity<List<SessaoAbertaResponse>> listarSessoesAbertas() {
+        
+        logger.debug("Recebida requisição para listar sessões abertas");
+        
+        return ResponseEntity.ok(sessoesAbertasService.listarSessoesAbertas());
+    }
+    
+    @GetMapping(value = "/resultados", params = "ids")
+    @Operation(summary = "Obter resultados de várias sessões",
+               description = "Retorna os resultados das sessões informadas, na mesma ordem. IDs inexistentes são ignorados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados obtidos com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do limite")
+    })
+    @Compartimentado(Compartimento.RELATORIO)
+    public ResponseEntity<List<ResultadoVotacaoResponse>> obterResultadosVotacao(
+            @Parameter(description = "IDs das sessões, separados por vírgula") @RequestParam List<Long> ids) {
+
+        logger.debug("Recebida requisição para obter resultados das sessões: {}", ids);
+
+        return ResponseEntity.ok(sessaoService.obterResultadosVotacao(ids));
+    }
+
+    @GetMapping(value = "/resultados", params = "pautaIds")
+    @Operation(summary = "Obter resultados das sessões de várias pautas",
+               description = "Retorna os resultados de todas as sessões das pautas informadas, na ordem das pautas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultados obtidos com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do limite")
+    })
+    @Compartimentado(Compartimento.RELATORIO)
+    public ResponseEntity<List<ResultadoVotacaoResponse>> obterResultadosVotacaoPorPautas(
+            @Parameter(description = "IDs das pautas, separados por vírgula") @RequestParam List<Long> pautaIds) {
+
+        logger.debug("Recebida requisição para obter resultados das pautas: {}", pautaIds);
+
+        return ResponseEntity.ok(sessaoService.obterResultadosVotacaoPorPautas(pautaIds));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar sessão por ID", description = "Retorna uma sessão específica pelo ID")
     @ApiResponses(value = {
@@ -71,13 +158,18 @@ public class SessaoController {
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
     })
     public ResponseEntity<SessaoResponse> buscarSessaoPorId(
-            @Parameter(description = "ID da sessão") @PathVariable Long id) {
+            @Parameter(description = "ID da sessão") @PathVariable Long id,
+            HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
         
         logger.debug("Recebida requisição para buscar sessão ID: {}", id);
         
-        SessaoResponse sessao = sessaoService.buscarSessaoPorId(id);
+        SessaoResponse sessao = respostasImutaveisCache != null
+                ? respostasImutaveisCache.servir(id, "sessao", () -> sessaoService.buscarSessaoPorId(id),
+                    resposta -> resposta.getStatus() == StatusSessao.ENCERRADA, httpRequest, httpResponse)
+                : sessaoService.buscarSessaoPorId(id);
         
-        return ResponseEntity.ok(sessao);
+        // Já escrita a partir do cache
+        return sessao != null ? ResponseEntity.ok(sessao) : null;
     }
     
     @GetMapping("/{id}/resultado")
@@ -87,13 +179,36 @@ public class SessaoController {
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
     })
     public ResponseEntity<ResultadoVotacaoResponse> obterResultadoVotacao(
-            @Parameter(description = "ID da sessão") @PathVariable Long id) {
+            @Parameter(description = "ID da sessão") @PathVariable Long id,
+            HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
         
         logger.debug("Recebida requisição para obter resultado da sessão ID: {}", id);
         
-        ResultadoVotacaoResponse resultado = sessaoService.obterResultadoVotacao(id);
+        ResultadoVotacaoResponse resultado = respostasImutaveisCache != null
+                ? respostasImutaveisCache.servir(id, "resultado", () -> sessaoService.obterResultadoVotacao(id),
+                    resposta -> resposta.getStatusSessao() == StatusSessao.ENCERRADA, httpRequest, httpResponse)
+                : sessaoService.obterResultadoVotacao(id);
+        
+        // Já escrito a partir do cache
+        return resultado != null ? ResponseEntity.ok(resultado) : null;
+    }
+    
+    @GetMapping(value = "/{id}/resultado", params = "sinceVersion")
+    @Operation(summary = "Aguardar mudança no resultado", 
+               description = "Retorna o resultado assim que a versão da sessão passar de sinceVersion, aguardando até waitMs. Sem mudança, retorna 304")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resultado com versão maior que a informada"),
+        @ApiResponse(responseCode = "304", description = "Nenhuma mudança durante a espera"),
+        @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
+    })
+    public DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> aguardarResultadoVotacao(
+            @Parameter(description = "ID da sessão") @PathVariable Long id,
+            @Parameter(description = "Última versão do resultado conhecida pelo cliente") @RequestParam long sinceVersion,
+            @Parameter(description = "Tempo máximo de espera, em milissegundos") @RequestParam(defaultValue = "0") long waitMs) {
+        
+        logger.debug("Recebida requisição para aguardar resultado da sessão ID: {} após a versão {}", id, sinceVersion);
         
-        return ResponseEntity.ok(resultado);
+        return acompanhamentoResultadoService.aguardarResultado(id, sinceVersion, waitMs);
     }
     
     @PutMapping("/{id}/encerrar")
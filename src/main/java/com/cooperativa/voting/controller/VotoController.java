@@ -1,27 +1,42 @@
 package com.cooperativa.voting.controller;
 
+import com.cooperativa.voting.admissao.AdmissaoControlada;
+import com.cooperativa.voting.cache.RespostasImutaveisCache;
+import com.cooperativa.voting.compartimento.Compartimentado;
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.dto.request.PodeVotarLoteRequest;
 import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.PodeVotarLoteResponse;
 import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.ingestao.ProcessadorVotos;
+import com.cooperativa.voting.service.AlteracoesService;
 import com.cooperativa.voting.service.VotoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
 @RestController
 @RequestMapping("/api/votos")
 @Tag(name = "Votos", description = "Gerenciamento de votos em sessões de votação")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class VotoController {
     
     private static final Logger logger = LoggerFactory.getLogger(VotoController.class);
@@ -29,6 +44,17 @@ public class VotoController {
     @Autowired
     private VotoService votoService;
     
+    @Autowired
+    private AlteracoesService alteracoesService;
+    
+    // Presente apenas com cooperativa.ingestao.enabled=true
+    @Autowired(required = false)
+    private ProcessadorVotos processadorVotos;
+    
+    // Presente apenas com cooperativa.respostas-imutaveis.enabled=true
+    @Autowired(required = false)
+    private RespostasImutaveisCache respostasImutaveisCache;
+    
     @PostMapping("/sessao/{sessaoId}")
     @Operation(summary = "Registrar voto", description = "Registra um voto de um associado em uma sessão de votação")
     @ApiResponses(value = {
@@ -36,16 +62,21 @@ public class VotoController {
         @ApiResponse(responseCode = "400", description = "Dados inválidos ou associado já votou"),
         @ApiResponse(responseCode = "403", description = "Sessão de votação encerrada"),
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada"),
-        @ApiResponse(responseCode = "409", description = "Associado já votou nesta pauta")
+        @ApiResponse(responseCode = "409", description = "Associado já votou nesta pauta"),
+        @ApiResponse(responseCode = "503", description = "Serviço sobrecarregado, tente novamente")
     })
+    @AdmissaoControlada
+    @Compartimentado(Compartimento.VOTACAO)
     public ResponseEntity<VotoResponse> registrarVoto(
             @Parameter(description = "ID da sessão de votação") @PathVariable Long sessaoId,
             @Valid @RequestBody VotoRequest request) {
         
-        logger.info("Recebida requisição para registrar voto - Sessão: {}, Associado: {}, Voto: {}", 
+        logger.debug("Recebida requisição para registrar voto - Sessão: {}, Associado: {}, Voto: {}", 
                    sessaoId, request.getAssociadoId(), request.getVoto());
         
-        VotoResponse response = votoService.registrarVoto(sessaoId, request);
+        VotoResponse response = processadorVotos != null
+                ? processadorVotos.registrarVoto(sessaoId, request)
+                : votoService.registrarVoto(sessaoId, request);
         
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
@@ -56,14 +87,22 @@ public class VotoController {
         @ApiResponse(responseCode = "200", description = "Lista de votos retornada com sucesso"),
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
     })
+    @Compartimentado(Compartimento.RELATORIO)
     public ResponseEntity<List<VotoResponse>> listarVotosPorSessao(
-            @Parameter(description = "ID da sessão") @PathVariable Long sessaoId) {
+            @Parameter(description = "ID da sessão") @PathVariable Long sessaoId,
+            HttpServletRequest httpRequest, HttpServletResponse httpResponse) throws IOException {
         
         logger.debug("Recebida requisição para listar votos da sessão ID: {}", sessaoId);
         
-        List<VotoResponse> votos = votoService.listarVotosPorSessao(sessaoId);
+        List<VotoResponse> votos = respostasImutaveisCache != null
+                ? respostasImutaveisCache.servir(sessaoId, "votos",
+                    () -> votoService.listarVotosPorSessao(sessaoId),
+                    lista -> votoService.isSessaoEncerrada(sessaoId),
+                    httpRequest, httpResponse)
+                : votoService.listarVotosPorSessao(sessaoId);
         
-        return ResponseEntity.ok(votos);
+        // Já escrita a partir do cache
+        return votos != null ? ResponseEntity.ok(votos) : null;
     }
     
     @GetMapping("/associado/{associadoId}")
@@ -79,6 +118,21 @@ public class VotoController {
         return ResponseEntity.ok(votos);
     }
     
+    @GetMapping("/changes")
+    @Operation(summary = "Feed de alterações de votos", 
+               description = "Retorna, em ordem de id, os votos registrados após o cursor informado. Sem votos novos, aguarda até waitMs")
+    @ApiResponse(responseCode = "200", description = "Página de votos retornada com sucesso (vazia se a espera esgotar)")
+    @Compartimentado(Compartimento.RELATORIO)
+    public DeferredResult<AlteracoesResponse<VotoResponse>> listarAlteracoes(
+            @Parameter(description = "Cursor retornado pela página anterior (0 para o início)") @RequestParam(defaultValue = "0") Long after,
+            @Parameter(description = "Quantidade máxima de votos na página") @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Tempo máximo de espera por votos novos, em milissegundos") @RequestParam(defaultValue = "0") long waitMs) {
+        
+        logger.debug("Recebida requisição para o feed de votos após {}", after);
+        
+        return alteracoesService.listarAlteracoesVotos(after, limit, waitMs);
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Buscar voto por ID", description = "Retorna um voto específico pelo ID")
     @ApiResponses(value = {
@@ -101,6 +155,7 @@ public class VotoController {
         @ApiResponse(responseCode = "200", description = "Verificação realizada com sucesso"),
         @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
     })
+    @Compartimentado(Compartimento.VOTACAO)
     public ResponseEntity<Map<String, Boolean>> verificarSePodeVotar(
             @Parameter(description = "ID da sessão") @PathVariable Long sessaoId,
             @Parameter(description = "ID do associado") @PathVariable String associadoId) {
@@ -112,4 +167,23 @@ public class VotoController {
         
         return ResponseEntity.ok(Map.of("podeVotar", podeVotar));
     }
+    
+    @PostMapping("/sessao/{sessaoId}/pode-votar")
+    @Operation(summary = "Verificar quem pode votar", 
+               description = "Recebe a lista de associados de um terminal e retorna, na mesma ordem, os que ainda podem votar na sessão")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Verificação realizada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite"),
+        @ApiResponse(responseCode = "404", description = "Sessão não encontrada")
+    })
+    @Compartimentado(Compartimento.VOTACAO)
+    public ResponseEntity<PodeVotarLoteResponse> verificarQuemPodeVotar(
+            @Parameter(description = "ID da sessão") @PathVariable Long sessaoId,
+            @Valid @RequestBody PodeVotarLoteRequest request) {
+        
+        logger.debug("Recebida requisição para verificar {} associados na sessão {}", 
+                    request.getAssociadoIds().size(), sessaoId);
+        
+        return ResponseEntity.ok(votoService.verificarQuemPodeVotar(sessaoId, request.getAssociadoIds()));
+    }
 }
\ No newline at end of file
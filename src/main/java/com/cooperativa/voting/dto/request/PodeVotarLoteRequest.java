@@ -0,0 +1,20 @@
+package com.cooperativa.voting.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public class PodeVotarLoteRequest {
+    
+    @NotEmpty(message = "Informe ao menos um associado")
+    private List<String> associadoIds;
+    
+    public PodeVotarLoteRequest() {}
+    
+    public PodeVotarLoteRequest(List<String> associadoIds) {
+        this.associadoIds = associadoIds;
+    }
+    
+    public List<String> getAssociadoIds() { return associadoIds; }
+    public void setAssociadoIds(List<String> associadoIds) { this.associadoIds = associadoIds; }
+}
@@ -0,0 +1,29 @@
+package com.cooperativa.voting.dto.response;
+
+import java.util.List;
+
+// Página de um feed de alterações: "cursor" é o valor a enviar em "after" na próxima chamada
+public class AlteracoesResponse<T> {
+    
+    private List<T> itens;
+    private Long cursor;
+    private boolean temMais;
+    
+    public AlteracoesResponse() {}
+    
+    public AlteracoesResponse(List<T> itens, Long cursor, boolean temMais) {
+        this.itens = itens;
+        this.cursor = cursor;
+        this.temMais = temMais;
+    }
+    
+    // Getters and Setters
+    public List<T> getItens() { return itens; }
+    public void setItens(List<T> itens) { this.itens = itens; }
+    
+    public Long getCursor() { return cursor; }
+    public void setCursor(Long cursor) { this.cursor = cursor; }
+    
+    public boolean isTemMais() { return temMais; }
+    public void setTemMais(boolean temMais) { this.temMais = temMais; }
+}
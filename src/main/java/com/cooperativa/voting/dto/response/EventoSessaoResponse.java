@@ -0,0 +1,40 @@
+package com.cooperativa.voting.dto.response;
+
+import com.cooperativa.voting.enums.StatusSessao;
+import java.time.LocalDateTime;
+
+public class EventoSessaoResponse {
+    
+    private Long id;
+    private Long sessaoId;
+    private Long pautaId;
+    private StatusSessao status;
+    private LocalDateTime ocorridoEm;
+    
+    public EventoSessaoResponse() {}
+    
+    public EventoSessaoResponse(Long id, Long sessaoId, Long pautaId,
+                               StatusSessao status, LocalDateTime ocorridoEm) {
+        this.id = id;
+        this.sessaoId = sessaoId;
+        this.pautaId = pautaId;
+        this.status = status;
+        this.ocorridoEm = ocorridoEm;
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getSessaoId() { return sessaoId; }
+    public void setSessaoId(Long sessaoId) { this.sessaoId = sessaoId; }
+    
+    public Long getPautaId() { return pautaId; }
+    public void setPautaId(Long pautaId) { this.pautaId = pautaId; }
+    
+    public StatusSessao getStatus() { return status; }
+    public void setStatus(StatusSessao status) { this.status = status; }
+    
+    public LocalDateTime getOcorridoEm() { return ocorridoEm; }
+    public void setOcorridoEm(LocalDateTime ocorridoEm) { this.ocorridoEm = ocorridoEm; }
+}
@@ -0,0 +1,35 @@
+package com.cooperativa.voting.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public class ParticipacaoResponse {
+
+    private List<Long> pautaIds;
+    private Map<Long, Long> votantesPorPauta;
+    private long associadosDistintos;
+    private long associadosEmTodasAsPautas;
+
+    public ParticipacaoResponse() {}
+
+    public ParticipacaoResponse(List<Long> pautaIds, Map<Long, Long> votantesPorPauta,
+                               long associadosDistintos, long associadosEmTodasAsPautas) {
+        this.pautaIds = pautaIds;
+        this.votantesPorPauta = votantesPorPauta;
+        this.associadosDistintos = associadosDistintos;
+        this.associadosEmTodasAsPautas = associadosEmTodasAsPautas;
+    }
+
+    // Getters and Setters
+    public List<Long> getPautaIds() { return pautaIds; }
+    public void setPautaIds(List<Long> pautaIds) { this.pautaIds = pautaIds; }
+
+    public Map<Long, Long> getVotantesPorPauta() { return votantesPorPauta; }
+    public void setVotantesPorPauta(Map<Long, Long> votantesPorPauta) { this.votantesPorPauta = votantesPorPauta; }
+
+    public long getAssociadosDistintos() { return associadosDistintos; }
+    public void setAssociadosDistintos(long associadosDistintos) { this.associadosDistintos = associadosDistintos; }
+
+    public long getAssociadosEmTodasAsPautas() { return associadosEmTodasAsPautas; }
+    public void setAssociadosEmTodasAsPautas(long associadosEmTodasAsPautas) { this.associadosEmTodasAsPautas = associadosEmTodasAsPautas; }
+}
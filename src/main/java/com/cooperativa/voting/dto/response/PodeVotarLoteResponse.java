@@ -0,0 +1,28 @@
+package com.cooperativa.voting.dto.response;
+
+import java.util.List;
+
+public class PodeVotarLoteResponse {
+    
+    private Long sessaoId;
+    private boolean votacaoAberta;
+    private List<String> podemVotar;
+    
+    public PodeVotarLoteResponse() {}
+    
+    public PodeVotarLoteResponse(Long sessaoId, boolean votacaoAberta, List<String> podemVotar) {
+        this.sessaoId = sessaoId;
+        this.votacaoAberta = votacaoAberta;
+        this.podemVotar = podemVotar;
+    }
+    
+    // Getters and Setters
+    public Long getSessaoId() { return sessaoId; }
+    public void setSessaoId(Long sessaoId) { this.sessaoId = sessaoId; }
+    
+    public boolean isVotacaoAberta() { return votacaoAberta; }
+    public void setVotacaoAberta(boolean votacaoAberta) { this.votacaoAberta = votacaoAberta; }
+    
+    public List<String> getPodemVotar() { return podemVotar; }
+    public void setPodemVotar(List<String> podemVotar) { this.podemVotar = podemVotar; }
+}
@@ -18,6 +18,7 @@ public class ResultadoVotacaoResponse {
     private int votosNao;
     private Double percentualSim;
     private Double percentualNao;
+    private long versao;
     
     public ResultadoVotacaoResponse() {}
     
@@ -36,6 +37,8 @@ public class ResultadoVotacaoResponse {
         this.votosSim = votosSim;
         this.votosNao = votosNao;
         this.totalVotos = votosSim + votosNao;
+        // Cresce a cada voto e uma última vez quando a votação fecha
+        this.versao = totalVotos + (votacaoAberta ? 0 : 1);
         
         if (totalVotos > 0) {
             this.percentualSim = (double) votosSim / totalVotos * 100;
@@ -84,4 +87,7 @@ public class ResultadoVotacaoResponse {
     
     public Double getPercentualNao() { return percentualNao; }
     public void setPercentualNao(Double percentualNao) { this.percentualNao = percentualNao; }
+    
+    public long getVersao() { return versao; }
+    public void setVersao(long versao) { this.versao = versao; }
 }
@@ -0,0 +1,59 @@
+package com.cooperativa.voting.dto.response;
+
+import java.time.LocalDateTime;
+
+public class SessaoAbertaResponse {
+    
+    private Long sessaoId;
+    private Long pautaId;
+    private String pautaTitulo;
+    private LocalDateTime inicioEm;
+    private LocalDateTime fimEm;
+    private long segundosRestantes;
+    private int votosSim;
+    private int votosNao;
+    private int totalVotos;
+    
+    public SessaoAbertaResponse() {}
+    
+    public SessaoAbertaResponse(Long sessaoId, Long pautaId, String pautaTitulo, LocalDateTime inicioEm,
+                               LocalDateTime fimEm, long segundosRestantes, int votosSim, int votosNao) {
+        this.sessaoId = sessaoId;
+        this.pautaId = pautaId;
+        this.pautaTitulo = pautaTitulo;
+        this.inicioEm = inicioEm;
+        this.fimEm = fimEm;
+        this.segundosRestantes = segundosRestantes;
+        this.votosSim = votosSim;
+        this.votosNao = votosNao;
+        this.totalVotos = votosSim + votosNao;
+    }
+    
+    // Getters and Setters
+    public Long getSessaoId() { return sessaoId; }
+    public void setSessaoId(Long sessaoId) { this.sessaoId = sessaoId; }
+    
+    public Long getPautaId() { return pautaId; }
+    public void setPautaId(Long pautaId) { this.pautaId = pautaId; }
+    
+    public String getPautaTitulo() { return pautaTitulo; }
+    public void setPautaTitulo(String pautaTitulo) { this.pautaTitulo = pautaTitulo; }
+    
+    public LocalDateTime getInicioEm() { return inicioEm; }
+    public void setInicioEm(LocalDateTime inicioEm) { this.inicioEm = inicioEm; }
+    
+    public LocalDateTime getFimEm() { return fimEm; }
+    public void setFimEm(LocalDateTime fimEm) { this.fimEm = fimEm; }
+    
+    public long getSegundosRestantes() { return segundosRestantes; }
+    public void setSegundosRestantes(long segundosRestantes) { this.segundosRestantes = segundosRestantes; }
+    
+    public int getVotosSim() { return votosSim; }
+    public void setVotosSim(int votosSim) { this.votosSim = votosSim; }
+    
+    public int getVotosNao() { return votosNao; }
+    public void setVotosNao(int votosNao) { this.votosNao = votosNao; }
+    
+    public int getTotalVotos() { return totalVotos; }
+    public void setTotalVotos(int totalVotos) { this.totalVotos = totalVotos; }
+}
@@ -0,0 +1,145 @@
+package com.cooperativa.voting.estatisticas;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// As N execuções de SQL mais lentas desde o último reset, com os parâmetros. A maioria dos
+// statements é mais rápida que o piso (limite mínimo ou a mais rápida das N guardadas) e sai
+// sem lock, só com a leitura de um volatile.
+//
+// Parâmetros de texto (associadoId é um CPF) nunca são guardados: viram um HMAC curto com uma
+// chave aleatória da instância. Valores iguais continuam com a mesma máscara, para comparar
+// execuções, mas o CPF não pode ser recuperado nem por força bruta fora do processo.
+public class ConsultasLentas {
+
+    private static final int TAMANHO_MAXIMO_PARAMETRO = 100;
+    private static final int BYTES_MASCARA = 6;
+    private static final String ALGORITMO_MASCARA = "HmacSHA256";
+
+    private final int capacidade;
+    private final long limiteNanos;
+    private final PriorityQueue<ConsultaLenta> guardadas =
+        new PriorityQueue<>(Comparator.comparingLong(ConsultaLenta::getDuracaoNanos));
+    private final SecretKeySpec chaveMascara;
+    private volatile long piso;
+
+    public ConsultasLentas(int capacidade, long limite, TimeUnit unidade) {
+        this.capacidade = capacidade;
+        this.limiteNanos = unidade.toNanos(limite);
+        this.piso = limiteNanos;
+
+        byte[] chave = new byte[32];
+        new SecureRandom().nextBytes(chave);
+        this.chaveMascara = new SecretKeySpec(chave, ALGORITMO_MASCARA);
+    }
+
+    // Só os primeiros "quantidade" parâmetros valem; o array é reaproveitado pelo statement
+    public void registrar(String sql, Object[] parametros, int quantidade, long duracaoNanos) {
+        if (duracaoNanos < piso) {
+            return;
+        }
+        ConsultaLenta consulta = new ConsultaLenta(sql, formatar(parametros, quantidade), duracaoNanos, Instant.now());
+        synchronized (this) {
+            if (guardadas.size() == capacidade) {
+                if (duracaoNanos <= guardadas.peek().getDuracaoNanos()) {
+                    return;
+                }
+                guardadas.poll();
+            }
+            guardadas.add(consulta);
+            if (guardadas.size() == capacidade) {
+                piso = Math.max(limiteNanos, guardadas.peek().getDuracaoNanos());
+            }
+        }
+    }
+
+    // Da mais lenta para a mais rápida
+    public synchronized List<ConsultaLenta> listar() {
+        List<ConsultaLenta> lista = new ArrayList<>(guardadas);
+        lista.sort(Comparator.comparingLong(ConsultaLenta::getDuracaoNanos).reversed());
+        return lista;
+    }
+
+    public synchronized void limpar() {
+        guardadas.clear();
+        piso = limiteNanos;
+    }
+
+    private List<String> formatar(Object[] parametros, int quantidade) {
+        List<String> formatados = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            String texto = formatar(parametros[i]);
+            formatados.add(texto.length() > TAMANHO_MAXIMO_PARAMETRO
+                ? texto.substring(0, TAMANHO_MAXIMO_PARAMETRO) + "..." : texto);
+        }
+        return formatados;
+    }
+
+    private String formatar(Object parametro) {
+        if (parametro instanceof CharSequence texto) {
+            return mascarar(texto.toString());
+        }
+        if (parametro instanceof Object[] array) {
+            return Arrays.stream(array).map(this::formatar).collect(Collectors.joining(", ", "[", "]"));
+        }
+        return String.valueOf(parametro);
+    }
+
+    String mascarar(String texto) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO_MASCARA);
+            mac.init(chaveMascara);
+            byte[] resumo = mac.doFinal(texto.getBytes(StandardCharsets.UTF_8));
+            return "#" + HexFormat.of().formatHex(resumo, 0, BYTES_MASCARA);
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC indisponível para mascarar parâmetros", ex);
+        }
+    }
+
+    public static class ConsultaLenta {
+
+        private final String sql;
+        private final List<String> parametros;
+        private final long duracaoNanos;
+        private final Instant executadaEm;
+
+        ConsultaLenta(String sql, List<String> parametros, long duracaoNanos, Instant executadaEm) {
+            this.sql = sql;
+            this.parametros = parametros;
+            this.duracaoNanos = duracaoNanos;
+            this.executadaEm = executadaEm;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<String> getParametros() {
+            return parametros;
+        }
+
+        public double getDuracaoMs() {
+            return duracaoNanos / 1_000_000.0;
+        }
+
+        public Instant getExecutadaEm() {
+            return executadaEm;
+        }
+
+        long getDuracaoNanos() {
+            return duracaoNanos;
+        }
+    }
+}
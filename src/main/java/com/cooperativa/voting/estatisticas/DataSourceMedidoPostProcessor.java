@@ -0,0 +1,46 @@
+package com.cooperativa.voting.estatisticas;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.NativeDetector;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+// Envolve o DataSource da aplicação para medir cada statement. O proxy é de classe (CGLIB), então o
+// bean continua sendo um CompartimentosDataSource ou HikariDataSource para quem o injeta pelo tipo.
+// Na imagem nativa não há geração de classes em tempo de execução: o proxy é só das interfaces.
+public class DataSourceMedidoPostProcessor implements BeanPostProcessor {
+
+    // Resolvido só no primeiro getConnection: o post-processor é criado antes dos demais beans
+    private final ObjectProvider<ConsultasLentas> consultasLentas;
+
+    public DataSourceMedidoPostProcessor(ObjectProvider<ConsultasLentas> consultasLentas) {
+        this.consultasLentas = consultasLentas;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource)) {
+            return bean;
+        }
+        ProxyFactory fabrica = new ProxyFactory();
+        fabrica.setTarget(bean);
+        if (!NativeDetector.inNativeImage()) {
+            fabrica.setProxyTargetClass(true);
+        } else if (bean instanceof AutoCloseable) {
+            fabrica.setInterfaces(DataSource.class, AutoCloseable.class);
+        } else {
+            fabrica.setInterfaces(DataSource.class);
+        }
+        fabrica.addAdvice((MethodInterceptor) invocacao -> {
+            Object resultado = invocacao.proceed();
+            return resultado instanceof Connection conexao && invocacao.getMethod().getName().equals("getConnection")
+                    ? JdbcMedido.conexao(conexao, consultasLentas.getObject())
+                    : resultado;
+        });
+        return fabrica.getProxy();
+    }
+}
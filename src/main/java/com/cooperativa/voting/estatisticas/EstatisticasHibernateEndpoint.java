@@ -0,0 +1,115 @@
+package com.cooperativa.voting.estatisticas;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.EntityStatistics;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// GET /actuator/hibernate: estatísticas do Hibernate (por consulta, por entidade, cache de segundo
+// nível) e os statements mais lentos com parâmetros. DELETE /actuator/hibernate zera tudo, para
+// comparar rodadas de carga antes e depois de uma mudança de índice ou de fetch.
+@Component
+@Endpoint(id = "hibernate")
+@ConditionalOnProperty(prefix = "cooperativa.estatisticas", name = "enabled", havingValue = "true")
+public class EstatisticasHibernateEndpoint {
+
+    private final Statistics statistics;
+    private final ConsultasLentas consultasLentas;
+
+    public EstatisticasHibernateEndpoint(EntityManagerFactory entityManagerFactory, ConsultasLentas consultasLentas) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.consultasLentas = consultasLentas;
+    }
+
+    @ReadOperation
+    public Map<String, Object> estatisticas() {
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("desde", statistics.getStartTime());
+        resposta.put("geral", geral());
+        resposta.put("consultas", consultas());
+        resposta.put("entidades", entidades());
+        resposta.put("cacheSegundoNivel", cacheSegundoNivel());
+        resposta.put("consultasLentas", consultasLentas.listar());
+        return resposta;
+    }
+
+    @DeleteOperation
+    public void resetar() {
+        statistics.clear();
+        consultasLentas.limpar();
+    }
+
+    private Map<String, Object> geral() {
+        Map<String, Object> geral = new LinkedHashMap<>();
+        geral.put("sessoesAbertas", statistics.getSessionOpenCount());
+        geral.put("transacoes", statistics.getTransactionCount());
+        geral.put("statementsPreparados", statistics.getPrepareStatementCount());
+        geral.put("flushes", statistics.getFlushCount());
+        geral.put("consultasExecutadas", statistics.getQueryExecutionCount());
+        geral.put("consultaMaisLentaMs", statistics.getQueryExecutionMaxTime());
+        geral.put("consultaMaisLenta", statistics.getQueryExecutionMaxTimeQueryString());
+        return geral;
+    }
+
+    // Da consulta com mais tempo total para a com menos
+    private Map<String, Object> consultas() {
+        Map<String, Object> consultas = new LinkedHashMap<>();
+        Arrays.stream(statistics.getQueries())
+                .sorted(Comparator.comparingLong((String consulta) -> statistics.getQueryStatistics(consulta).getExecutionTotalTime()).reversed())
+                .forEach(consulta -> {
+                    QueryStatistics estatistica = statistics.getQueryStatistics(consulta);
+                    Map<String, Object> valores = new LinkedHashMap<>();
+                    valores.put("execucoes", estatistica.getExecutionCount());
+                    valores.put("tempoMedioMs", estatistica.getExecutionAvgTime());
+                    valores.put("tempoMaximoMs", estatistica.getExecutionMaxTime());
+                    valores.put("tempoMinimoMs", estatistica.getExecutionMinTime());
+                    valores.put("linhas", estatistica.getExecutionRowCount());
+                    consultas.put(consulta, valores);
+                });
+        return consultas;
+    }
+
+    private Map<String, Object> entidades() {
+        Map<String, Object> entidades = new TreeMap<>();
+        for (String entidade : statistics.getEntityNames()) {
+            EntityStatistics estatistica = statistics.getEntityStatistics(entidade);
+            Map<String, Object> valores = new LinkedHashMap<>();
+            valores.put("carregamentos", estatistica.getLoadCount());
+            valores.put("buscas", estatistica.getFetchCount());
+            valores.put("insercoes", estatistica.getInsertCount());
+            valores.put("atualizacoes", estatistica.getUpdateCount());
+            valores.put("exclusoes", estatistica.getDeleteCount());
+            entidades.put(entidade.substring(entidade.lastIndexOf('.') + 1), valores);
+        }
+        return entidades;
+    }
+
+    private Map<String, Object> cacheSegundoNivel() {
+        Map<String, Object> regioes = new TreeMap<>();
+        for (String regiao : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics estatistica = statistics.getDomainDataRegionStatistics(regiao);
+            long acertos = estatistica.getHitCount();
+            long faltas = estatistica.getMissCount();
+            Map<String, Object> valores = new LinkedHashMap<>();
+            valores.put("acertos", acertos);
+            valores.put("faltas", faltas);
+            valores.put("colocacoes", estatistica.getPutCount());
+            valores.put("taxaAcerto", acertos + faltas == 0 ? 0.0 : (double) acertos / (acertos + faltas));
+            regioes.put(regiao, valores);
+        }
+        return regioes;
+    }
+}
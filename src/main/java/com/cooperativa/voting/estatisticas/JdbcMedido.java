@@ -0,0 +1,99 @@
+package com.cooperativa.voting.estatisticas;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Arrays;
+
+// Proxies de Connection e Statement que medem cada execute* e guardam os parâmetros dos
+// set*(índice, valor) para as consultas lentas. O resto é repassado ao driver.
+final class JdbcMedido {
+
+    private JdbcMedido() {
+    }
+
+    static Connection conexao(Connection alvo, ConsultasLentas consultasLentas) {
+        return (Connection) Proxy.newProxyInstance(JdbcMedido.class.getClassLoader(),
+            new Class<?>[] {Connection.class}, new ConexaoMedida(alvo, consultasLentas));
+    }
+
+    private static Object repassar(Object alvo, Method metodo, Object[] args) throws Throwable {
+        try {
+            return metodo.invoke(alvo, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private static final class ConexaoMedida implements InvocationHandler {
+
+        private final Connection alvo;
+        private final ConsultasLentas consultasLentas;
+
+        ConexaoMedida(Connection alvo, ConsultasLentas consultasLentas) {
+            this.alvo = alvo;
+            this.consultasLentas = consultasLentas;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            Object resultado = repassar(alvo, metodo, args);
+            if (resultado instanceof Statement statement) {
+                // prepareStatement/prepareCall trazem o SQL no primeiro argumento; createStatement, no execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                return Proxy.newProxyInstance(JdbcMedido.class.getClassLoader(),
+                    new Class<?>[] {metodo.getReturnType()}, new StatementMedido(statement, sql, consultasLentas));
+            }
+            return resultado;
+        }
+    }
+
+    private static final class StatementMedido implements InvocationHandler {
+
+        private static final Object[] SEM_PARAMETROS = new Object[0];
+
+        private final Statement alvo;
+        private final String sql;
+        private final ConsultasLentas consultasLentas;
+        private Object[] parametros = SEM_PARAMETROS;
+        private int quantidade;
+
+        StatementMedido(Statement alvo, String sql, ConsultasLentas consultasLentas) {
+            this.alvo = alvo;
+            this.sql = sql;
+            this.consultasLentas = consultasLentas;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            String nome = metodo.getName();
+            if (nome.startsWith("execute")) {
+                long inicio = System.nanoTime();
+                try {
+                    return repassar(alvo, metodo, args);
+                } finally {
+                    String executado = sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "?";
+                    consultasLentas.registrar(executado, parametros, quantidade, System.nanoTime() - inicio);
+                }
+            }
+            if (nome.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer indice) {
+                guardar(indice, nome.equals("setNull") ? null : args[1]);
+            } else if (nome.equals("clearParameters")) {
+                Arrays.fill(parametros, null);
+                quantidade = 0;
+            }
+            return repassar(alvo, metodo, args);
+        }
+
+        private void guardar(int indice, Object valor) {
+            if (indice > parametros.length) {
+                parametros = Arrays.copyOf(parametros, Math.max(indice, parametros.length * 2));
+            }
+            parametros[indice - 1] = valor;
+            quantidade = Math.max(quantidade, indice);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.cooperativa.voting.event;
+
+// Publicado quando uma pauta é atualizada ou removida
+public class PautaAlteradaEvent {
+    
+    private final Long pautaId;
+    
+    public PautaAlteradaEvent(Long pautaId) {
+        this.pautaId = pautaId;
+    }
+    
+    public Long getPautaId() { return pautaId; }
+}
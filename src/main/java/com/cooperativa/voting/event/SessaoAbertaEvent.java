@@ -0,0 +1,12 @@
+package com.cooperativa.voting.event;
+
+public class SessaoAbertaEvent {
+    
+    private final Long sessaoId;
+    
+    public SessaoAbertaEvent(Long sessaoId) {
+        this.sessaoId = sessaoId;
+    }
+    
+    public Long getSessaoId() { return sessaoId; }
+}
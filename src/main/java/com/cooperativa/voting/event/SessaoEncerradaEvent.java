@@ -0,0 +1,12 @@
+package com.cooperativa.voting.event;
+
+public class SessaoEncerradaEvent {
+    
+    private final Long sessaoId;
+    
+    public SessaoEncerradaEvent(Long sessaoId) {
+        this.sessaoId = sessaoId;
+    }
+    
+    public Long getSessaoId() { return sessaoId; }
+}
@@ -0,0 +1,44 @@
+package com.cooperativa.voting.event;
+
+import com.cooperativa.voting.enums.TipoVoto;
+
+import java.util.Map;
+import java.util.Set;
+
+// Publicado por todo caminho que grava votos (síncrono, shards, projetor do journal e reativo),
+// com quantos votos SIM e NÃO foram gravados em cada sessão
+public class VotosRegistradosEvent {
+    
+    private final Map<Long, VotosSessao> votosPorSessao;
+    
+    public VotosRegistradosEvent(Map<Long, VotosSessao> votosPorSessao) {
+        this.votosPorSessao = votosPorSessao;
+    }
+    
+    public VotosRegistradosEvent(Long sessaoId, TipoVoto tipo) {
+        this(Map.of(sessaoId, new VotosSessao().somar(tipo)));
+    }
+    
+    public Set<Long> getSessaoIds() { return votosPorSessao.keySet(); }
+    
+    public Map<Long, VotosSessao> getVotosPorSessao() { return votosPorSessao; }
+    
+    public static class VotosSessao {
+        
+        private int votosSim;
+        private int votosNao;
+        
+        public VotosSessao somar(TipoVoto tipo) {
+            if (tipo == TipoVoto.SIM) {
+                votosSim++;
+            } else {
+                votosNao++;
+            }
+            return this;
+        }
+        
+        public int getVotosSim() { return votosSim; }
+        
+        public int getVotosNao() { return votosNao; }
+    }
+}
@@ -9,4 +9,10 @@ public class BusinessException extends RuntimeException {
     public BusinessException(String message, Throwable cause) {
         super(message, cause);
     }
+    
+    // Recusas esperadas e frequentes (voto duplicado, sessão encerrada): sem stack trace, que não
+    // ajuda a diagnosticar nada e é a parte cara de criar a exceção
+    protected BusinessException(String message, boolean comStackTrace) {
+        super(message, null, comStackTrace, comStackTrace);
+    }
 }
@@ -0,0 +1,62 @@
+package com.cooperativa.voting.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// Corpo JSON de uma recusa esperada, no mesmo formato do ErrorResponse, montado a partir de partes
+// já codificadas: só path, timestamp e (quando varia) a mensagem são convertidos por requisição,
+// sem criar o ErrorResponse nem passar pelo ObjectMapper.
+final class CorpoRecusa {
+
+    private static final byte[] ANTES_DO_PATH = bytes("\",\"path\":\"");
+    private static final byte[] ANTES_DO_TIMESTAMP = bytes("\",\"timestamp\":\"");
+    private static final byte[] FIM = bytes("\"}");
+
+    private final byte[] inicio;
+    private final byte[] mensagemFixa;
+
+    private CorpoRecusa(byte[] inicio, byte[] mensagemFixa) {
+        this.inicio = inicio;
+        this.mensagemFixa = mensagemFixa;
+    }
+
+    // mensagemFixa null: a mensagem é informada a cada montagem
+    static CorpoRecusa de(int status, String error, String mensagemFixa) {
+        byte[] inicio = bytes("{\"status\":" + status + ",\"error\":\"" + new String(escapar(error), StandardCharsets.UTF_8)
+            + "\",\"message\":\"");
+        return new CorpoRecusa(inicio, mensagemFixa != null ? escapar(mensagemFixa) : null);
+    }
+
+    byte[] montar(String mensagem, String path) {
+        byte[] textoMensagem = mensagemFixa != null ? mensagemFixa : escapar(mensagem);
+        byte[] textoPath = escapar(path);
+        byte[] timestamp = bytes(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now()));
+
+        byte[] corpo = new byte[inicio.length + textoMensagem.length + ANTES_DO_PATH.length + textoPath.length
+            + ANTES_DO_TIMESTAMP.length + timestamp.length + FIM.length];
+        int posicao = copiar(inicio, corpo, 0);
+        posicao = copiar(textoMensagem, corpo, posicao);
+        posicao = copiar(ANTES_DO_PATH, corpo, posicao);
+        posicao = copiar(textoPath, corpo, posicao);
+        posicao = copiar(ANTES_DO_TIMESTAMP, corpo, posicao);
+        posicao = copiar(timestamp, corpo, posicao);
+        copiar(FIM, corpo, posicao);
+        return corpo;
+    }
+
+    private static int copiar(byte[] origem, byte[] destino, int posicao) {
+        System.arraycopy(origem, 0, destino, posicao, origem.length);
+        return posicao + origem.length;
+    }
+
+    private static byte[] escapar(String texto) {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(texto);
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,9 +1,15 @@
 package com.cooperativa.voting.exception;
 
+import com.cooperativa.voting.log.LogAmostrado;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -15,12 +21,24 @@ import org.springframework.web.context.request.WebRequest;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class GlobalExceptionHandler {
     
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
     
+    private static final CorpoRecusa CORPO_VOTO_DUPLICADO =
+        CorpoRecusa.de(HttpStatus.BAD_REQUEST.value(), "Erro de negócio", VotoDuplicadoException.MENSAGEM);
+    private static final CorpoRecusa CORPO_VOTACAO_ENCERRADA =
+        CorpoRecusa.de(HttpStatus.FORBIDDEN.value(), "Votação encerrada", null);
+    
+    private final LogAmostrado votosDuplicados =
+        new LogAmostrado(logger, "Votos recusados por associado que já votou", Level.WARN, 10, TimeUnit.SECONDS);
+    private final LogAmostrado votosEmSessaoEncerrada =
+        new LogAmostrado(logger, "Votos recusados por sessão encerrada", Level.WARN, 10, TimeUnit.SECONDS);
+    
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, WebRequest request) {
@@ -53,20 +71,40 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(VotoDuplicadoException.class)
+    public ResponseEntity<?> handleVotoDuplicadoException(
+            VotoDuplicadoException ex, WebRequest request) {
+        
+        votosDuplicados.registrar(ex.getMessage());
+        
+        return recusa(HttpStatus.BAD_REQUEST, CORPO_VOTO_DUPLICADO, "Erro de negócio", ex.getMessage(), request);
+    }
+    
     @ExceptionHandler(VotacaoEncerradaException.class)
-    public ResponseEntity<ErrorResponse> handleVotacaoEncerradaException(
+    public ResponseEntity<?> handleVotacaoEncerradaException(
             VotacaoEncerradaException ex, WebRequest request) {
         
-        logger.warn("Tentativa de voto em sessão encerrada: {}", ex.getMessage());
+        votosEmSessaoEncerrada.registrar(ex.getMessage());
+        
+        return recusa(HttpStatus.FORBIDDEN, CORPO_VOTACAO_ENCERRADA, "Votação encerrada", ex.getMessage(), request);
+    }
+    
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<ErrorResponse> handleServicoSobrecarregadoException(
+            ServicoSobrecarregadoException ex, WebRequest request) {
+        
+        logger.warn("Requisição rejeitada por sobrecarga: {}", ex.getMessage());
         
         ErrorResponse errorResponse = new ErrorResponse(
-            HttpStatus.FORBIDDEN.value(),
-            "Votação encerrada",
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Serviço sobrecarregado",
             ex.getMessage(),
             request.getDescription(false)
         );
         
-        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSegundos()))
+                .body(errorResponse);
     }
     
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -146,6 +184,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
     
+    // Recusas esperadas: corpo JSON montado de partes prontas; cliente que não aceita JSON (CBOR,
+    // Smile) segue pela negociação normal com o ErrorResponse
+    private ResponseEntity<?> recusa(HttpStatus status, CorpoRecusa corpo, String error, String message,
+                                     WebRequest request) {
+        String path = request.getDescription(false);
+        
+        if (!aceitaJson(request.getHeader(HttpHeaders.ACCEPT))) {
+            return ResponseEntity.status(status).body(new ErrorResponse(status.value(), error, message, path));
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(corpo.montar(message, path));
+    }
+    
+    private boolean aceitaJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        try {
+            return MediaType.parseMediaTypes(accept).stream()
+                    .anyMatch(tipo -> tipo.getQualityValue() > 0 && tipo.includes(MediaType.APPLICATION_JSON));
+        } catch (InvalidMediaTypeException ex) {
+            return false;
+        }
+    }
+    
     // ============= ERROR RESPONSE CLASSES =============
     
     public static class ErrorResponse {
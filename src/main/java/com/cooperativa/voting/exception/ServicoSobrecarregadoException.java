@@ -0,0 +1,17 @@
+package com.cooperativa.voting.exception;
+
+public class ServicoSobrecarregadoException extends RuntimeException {
+    
+    private final long retryAfterSegundos;
+    
+    public ServicoSobrecarregadoException(String message) {
+        this(message, 1);
+    }
+    
+    public ServicoSobrecarregadoException(String message, long retryAfterSegundos) {
+        super(message);
+        this.retryAfterSegundos = retryAfterSegundos;
+    }
+    
+    public long getRetryAfterSegundos() { return retryAfterSegundos; }
+}
@@ -3,10 +3,10 @@ package com.cooperativa.voting.exception;
 public class VotacaoEncerradaException extends BusinessException {
     
     public VotacaoEncerradaException(String message) {
-        super(message);
+        super(message, false);
     }
     
     public VotacaoEncerradaException(Long sessaoId) {
-        super(String.format("A sessão de votação %d está encerrada ou expirou", sessaoId));
+        super("A sessão de votação " + sessaoId + " está encerrada ou expirou", false);
     }
 }
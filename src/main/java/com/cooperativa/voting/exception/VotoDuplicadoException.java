@@ -0,0 +1,18 @@
+package com.cooperativa.voting.exception;
+
+// Associado que já votou na sessão. Sem stack trace e com mensagem fixa, então uma única instância
+// atende todas as recusas: em rajadas de reenvio, a maior parte das requisições termina aqui.
+public class VotoDuplicadoException extends BusinessException {
+    
+    public static final String MENSAGEM = "Este associado já votou nesta pauta";
+    
+    private static final VotoDuplicadoException INSTANCIA = new VotoDuplicadoException();
+    
+    private VotoDuplicadoException() {
+        super(MENSAGEM, false);
+    }
+    
+    public static VotoDuplicadoException instancia() {
+        return INSTANCIA;
+    }
+}
@@ -0,0 +1,108 @@
+package com.cooperativa.voting.filtro;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// Corpo da requisição lido por inteiro num filtro e servido de novo para os filtros seguintes e o
+// controller. A leitura tem teto: um corpo acima do máximo (declarado no Content-Length ou não)
+// não é carregado na memória. Um filtro seguinte que também precise do corpo reaproveita a leitura.
+public final class CorpoLido extends HttpServletRequestWrapper {
+
+    private final byte[] bytes;
+
+    private CorpoLido(HttpServletRequest request, byte[] bytes) {
+        super(request);
+        this.bytes = bytes;
+    }
+
+    public static CorpoLido ler(HttpServletRequest request, int maximoBytes) throws IOException {
+        if (request instanceof CorpoLido lido) {
+            return lido;
+        }
+        if (request.getContentLengthLong() > maximoBytes) {
+            throw new GrandeDemais(maximoBytes);
+        }
+        byte[] bytes = request.getInputStream().readNBytes(maximoBytes + 1);
+        if (bytes.length > maximoBytes) {
+            throw new GrandeDemais(maximoBytes);
+        }
+        return new CorpoLido(request, bytes);
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream entrada = new ByteArrayInputStream(bytes);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return entrada.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return entrada.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return entrada.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            // O corpo já está na memória: tudo disponível de imediato
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    readListener.onAllDataRead();
+                } catch (IOException ex) {
+                    readListener.onError(ex);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        return new BufferedReader(new InputStreamReader(getInputStream(),
+            encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public int getContentLength() {
+        return bytes.length;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return bytes.length;
+    }
+
+    // Respondida com 413 por quem pediu a leitura
+    public static final class GrandeDemais extends IOException {
+
+        private GrandeDemais(int maximoBytes) {
+            super("Corpo da requisição acima de " + maximoBytes + " bytes");
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.cooperativa.voting.grpc;
+
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+// Servidor gRPC em porta própria, ao lado do Tomcat
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.grpc", name = "enabled", havingValue = "true")
+public class ServidorGrpc implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServidorGrpc.class);
+
+    @Autowired
+    private VotacaoGrpcService votacaoGrpcService;
+
+    // 0 escolhe uma porta livre
+    @Value("${cooperativa.grpc.porta:9090}")
+    private int porta;
+
+    @Value("${cooperativa.grpc.encerramento-ms:5000}")
+    private long encerramentoMillis;
+
+    private volatile Server servidor;
+
+    @Override
+    public void start() {
+        try {
+            servidor = NettyServerBuilder.forPort(porta)
+                    .addService(votacaoGrpcService)
+                    .build()
+                    .start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível iniciar o servidor gRPC na porta " + porta, ex);
+        }
+        logger.info("Servidor gRPC iniciado na porta {}", servidor.getPort());
+    }
+
+    @Override
+    public void stop() {
+        // Recusa chamadas novas e dá um tempo para os canais abertos terminarem
+        servidor.shutdown();
+        try {
+            if (!servidor.awaitTermination(encerramentoMillis, TimeUnit.MILLISECONDS)) {
+                servidor.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            servidor.shutdownNow();
+        }
+        servidor = null;
+        logger.info("Servidor gRPC encerrado");
+    }
+
+    public int getPorta() {
+        return servidor != null ? servidor.getPort() : porta;
+    }
+
+    // Sobe depois da ingestão de votos e para antes dela
+    @Override
+    public int getPhase() {
+        return 1;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return servidor != null;
+    }
+}
@@ -0,0 +1,283 @@
+package com.cooperativa.voting.grpc;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentoAtual;
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.grpc.v1.ConfirmacaoVoto;
+import com.cooperativa.voting.grpc.v1.Erro;
+import com.cooperativa.voting.grpc.v1.ObterResultadoRequest;
+import com.cooperativa.voting.grpc.v1.PodeVotarRequest;
+import com.cooperativa.voting.grpc.v1.PodeVotarResponse;
+import com.cooperativa.voting.grpc.v1.RegistrarVotoRequest;
+import com.cooperativa.voting.grpc.v1.Resultado;
+import com.cooperativa.voting.grpc.v1.StatusSessao;
+import com.cooperativa.voting.grpc.v1.VotacaoGrpc;
+import com.cooperativa.voting.grpc.v1.Voto;
+import com.cooperativa.voting.ingestao.ProcessadorVotos;
+import com.cooperativa.voting.service.SessaoService;
+import com.cooperativa.voting.service.VotoService;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// Votação por gRPC para os terminais de alto volume. Usa os mesmos serviços da API REST,
+// com o mesmo mapeamento de erros do GlobalExceptionHandler traduzido para status gRPC.
+// Voto e "pode votar" rodam no compartimento VOTACAO, como os endpoints REST equivalentes;
+// o resto fica no padrão da thread (CONSULTA).
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.grpc", name = "enabled", havingValue = "true")
+public class VotacaoGrpcService extends VotacaoGrpc.VotacaoImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(VotacaoGrpcService.class);
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private SessaoService sessaoService;
+
+    @Autowired
+    private Validator validator;
+
+    // Presente apenas com cooperativa.ingestao.enabled=true
+    @Autowired(required = false)
+    private ProcessadorVotos processadorVotos;
+
+    @Override
+    public void registrarVoto(RegistrarVotoRequest request, StreamObserver<Voto> responseObserver) {
+        logger.debug("Recebida chamada gRPC para registrar voto - Sessão: {}, Associado: {}, Voto: {}",
+                   request.getSessaoId(), request.getAssociadoId(), request.getVoto());
+
+        try {
+            VotoResponse voto = CompartimentoAtual.executar(Compartimento.VOTACAO, () -> processadorVotos != null
+                    ? processadorVotos.registrarVoto(request.getSessaoId(), converter(request))
+                    : votoService.registrarVoto(request.getSessaoId(), converter(request)));
+            responseObserver.onNext(converter(voto));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(status(ex).asRuntimeException());
+        }
+    }
+
+    @Override
+    public StreamObserver<RegistrarVotoRequest> registrarVotos(StreamObserver<ConfirmacaoVoto> responseObserver) {
+        logger.info("Aberto canal gRPC de votos");
+
+        return new CanalVotos(responseObserver);
+    }
+
+    @Override
+    public void podeVotar(PodeVotarRequest request, StreamObserver<PodeVotarResponse> responseObserver) {
+        logger.debug("Recebida chamada gRPC para verificar se associado {} pode votar na sessão {}",
+                    request.getAssociadoId(), request.getSessaoId());
+
+        try {
+            boolean podeVotar = CompartimentoAtual.executar(Compartimento.VOTACAO,
+                    () -> votoService.verificarSePodeVotar(request.getSessaoId(), request.getAssociadoId()));
+            responseObserver.onNext(PodeVotarResponse.newBuilder().setPodeVotar(podeVotar).build());
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(status(ex).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void obterResultado(ObterResultadoRequest request, StreamObserver<Resultado> responseObserver) {
+        logger.debug("Recebida chamada gRPC para obter resultado da sessão ID: {}", request.getSessaoId());
+
+        try {
+            responseObserver.onNext(converter(sessaoService.obterResultadoVotacao(request.getSessaoId())));
+            responseObserver.onCompleted();
+        } catch (RuntimeException ex) {
+            responseObserver.onError(status(ex).asRuntimeException());
+        }
+    }
+
+    // Confirma cada voto assim que ele é gravado; com a ingestão em shards as confirmações podem
+    // chegar fora da ordem de envio, por isso carregam a sequência do cliente
+    private final class CanalVotos implements StreamObserver<RegistrarVotoRequest> {
+
+        private final StreamObserver<ConfirmacaoVoto> confirmacoes;
+        // Votos sem confirmação, mais um enquanto o cliente não fecha o envio
+        private final AtomicInteger pendentes = new AtomicInteger(1);
+        private volatile boolean cancelado;
+
+        CanalVotos(StreamObserver<ConfirmacaoVoto> confirmacoes) {
+            this.confirmacoes = confirmacoes;
+        }
+
+        @Override
+        public void onNext(RegistrarVotoRequest request) {
+            logger.debug("Recebido voto pelo canal gRPC - Sessão: {}, Associado: {}, Voto: {}",
+                       request.getSessaoId(), request.getAssociadoId(), request.getVoto());
+
+            pendentes.incrementAndGet();
+            long sequencia = request.getSequencia();
+            try {
+                VotoRequest voto = converter(request);
+                if (processadorVotos != null) {
+                    processadorVotos.publicar(request.getSessaoId(), voto)
+                            .whenComplete((resposta, ex) -> confirmar(sequencia, resposta, ex));
+                } else {
+                    VotoResponse resposta = CompartimentoAtual.executar(Compartimento.VOTACAO,
+                            () -> votoService.registrarVoto(request.getSessaoId(), voto));
+                    confirmar(sequencia, resposta, null);
+                }
+            } catch (RuntimeException ex) {
+                confirmar(sequencia, null, ex);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            logger.debug("Canal gRPC de votos encerrado pelo cliente: {}", t.getMessage());
+            cancelado = true;
+        }
+
+        @Override
+        public void onCompleted() {
+            liberar();
+        }
+
+        private void confirmar(long sequencia, VotoResponse resposta, Throwable ex) {
+            ConfirmacaoVoto.Builder confirmacao = ConfirmacaoVoto.newBuilder().setSequencia(sequencia);
+            if (ex == null) {
+                confirmacao.setVoto(converter(resposta));
+            } else {
+                Status status = status(ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+                confirmacao.setErro(Erro.newBuilder()
+                        .setCodigo(status.getCode().name())
+                        .setMensagem(status.getDescription() != null ? status.getDescription() : ""));
+            }
+
+            // StreamObserver não é thread-safe e as confirmações podem vir das threads dos shards
+            synchronized (confirmacoes) {
+                if (!cancelado) {
+                    try {
+                        confirmacoes.onNext(confirmacao.build());
+                    } catch (StatusRuntimeException cancelamento) {
+                        cancelado = true;
+                    }
+                }
+            }
+            liberar();
+        }
+
+        private void liberar() {
+            if (pendentes.decrementAndGet() == 0) {
+                synchronized (confirmacoes) {
+                    if (!cancelado) {
+                        confirmacoes.onCompleted();
+                    }
+                }
+            }
+        }
+    }
+
+    private VotoRequest converter(RegistrarVotoRequest request) {
+        VotoRequest voto = new VotoRequest(request.getAssociadoId(), switch (request.getVoto()) {
+            case SIM -> TipoVoto.SIM;
+            case NAO -> TipoVoto.NAO;
+            default -> null;
+        });
+
+        Set<ConstraintViolation<VotoRequest>> violations = validator.validate(voto);
+        if (!violations.isEmpty()) {
+            String mensagem = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            logger.warn("Erro de validação: {}", mensagem);
+            throw Status.INVALID_ARGUMENT.withDescription(mensagem).asRuntimeException();
+        }
+        return voto;
+    }
+
+    private Voto converter(VotoResponse voto) {
+        return Voto.newBuilder()
+                .setId(voto.getId() != null ? voto.getId() : 0L)
+                .setSessaoId(voto.getSessaoId())
+                .setAssociadoId(voto.getAssociadoId())
+                .setVoto(com.cooperativa.voting.grpc.v1.TipoVoto.valueOf(voto.getVoto().name()))
+                .setVotadoEm(texto(voto.getVotadoEm()))
+                .build();
+    }
+
+    private Resultado converter(ResultadoVotacaoResponse resultado) {
+        return Resultado.newBuilder()
+                .setSessaoId(resultado.getSessaoId())
+                .setPautaId(resultado.getPautaId())
+                .setPautaTitulo(resultado.getPautaTitulo())
+                .setPautaDescricao(resultado.getPautaDescricao() != null ? resultado.getPautaDescricao() : "")
+                .setStatusSessao(StatusSessao.valueOf(resultado.getStatusSessao().name()))
+                .setVotacaoAberta(resultado.isVotacaoAberta())
+                .setInicioVotacao(texto(resultado.getInicioVotacao()))
+                .setFimVotacao(texto(resultado.getFimVotacao()))
+                .setTotalVotos(resultado.getTotalVotos())
+                .setVotosSim(resultado.getVotosSim())
+                .setVotosNao(resultado.getVotosNao())
+                .setPercentualSim(resultado.getPercentualSim())
+                .setPercentualNao(resultado.getPercentualNao())
+                .setVersao(resultado.getVersao())
+                .build();
+    }
+
+    private String texto(LocalDateTime dataHora) {
+        return dataHora != null ? dataHora.toString() : "";
+    }
+
+    // Mesmo mapeamento do GlobalExceptionHandler: 404, 403, 400, 503, 409 e 500
+    private Status status(Throwable ex) {
+        if (ex instanceof StatusRuntimeException statusException) {
+            return statusException.getStatus();
+        }
+        if (ex instanceof ResourceNotFoundException) {
+            logger.warn("Recurso não encontrado: {}", ex.getMessage());
+            return Status.NOT_FOUND.withDescription(ex.getMessage());
+        }
+        if (ex instanceof VotacaoEncerradaException) {
+            logger.warn("Tentativa de voto em sessão encerrada: {}", ex.getMessage());
+            return Status.PERMISSION_DENIED.withDescription(ex.getMessage());
+        }
+        if (ex instanceof BusinessException) {
+            logger.warn("Erro de negócio: {}", ex.getMessage());
+            return Status.INVALID_ARGUMENT.withDescription(ex.getMessage());
+        }
+        if (ex instanceof ServicoSobrecarregadoException) {
+            logger.warn("Serviço sobrecarregado: {}", ex.getMessage());
+            return Status.UNAVAILABLE.withDescription(ex.getMessage());
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            logger.error("Violação de integridade de dados", ex);
+            String message = "Violação de regra de integridade dos dados";
+            if (ex.getMessage() != null && ex.getMessage().contains("associado_id")) {
+                message = "Este associado já votou nesta pauta";
+            }
+            return Status.ALREADY_EXISTS.withDescription(message);
+        }
+
+        logger.error("Erro interno do servidor", ex);
+        return Status.INTERNAL.withDescription("Ocorreu um erro inesperado. Tente novamente mais tarde.");
+    }
+}
@@ -0,0 +1,178 @@
+package com.cooperativa.voting.idempotencia;
+
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ErrorResponse;
+import com.cooperativa.voting.filtro.CorpoLido;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Map;
+
+// Idempotency-Key no registro de voto: a primeira resposta a uma chave é guardada e as repetições
+// (cliente móvel reenviando após perder a resposta) recebem os mesmos bytes, sem passar pelo
+// VotoService nem pelo banco. A chave vale por sessão. Respostas transitórias (429, 5xx) não são
+// guardadas, para que a repetição tente de novo. A resposta guardada leva o hash do corpo: a mesma
+// chave com outro corpo é um erro do cliente (422), não uma repetição. Roda antes do limite de taxa:
+// uma repetição respondida daqui não gasta tokens.
+@Component
+@Order(1)
+@ConditionalOnProperty(prefix = "cooperativa.idempotencia", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotenciaFilter.class);
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+
+    private static final String PADRAO = "/api/votos/sessao/{sessaoId}";
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final Cache<String, RespostaGravada> respostas;
+    private final Counter repetidas;
+    private final int corpoMaximoBytes;
+
+    public IdempotenciaFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${cooperativa.idempotencia.ttl-horas:24}") long ttlHoras,
+                              @Value("${cooperativa.idempotencia.tamanho-maximo-mb:32}") long tamanhoMaximoMb,
+                              @Value("${cooperativa.idempotencia.corpo-maximo-bytes:16384}") int corpoMaximoBytes) {
+        this.objectMapper = objectMapper;
+        this.corpoMaximoBytes = corpoMaximoBytes;
+        this.respostas = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximoMb * 1024 * 1024)
+                .<String, RespostaGravada>weigher((chave, resposta) -> resposta.getPeso())
+                .expireAfterWrite(Duration.ofHours(ttlHoras))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, "idempotencia");
+        this.repetidas = Counter.builder("cooperativa.idempotencia.repeticoes")
+                .description("Votos repetidos respondidos com a resposta guardada")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(CABECALHO) == null
+                || !"POST".equals(request.getMethod())
+                || !pathMatcher.match(PADRAO, request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String chaveCliente = request.getHeader(CABECALHO);
+        if (chaveCliente.isBlank() || chaveCliente.length() > TAMANHO_MAXIMO_CHAVE) {
+            recusar(HttpStatus.BAD_REQUEST, "Idempotency-Key inválida",
+                "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres", request, response);
+            return;
+        }
+
+        CorpoLido corpo;
+        try {
+            corpo = CorpoLido.ler(request, corpoMaximoBytes);
+        } catch (CorpoLido.GrandeDemais ex) {
+            recusar(HttpStatus.PAYLOAD_TOO_LARGE, "Corpo grande demais", ex.getMessage(), request, response);
+            return;
+        }
+        byte[] hashCorpo = hash(corpo.getBytes());
+
+        Map<String, String> variaveis = pathMatcher.extractUriTemplateVariables(PADRAO,
+            request.getRequestURI().substring(request.getContextPath().length()));
+        String chave = variaveis.get("sessaoId") + ":" + chaveCliente;
+
+        RespostaGravada existente = respostas.asMap().putIfAbsent(chave, RespostaGravada.EM_ANDAMENTO);
+        if (existente != null) {
+            if (existente.isEmAndamento()) {
+                recusar(HttpStatus.CONFLICT, "Requisição em andamento",
+                    "Requisição com a mesma Idempotency-Key ainda em andamento", request, response);
+            } else if (!MessageDigest.isEqual(existente.getHashCorpo(), hashCorpo)) {
+                recusar(HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reutilizada",
+                    "Idempotency-Key já usada com outro corpo de requisição", request, response);
+            } else {
+                repetir(existente, response);
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper capturada = new ContentCachingResponseWrapper(response);
+        boolean gravada = false;
+        try {
+            filterChain.doFilter(corpo, capturada);
+
+            int status = capturada.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value() && status != HttpStatus.REQUEST_TIMEOUT.value()) {
+                gravada = respostas.asMap().replace(chave, RespostaGravada.EM_ANDAMENTO,
+                    new RespostaGravada(status, capturada.getContentType(), capturada.getContentAsByteArray(), hashCorpo));
+            }
+            capturada.copyBodyToResponse();
+        } finally {
+            if (!gravada) {
+                respostas.asMap().remove(chave, RespostaGravada.EM_ANDAMENTO);
+            }
+        }
+    }
+
+    private void repetir(RespostaGravada gravada, HttpServletResponse response) throws IOException {
+        repetidas.increment();
+        logger.debug("Voto repetido respondido com a resposta guardada - status: {}", gravada.getStatus());
+
+        response.setStatus(gravada.getStatus());
+        if (gravada.getContentType() != null) {
+            response.setContentType(gravada.getContentType());
+        }
+        response.setHeader(CABECALHO_REPETIDA, "true");
+        response.setContentLength(gravada.getCorpo().length);
+        response.getOutputStream().write(gravada.getCorpo());
+        response.flushBuffer();
+    }
+
+    private static byte[] hash(byte[] corpo) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(corpo);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void recusar(HttpStatus status, String erro, String mensagem, HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            status.value(),
+            erro,
+            mensagem,
+            "uri=" + request.getRequestURI()
+        );
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
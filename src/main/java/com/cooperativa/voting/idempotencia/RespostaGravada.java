@@ -0,0 +1,39 @@
+package com.cooperativa.voting.idempotencia;
+
+// Status, tipo e bytes da primeira resposta a uma chave de idempotência, com o hash do corpo da
+// requisição que a gerou. Sem corpo, marca uma requisição com a mesma chave ainda em andamento.
+final class RespostaGravada {
+
+    // Custo aproximado do objeto, da chave, do hash e do array, além dos bytes em si
+    private static final int PESO_FIXO = 160;
+
+    static final RespostaGravada EM_ANDAMENTO = new RespostaGravada(0, null, null, null);
+
+    private final int status;
+    private final String contentType;
+    private final byte[] corpo;
+    private final byte[] hashCorpo;
+
+    RespostaGravada(int status, String contentType, byte[] corpo, byte[] hashCorpo) {
+        this.status = status;
+        this.contentType = contentType;
+        this.corpo = corpo;
+        this.hashCorpo = hashCorpo;
+    }
+
+    int getStatus() { return status; }
+
+    String getContentType() { return contentType; }
+
+    byte[] getCorpo() { return corpo; }
+
+    byte[] getHashCorpo() { return hashCorpo; }
+
+    boolean isEmAndamento() {
+        return this == EM_ANDAMENTO;
+    }
+
+    int getPeso() {
+        return PESO_FIXO + (corpo != null ? corpo.length : 0);
+    }
+}
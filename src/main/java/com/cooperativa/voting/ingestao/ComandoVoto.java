@@ -0,0 +1,67 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+
+import java.util.concurrent.CompletableFuture;
+
+// Mensagem publicada no ring buffer de um shard: um voto a registrar, o aviso de que a
+// sessão foi encerrada, o pedido para carregar a sessão antes do primeiro voto ou o aviso
+// do projetor do journal com o último voto gravado no banco (sem associado/tipo e sem futuro)
+class ComandoVoto {
+
+    enum Acao { VOTO, ENCERRAMENTO, AQUECIMENTO, PROJETADO }
+
+    private final Acao acao;
+    private final Long sessaoId;
+    private final String associadoId;
+    private final int associadoChave;
+    private final TipoVoto tipo;
+    private final long votoId;
+    private final CompletableFuture<VotoResponse> resultado;
+
+    private ComandoVoto(Acao acao, Long sessaoId, String associadoId, int associadoChave, TipoVoto tipo,
+                        long votoId, CompletableFuture<VotoResponse> resultado) {
+        this.acao = acao;
+        this.sessaoId = sessaoId;
+        this.associadoId = associadoId;
+        this.associadoChave = associadoChave;
+        this.tipo = tipo;
+        this.votoId = votoId;
+        this.resultado = resultado;
+    }
+
+    static ComandoVoto voto(Long sessaoId, String associadoId, int associadoChave, TipoVoto tipo) {
+        return new ComandoVoto(Acao.VOTO, sessaoId, associadoId, associadoChave, tipo, 0, new CompletableFuture<>());
+    }
+
+    static ComandoVoto encerramento(Long sessaoId) {
+        return new ComandoVoto(Acao.ENCERRAMENTO, sessaoId, null, -1, null, 0, null);
+    }
+
+    static ComandoVoto aquecimento(Long sessaoId) {
+        return new ComandoVoto(Acao.AQUECIMENTO, sessaoId, null, -1, null, 0, null);
+    }
+
+    static ComandoVoto projetado(Long sessaoId, long votoId) {
+        return new ComandoVoto(Acao.PROJETADO, sessaoId, null, -1, null, votoId, null);
+    }
+
+    boolean isVoto() {
+        return acao == Acao.VOTO;
+    }
+
+    Acao getAcao() { return acao; }
+
+    Long getSessaoId() { return sessaoId; }
+
+    String getAssociadoId() { return associadoId; }
+
+    int getAssociadoChave() { return associadoChave; }
+
+    TipoVoto getTipo() { return tipo; }
+
+    long getVotoId() { return votoId; }
+
+    CompletableFuture<VotoResponse> getResultado() { return resultado; }
+}
@@ -0,0 +1,143 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+
+import java.time.LocalDateTime;
+
+// Estado de uma sessão mantido por um único shard: nenhuma sincronização é necessária
+// para escrita. Os totais são volatile apenas para leitura por outras threads.
+//
+// Os votantes ficam em dois bitmaps por tipo de voto (chaves dos associados): a base, que
+// pode estar mapeada de um snapshot em disco (fora do heap), e o delta com os votos
+// registrados depois dela. Um voto é repetido se a chave estiver em qualquer um deles.
+class EstadoSessao {
+
+    private static final ImmutableRoaringBitmap VAZIO = new MutableRoaringBitmap();
+
+    private final Long sessaoId;
+    private ImmutableRoaringBitmap baseSim = VAZIO;
+    private ImmutableRoaringBitmap baseNao = VAZIO;
+    private MutableRoaringBitmap deltaSim = new MutableRoaringBitmap();
+    private MutableRoaringBitmap deltaNao = new MutableRoaringBitmap();
+    private StatusSessao status;
+    private LocalDateTime fimEm;
+    private long verificadoEm;
+    private long ultimoVotoId;
+    private boolean alterado;
+    private volatile long votosSim;
+    private volatile long votosNao;
+
+    EstadoSessao(Long sessaoId, StatusSessao status, LocalDateTime fimEm, long verificadoEm) {
+        this.sessaoId = sessaoId;
+        this.status = status;
+        this.fimEm = fimEm;
+        this.verificadoEm = verificadoEm;
+    }
+
+    boolean isAberta() {
+        return status == StatusSessao.ABERTA && LocalDateTime.now().isBefore(fimEm);
+    }
+
+    // Retorna false se o associado já votou nesta sessão
+    boolean registrar(int associadoChave, TipoVoto tipo) {
+        if (jaVotou(associadoChave)) {
+            return false;
+        }
+        delta(tipo).add(associadoChave);
+        contar(tipo, 1);
+        alterado = true;
+        return true;
+    }
+
+    // Desfaz um registro cuja gravação no banco falhou
+    void desfazer(int associadoChave, TipoVoto tipo) {
+        if (delta(tipo).checkedRemove(associadoChave)) {
+            contar(tipo, -1);
+        }
+    }
+
+    // Id do último voto gravado já refletido nos bitmaps (marca d'água do snapshot)
+    void aplicado(long votoId) {
+        if (votoId > ultimoVotoId) {
+            ultimoVotoId = votoId;
+            alterado = true;
+        }
+    }
+
+    // Substitui a base pelo conteúdo de um snapshot; o delta continua valendo por cima dela
+    void restaurar(ImmutableRoaringBitmap sim, ImmutableRoaringBitmap nao, long ultimoVotoId) {
+        this.baseSim = sim;
+        this.baseNao = nao;
+        this.ultimoVotoId = Math.max(this.ultimoVotoId, ultimoVotoId);
+        this.deltaSim.andNot(sim);
+        this.deltaNao.andNot(nao);
+        this.votosSim = sim.getLongCardinality() + deltaSim.getLongCardinality();
+        this.votosNao = nao.getLongCardinality() + deltaNao.getLongCardinality();
+    }
+
+    // União de base e delta, para gravar um novo snapshot
+    MutableRoaringBitmap votantes(TipoVoto tipo) {
+        return tipo == TipoVoto.SIM
+                ? ImmutableRoaringBitmap.or(baseSim, deltaSim)
+                : ImmutableRoaringBitmap.or(baseNao, deltaNao);
+    }
+
+    void atualizar(StatusSessao status, LocalDateTime fimEm, long verificadoEm) {
+        this.verificadoEm = verificadoEm;
+        // Uma sessão encerrada nunca é reaberta
+        if (this.status == StatusSessao.ENCERRADA) {
+            return;
+        }
+        this.status = status;
+        this.fimEm = fimEm;
+    }
+
+    void encerrar() {
+        this.status = StatusSessao.ENCERRADA;
+        // Sessão encerrada não aceita mais votos: os bitmaps podem ser liberados
+        baseSim = VAZIO;
+        baseNao = VAZIO;
+        deltaSim = new MutableRoaringBitmap();
+        deltaNao = new MutableRoaringBitmap();
+        alterado = false;
+    }
+
+    void marcarSalvo() {
+        alterado = false;
+    }
+
+    private boolean jaVotou(int associadoChave) {
+        return deltaSim.contains(associadoChave) || deltaNao.contains(associadoChave)
+                || baseSim.contains(associadoChave) || baseNao.contains(associadoChave);
+    }
+
+    private MutableRoaringBitmap delta(TipoVoto tipo) {
+        return tipo == TipoVoto.SIM ? deltaSim : deltaNao;
+    }
+
+    private void contar(TipoVoto tipo, int delta) {
+        if (tipo == TipoVoto.SIM) {
+            votosSim += delta;
+        } else {
+            votosNao += delta;
+        }
+    }
+
+    Long getSessaoId() { return sessaoId; }
+
+    long getVerificadoEm() { return verificadoEm; }
+
+    long getUltimoVotoId() { return ultimoVotoId; }
+
+    boolean isAlterado() { return alterado; }
+
+    long getVotosSim() { return votosSim; }
+
+    long getVotosNao() { return votosNao; }
+
+    // Apenas o que está no heap: a base mapeada de snapshot fica fora dele
+    long getTamanhoVotantesEmBytes() { return deltaSim.getLongSizeInBytes() + deltaNao.getLongSizeInBytes(); }
+}
@@ -0,0 +1,74 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent.VotosSessao;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Grava um lote de votos já validados pelo shard em uma única transação
+@Component
+@Transactional
+@ConditionalOnProperty(prefix = "cooperativa.ingestao", name = "enabled", havingValue = "true")
+public class GravadorLoteVotos {
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    List<Voto> gravar(List<ComandoVoto> comandos) {
+        List<Voto> votos = new ArrayList<>(comandos.size());
+        Map<Long, VotosSessao> votosPorSessao = new HashMap<>();
+
+        for (ComandoVoto comando : comandos) {
+            Sessao sessao = sessaoRepository.getReferenceById(comando.getSessaoId());
+            votos.add(new Voto(sessao, comando.getAssociadoId(), comando.getAssociadoChave(), comando.getTipo()));
+            votosPorSessao.computeIfAbsent(comando.getSessaoId(), id -> new VotosSessao()).somar(comando.getTipo());
+        }
+
+        List<Voto> gravados = votoRepository.saveAll(votos);
+        eventPublisher.publishEvent(new VotosRegistradosEvent(votosPorSessao));
+        return gravados;
+    }
+
+    List<Voto> projetar(List<RegistroVoto> registros) {
+        List<Voto> votos = new ArrayList<>(registros.size());
+        Map<Long, VotosSessao> votosPorSessao = new HashMap<>();
+
+        for (RegistroVoto registro : registros) {
+            Sessao sessao = sessaoRepository.getReferenceById(registro.getSessaoId());
+            Voto voto = new Voto(sessao, registro.getAssociadoId(), registro.getAssociadoChave(), registro.getTipo());
+            // Mantém o horário em que o voto foi aceito, não o da projeção
+            voto.setVotadoEm(registro.getVotadoEm());
+            votos.add(voto);
+            votosPorSessao.computeIfAbsent(registro.getSessaoId(), id -> new VotosSessao()).somar(registro.getTipo());
+        }
+
+        List<Voto> gravados = votoRepository.saveAll(votos);
+        eventPublisher.publishEvent(new VotosRegistradosEvent(votosPorSessao));
+        return gravados;
+    }
+
+    // Na projeção, distingue o voto já aplicado (lote repetido após um crash) do recusado pelo banco
+    @Transactional(readOnly = true)
+    boolean jaGravado(RegistroVoto registro) {
+        return votoRepository.existsBySessaoIdAndAssociadoIdAndTipo(
+            registro.getSessaoId(), registro.getAssociadoId(), registro.getTipo());
+    }
+}
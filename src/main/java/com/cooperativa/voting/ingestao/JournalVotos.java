@@ -0,0 +1,328 @@
+package com.cooperativa.voting.ingestao;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+
+// Journal append-only dos votos aceitos por um shard, dividido em segmentos
+// votos-{offset inicial}.journal. Cada registro é [tamanho][crc32][RegistroVoto].
+//
+// O offset é global (offset inicial do segmento + posição nele). Só o shard escreve e só o
+// projetor lê, e o projetor nunca passa do offset durável (já gravado com force). O offset
+// até onde os votos já foram projetados no banco fica em projetado.offset; os segmentos
+// inteiramente abaixo dele são apagados pelo projetor.
+//
+// Votos confirmados que o banco recusou na projeção vão para descartados.journal, no mesmo
+// formato. Esse arquivo nunca é apagado: cada registro nele é um voto aceito que falta na tabela.
+class JournalVotos implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalVotos.class);
+
+    private static final int CABECALHO_REGISTRO = 8;
+    private static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024;
+    private static final int TAMANHO_BLOCO_LEITURA = 256 * 1024;
+    private static final String PREFIXO = "votos-";
+    private static final String EXTENSAO = ".journal";
+    private static final String ARQUIVO_PROJETADO = "projetado.offset";
+    private static final String ARQUIVO_DESCARTADOS = "descartados.journal";
+
+    private final Path diretorio;
+    private final long tamanhoSegmento;
+    private final ConcurrentSkipListMap<Long, Path> segmentos = new ConcurrentSkipListMap<>();
+
+    // Usados apenas pela thread do shard
+    private FileChannel escrita;
+    private long baseEscrita;
+    private long posicaoEscrita;
+
+    // Usados apenas pela thread do projetor
+    private FileChannel leitura;
+    private long baseLeitura = -1;
+    private FileChannel descartados;
+
+    private volatile long offsetDuravel;
+
+    JournalVotos(Path diretorio, long tamanhoSegmento) throws IOException {
+        this.diretorio = diretorio;
+        this.tamanhoSegmento = tamanhoSegmento;
+        Files.createDirectories(diretorio);
+
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*" + EXTENSAO)) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                segmentos.put(Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - EXTENSAO.length())), arquivo);
+            }
+        }
+        if (segmentos.isEmpty()) {
+            segmentos.put(0L, arquivoSegmento(0));
+        }
+
+        Map.Entry<Long, Path> ultimo = segmentos.lastEntry();
+        baseEscrita = ultimo.getKey();
+        escrita = FileChannel.open(ultimo.getValue(), StandardOpenOption.CREATE,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        // Um crash no meio de uma escrita deixa um registro incompleto no fim do último segmento
+        posicaoEscrita = lerRegistros(escrita, 0, escrita.size(), Integer.MAX_VALUE, null);
+        if (posicaoEscrita < escrita.size()) {
+            logger.warn("Descartando {} bytes incompletos no fim de {}", escrita.size() - posicaoEscrita, ultimo.getValue());
+            escrita.truncate(posicaoEscrita);
+            escrita.force(true);
+        }
+        offsetDuravel = baseEscrita + posicaoEscrita;
+    }
+
+    // Grava os registros em sequência e só retorna depois do force: um único fsync por lote
+    void anexar(List<RegistroVoto> registros) throws IOException {
+        ByteBuffer buffer = serializar(registros);
+        int total = buffer.remaining();
+
+        if (posicaoEscrita > 0 && posicaoEscrita + total > tamanhoSegmento) {
+            rolar();
+        }
+
+        try {
+            long posicao = posicaoEscrita;
+            while (buffer.hasRemaining()) {
+                posicao += escrita.write(buffer, posicao);
+            }
+            escrita.force(false);
+        } catch (IOException ex) {
+            // Nenhum voto do lote foi confirmado: não podem ser projetados depois
+            try {
+                escrita.truncate(posicaoEscrita);
+            } catch (IOException truncamento) {
+                ex.addSuppressed(truncamento);
+            }
+            throw ex;
+        }
+
+        posicaoEscrita += total;
+        offsetDuravel = baseEscrita + posicaoEscrita;
+    }
+
+    // Lê até "maximo" registros a partir do offset e devolve o offset seguinte ao último lido
+    long ler(long offset, int maximo, List<RegistroVoto> destino) throws IOException {
+        long limite = offsetDuravel;
+        int alvo = destino.size() + maximo;
+
+        while (offset < limite && destino.size() < alvo) {
+            Map.Entry<Long, Path> segmento = segmentos.floorEntry(offset);
+            long base = segmento.getKey();
+            Long proximo = segmentos.higherKey(base);
+            long fimSegmento = proximo != null ? Math.min(proximo, limite) : limite;
+
+            long posicao = lerRegistros(canalLeitura(segmento), offset - base, fimSegmento - base, alvo, destino);
+            if (posicao + base < fimSegmento && destino.size() < alvo) {
+                throw new IOException("Registro inválido no journal " + segmento.getValue() + " na posição " + posicao);
+            }
+            offset = base + posicao;
+        }
+
+        return offset;
+    }
+
+    long lerProjetado() throws IOException {
+        Path arquivo = diretorio.resolve(ARQUIVO_PROJETADO);
+        if (!Files.exists(arquivo)) {
+            return segmentos.firstKey();
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(arquivo)).getLong();
+    }
+
+    void salvarProjetado(long offset) throws IOException {
+        Path arquivo = diretorio.resolve(ARQUIVO_PROJETADO);
+        Path temporario = diretorio.resolve(ARQUIVO_PROJETADO + ".tmp");
+
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8).putLong(offset).flip();
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // Apaga os segmentos que terminam até o offset já projetado. O segmento em escrita nunca é
+    // apagado. Usado apenas pela thread do projetor; devolve quantos foram apagados
+    int podar(long offsetProjetado) {
+        int apagados = 0;
+        Map.Entry<Long, Path> segmento;
+        while ((segmento = segmentos.firstEntry()) != null) {
+            Long proximo = segmentos.higherKey(segmento.getKey());
+            if (proximo == null || proximo > offsetProjetado) {
+                break;
+            }
+            try {
+                if (baseLeitura == segmento.getKey()) {
+                    leitura.close();
+                    leitura = null;
+                    baseLeitura = -1;
+                }
+                Files.deleteIfExists(segmento.getValue());
+            } catch (IOException ex) {
+                // Fica para a próxima poda
+                logger.warn("Falha ao apagar o segmento de journal {}: {}", segmento.getValue(), ex.getMessage());
+                break;
+            }
+            segmentos.remove(segmento.getKey());
+            apagados++;
+            logger.debug("Segmento de journal projetado apagado: {}", segmento.getValue());
+        }
+        return apagados;
+    }
+
+    // Guarda um voto recusado pelo banco na projeção, com fsync; usado apenas pela thread do projetor
+    void descartar(RegistroVoto registro) throws IOException {
+        if (descartados == null) {
+            descartados = FileChannel.open(diretorio.resolve(ARQUIVO_DESCARTADOS), StandardOpenOption.CREATE,
+                                           StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        ByteBuffer buffer = serializar(List.of(registro));
+        while (buffer.hasRemaining()) {
+            descartados.write(buffer);
+        }
+        descartados.force(false);
+    }
+
+    List<RegistroVoto> lerDescartados() throws IOException {
+        List<RegistroVoto> registros = new ArrayList<>();
+        Path arquivo = diretorio.resolve(ARQUIVO_DESCARTADOS);
+        if (Files.exists(arquivo)) {
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+                lerRegistros(canal, 0, canal.size(), Integer.MAX_VALUE, registros);
+            }
+        }
+        return registros;
+    }
+
+    int getSegmentos() { return segmentos.size(); }
+
+    long getOffsetDuravel() { return offsetDuravel; }
+
+    @Override
+    public void close() throws IOException {
+        escrita.close();
+        if (leitura != null) {
+            leitura.close();
+        }
+        if (descartados != null) {
+            descartados.close();
+        }
+    }
+
+    private static ByteBuffer serializar(List<RegistroVoto> registros) {
+        int total = 0;
+        for (RegistroVoto registro : registros) {
+            total += CABECALHO_REGISTRO + registro.tamanhoSerializado();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        CRC32 crc = new CRC32();
+        for (RegistroVoto registro : registros) {
+            int inicio = buffer.position();
+            buffer.position(inicio + CABECALHO_REGISTRO);
+            registro.escrever(buffer);
+            int tamanho = buffer.position() - inicio - CABECALHO_REGISTRO;
+
+            crc.reset();
+            crc.update(buffer.slice(inicio + CABECALHO_REGISTRO, tamanho));
+            buffer.putInt(inicio, tamanho).putInt(inicio + 4, (int) crc.getValue());
+        }
+        return buffer.flip();
+    }
+
+    private void rolar() throws IOException {
+        escrita.close();
+        baseEscrita += posicaoEscrita;
+        posicaoEscrita = 0;
+
+        Path novo = arquivoSegmento(baseEscrita);
+        escrita = FileChannel.open(novo, StandardOpenOption.CREATE_NEW,
+                                   StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segmentos.put(baseEscrita, novo);
+        logger.info("Novo segmento de journal: {}", novo);
+    }
+
+    private FileChannel canalLeitura(Map.Entry<Long, Path> segmento) throws IOException {
+        if (baseLeitura != segmento.getKey()) {
+            if (leitura != null) {
+                leitura.close();
+            }
+            leitura = FileChannel.open(segmento.getValue(), StandardOpenOption.READ);
+            baseLeitura = segmento.getKey();
+        }
+        return leitura;
+    }
+
+    // Lê registros válidos em [posicao, fim) do segmento até o destino ter "maximo" itens; para no
+    // primeiro incompleto ou corrompido e devolve a posição logo depois do último registro válido.
+    // Com destino nulo apenas valida.
+    private long lerRegistros(FileChannel canal, long posicao, long fim, int maximo,
+                              List<RegistroVoto> destino) throws IOException {
+        ByteBuffer bloco = ByteBuffer.allocate(TAMANHO_BLOCO_LEITURA);
+        CRC32 crc = new CRC32();
+
+        while (posicao < fim && (destino == null || destino.size() < maximo)) {
+            bloco.clear();
+            bloco.limit((int) Math.min(bloco.capacity(), fim - posicao));
+            while (bloco.hasRemaining() && canal.read(bloco, posicao + bloco.position()) > 0) {
+                // continua até encher o bloco ou chegar ao fim do arquivo
+            }
+            bloco.flip();
+
+            int consumidos = 0;
+            while (bloco.remaining() >= CABECALHO_REGISTRO && (destino == null || destino.size() < maximo)) {
+                int tamanho = bloco.getInt(consumidos);
+                int esperado = bloco.getInt(consumidos + 4);
+                if (tamanho <= 0 || tamanho > TAMANHO_MAXIMO_REGISTRO) {
+                    return posicao + consumidos;
+                }
+                if (bloco.limit() - consumidos - CABECALHO_REGISTRO < tamanho) {
+                    break;
+                }
+
+                ByteBuffer conteudo = bloco.slice(consumidos + CABECALHO_REGISTRO, tamanho);
+                crc.reset();
+                crc.update(conteudo.duplicate());
+                if ((int) crc.getValue() != esperado) {
+                    return posicao + consumidos;
+                }
+
+                if (destino != null) {
+                    destino.add(RegistroVoto.ler(conteudo));
+                }
+                consumidos += CABECALHO_REGISTRO + tamanho;
+                bloco.position(consumidos);
+            }
+
+            if (consumidos == 0) {
+                // Registro incompleto até o fim do que foi escrito
+                return posicao;
+            }
+            posicao += consumidos;
+        }
+
+        return posicao;
+    }
+
+    private Path arquivoSegmento(long base) {
+        return diretorio.resolve(String.format("%s%020d%s", PREFIXO, base, EXTENSAO));
+    }
+}
@@ -0,0 +1,297 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.AssociadoChaveService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Motor de ingestão de votos: cada sessão pertence a um único shard (hash do sessaoId),
+// que valida, deduplica e grava em lote sem disputar locks com outras threads.
+// As threads HTTP apenas publicam o comando e aguardam o futuro.
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.ingestao", name = "enabled", havingValue = "true")
+public class ProcessadorVotos implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessadorVotos.class);
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private GravadorLoteVotos gravador;
+
+    @Autowired
+    private AssociadoChaveService associadoChaveService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${cooperativa.ingestao.shards:4}")
+    private int quantidadeShards;
+
+    @Value("${cooperativa.ingestao.capacidade:8192}")
+    private int capacidade;
+
+    @Value("${cooperativa.ingestao.lote-maximo:256}")
+    private int loteMaximo;
+
+    @Value("${cooperativa.ingestao.revalidacao-sessao-ms:1000}")
+    private long revalidacaoMillis;
+
+    @Value("${cooperativa.ingestao.timeout-ms:10000}")
+    private long timeoutMillis;
+
+    // Vazio desliga os snapshots: as sessões são sempre recarregadas do banco
+    @Value("${cooperativa.ingestao.snapshot.diretorio:}")
+    private String diretorioSnapshots;
+
+    @Value("${cooperativa.ingestao.snapshot.intervalo-ms:5000}")
+    private long intervaloSnapshotMillis;
+
+    // Ids antes da marca d'água do snapshot relidos na subida, para votos confirmados fora da ordem do id
+    @Value("${cooperativa.ingestao.snapshot.janela-reaplicacao:10000}")
+    private long janelaReaplicacao;
+
+    // Vazio desliga o journal: os votos são gravados no banco antes da resposta
+    @Value("${cooperativa.ingestao.journal.diretorio:}")
+    private String diretorioJournal;
+
+    @Value("${cooperativa.ingestao.journal.tamanho-segmento-mb:64}")
+    private long tamanhoSegmentoMb;
+
+    @Value("${cooperativa.ingestao.journal.lote-projecao:1000}")
+    private int loteProjecao;
+
+    private ShardVotos[] shards;
+    private JournalVotos[] journals;
+    private ProjetorJournal[] projetores;
+    private volatile boolean executando;
+
+    public VotoResponse registrarVoto(Long sessaoId, VotoRequest request) {
+        CompletableFuture<VotoResponse> resultado = publicar(sessaoId, request);
+
+        try {
+            return resultado.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            // O voto pode ainda ser gravado; uma nova tentativa recebe "já votou"
+            throw new ServicoSobrecarregadoException("Tempo esgotado aguardando o registro do voto");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Registro do voto interrompido");
+        }
+    }
+
+    public CompletableFuture<VotoResponse> publicar(Long sessaoId, VotoRequest request) {
+        // A chave é resolvida na thread da requisição para o shard não esperar pelo dicionário
+        int associadoChave = associadoChaveService.chave(request.getAssociadoId());
+        ComandoVoto comando = ComandoVoto.voto(sessaoId, request.getAssociadoId(), associadoChave, request.getVoto());
+
+        if (!shard(sessaoId).publicar(comando)) {
+            throw new ServicoSobrecarregadoException("Fila de votos da sessão está cheia");
+        }
+
+        return comando.getResultado();
+    }
+
+    @EventListener
+    public void onSessaoEncerrada(SessaoEncerradaEvent event) {
+        if (executando) {
+            // Se a fila estiver cheia a revalidação periódica do shard acaba percebendo o encerramento
+            shard(event.getSessaoId()).publicar(ComandoVoto.encerramento(event.getSessaoId()));
+        }
+    }
+
+    public int getPendentes() {
+        int pendentes = 0;
+        for (ShardVotos shard : shards) {
+            pendentes += shard.getPendentes();
+        }
+        return pendentes;
+    }
+
+    // Bytes do journal ainda não aplicados no banco
+    public long getPendentesProjecao() {
+        long pendentes = 0;
+        if (projetores != null) {
+            for (ProjetorJournal projetor : projetores) {
+                pendentes += projetor.getPendentes();
+            }
+        }
+        return pendentes;
+    }
+
+    int indiceShard(Long sessaoId) {
+        return Math.floorMod(Long.hashCode(sessaoId * 0x9E3779B97F4A7C15L), shards.length);
+    }
+
+    ShardVotos shard(Long sessaoId) {
+        return shards[indiceShard(sessaoId)];
+    }
+
+    @Override
+    public void start() {
+        SnapshotVotantes snapshots = diretorioSnapshots.isBlank() ? null : new SnapshotVotantes(Path.of(diretorioSnapshots));
+
+        // Antes de aceitar votos, tudo o que ficou no journal é aplicado no banco
+        journals = new JournalVotos[quantidadeShards];
+        if (!diretorioJournal.isBlank()) {
+            recuperarJournals(Path.of(diretorioJournal));
+        }
+
+        shards = new ShardVotos[quantidadeShards];
+        for (int i = 0; i < quantidadeShards; i++) {
+            shards[i] = new ShardVotos(i, capacidade, loteMaximo, revalidacaoMillis,
+                                      sessaoRepository, votoRepository, gravador, associadoChaveService,
+                                      snapshots, intervaloSnapshotMillis, janelaReaplicacao, journals[i]);
+            shards[i].iniciar();
+        }
+
+        if (!diretorioJournal.isBlank()) {
+            projetores = new ProjetorJournal[quantidadeShards];
+            for (int i = 0; i < quantidadeShards; i++) {
+                try {
+                    projetores[i] = new ProjetorJournal("shard-" + i, journals[i], gravador, loteProjecao, shards[i],
+                                                       descartados("shard-" + i));
+                } catch (IOException ex) {
+                    throw new UncheckedIOException("Falha ao abrir o journal do shard " + i, ex);
+                }
+                projetores[i].iniciar();
+            }
+        }
+        executando = true;
+
+        logger.info("Ingestão de votos iniciada com {} shards (capacidade {} por shard)", quantidadeShards, capacidade);
+
+        if (snapshots != null) {
+            // Sessões com snapshot são carregadas já na subida, sem esperar o primeiro voto
+            List<Long> sessoesSalvas = snapshots.sessoesSalvas();
+            for (Long sessaoId : sessoesSalvas) {
+                shard(sessaoId).publicar(ComandoVoto.aquecimento(sessaoId));
+            }
+            logger.info("Aquecendo {} sessões a partir dos snapshots em {}", sessoesSalvas.size(), diretorioSnapshots);
+        }
+    }
+
+    private Counter descartados(String journal) {
+        return Counter.builder("cooperativa.ingestao.journal.descartados")
+            .description("Votos confirmados pelo journal que o banco recusou na projeção")
+            .tag("journal", journal)
+            .register(meterRegistry);
+    }
+
+    private void recuperarJournals(Path diretorio) {
+        try {
+            Files.createDirectories(diretorio);
+
+            // Inclui journals de shards que não existem mais (quantidade de shards reduzida)
+            List<Path> diretoriosShards = new ArrayList<>();
+            try (DirectoryStream<Path> existentes = Files.newDirectoryStream(diretorio, "shard-*")) {
+                for (Path existente : existentes) {
+                    if (Files.isDirectory(existente) && existente.getFileName().toString().matches("shard-\\d+")) {
+                        diretoriosShards.add(existente);
+                    }
+                }
+            }
+            for (int i = 0; i < quantidadeShards; i++) {
+                Path diretorioShard = diretorio.resolve("shard-" + i);
+                if (!diretoriosShards.contains(diretorioShard)) {
+                    diretoriosShards.add(diretorioShard);
+                }
+            }
+
+            long segmentoBytes = tamanhoSegmentoMb * 1024 * 1024;
+            for (Path diretorioShard : diretoriosShards) {
+                String nome = diretorioShard.getFileName().toString();
+                JournalVotos journal = new JournalVotos(diretorioShard, segmentoBytes);
+
+                long projetados = new ProjetorJournal(nome, journal, gravador, loteProjecao, null, descartados(nome))
+                        .projetarPendentes();
+                if (projetados > 0) {
+                    logger.info("Journal {} recuperado: {} votos aplicados no banco", nome, projetados);
+                }
+
+                int indice = Integer.parseInt(nome.substring("shard-".length()));
+                if (indice < quantidadeShards) {
+                    journals[indice] = journal;
+                } else {
+                    journal.close();
+                }
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Falha ao recuperar o journal de votos em " + diretorio, ex);
+        }
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        for (ShardVotos shard : shards) {
+            try {
+                shard.parar();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        // Depois que os shards param, o restante do journal é aplicado no banco
+        if (projetores != null) {
+            for (int i = 0; i < projetores.length; i++) {
+                try {
+                    projetores[i].parar();
+                    journals[i].close();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } catch (IOException ex) {
+                    logger.warn("Falha ao fechar o journal do shard {}: {}", i, ex.getMessage());
+                }
+            }
+        }
+
+        logger.info("Ingestão de votos finalizada");
+    }
+
+    // Sobe antes do servidor web e para depois dele: nenhuma requisição chega sem shards
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+}
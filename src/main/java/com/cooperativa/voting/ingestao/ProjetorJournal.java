@@ -0,0 +1,155 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentoAtual;
+import com.cooperativa.voting.model.Voto;
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+// Aplica no banco, em lotes, os votos já confirmados no journal de um shard e avança o
+// offset projetado. Falhas do banco não afetam o aceite de votos: o projetor apenas
+// espera e tenta de novo a partir do mesmo offset. Um voto que o banco recusa (e que não é
+// repetição de um já gravado) vai para o descartados.journal e conta em descartados.
+class ProjetorJournal implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjetorJournal.class);
+
+    private static final long ESPERA_OCIOSO_NANOS = 5_000_000L;
+    private static final long ESPERA_FALHA_NANOS = 1_000_000_000L;
+
+    private final String nome;
+    private final JournalVotos journal;
+    private final GravadorLoteVotos gravador;
+    private final int lote;
+    private final ShardVotos shard;
+    private final Counter descartados;
+
+    private volatile Thread thread;
+    private volatile boolean ativo = true;
+    private long projetado;
+
+    // shard nulo na recuperação de journals de shards que não existem mais
+    ProjetorJournal(String nome, JournalVotos journal, GravadorLoteVotos gravador, int lote,
+                    ShardVotos shard, Counter descartados) throws IOException {
+        this.nome = nome;
+        this.journal = journal;
+        this.gravador = gravador;
+        this.lote = lote;
+        this.shard = shard;
+        this.descartados = descartados;
+        this.projetado = journal.lerProjetado();
+    }
+
+    void iniciar() {
+        thread = new Thread(() -> CompartimentoAtual.executar(Compartimento.VOTACAO, this), "projetor-journal-" + nome);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Para a thread e projeta o que faltar, para o banco ficar em dia num desligamento normal
+    void parar() throws InterruptedException {
+        ativo = false;
+        Thread atual = thread;
+        if (atual != null) {
+            LockSupport.unpark(atual);
+            atual.join(5000);
+        }
+        try {
+            projetarPendentes();
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Votos do journal {} ficaram pendentes de projeção: {}", nome, ex.getMessage());
+        }
+    }
+
+    // Projeta tudo o que já está no journal; usado na recuperação antes de aceitar votos
+    long projetarPendentes() throws IOException {
+        long projetados = 0;
+        int quantidade;
+        while ((quantidade = projetarLote()) > 0) {
+            projetados += quantidade;
+        }
+        return projetados;
+    }
+
+    long getPendentes() {
+        return journal.getOffsetDuravel() - projetado;
+    }
+
+    @Override
+    public void run() {
+        while (ativo) {
+            try {
+                if (projetarLote() == 0) {
+                    LockSupport.parkNanos(this, ESPERA_OCIOSO_NANOS);
+                }
+            } catch (IOException | RuntimeException ex) {
+                logger.warn("Falha ao projetar journal {} a partir do offset {}, tentando novamente: {}",
+                           nome, projetado, ex.getMessage());
+                LockSupport.parkNanos(this, ESPERA_FALHA_NANOS);
+            }
+        }
+    }
+
+    private int projetarLote() throws IOException {
+        List<RegistroVoto> registros = new ArrayList<>(lote);
+        long proximo = journal.ler(projetado, lote, registros);
+        if (registros.isEmpty()) {
+            return 0;
+        }
+
+        List<Voto> votos = gravar(registros);
+        journal.salvarProjetado(proximo);
+        projetado = proximo;
+        journal.podar(proximo);
+
+        if (shard != null) {
+            informarShard(votos);
+        }
+        return registros.size();
+    }
+
+    private List<Voto> gravar(List<RegistroVoto> registros) throws IOException {
+        try {
+            return gravador.projetar(registros);
+        } catch (DataIntegrityViolationException ex) {
+            // Um crash entre o commit e a gravação do offset faz o lote ser projetado de novo:
+            // os votos que já estão no banco são ignorados e os demais gravados um a um
+            List<Voto> votos = new ArrayList<>(registros.size());
+            for (RegistroVoto registro : registros) {
+                try {
+                    votos.addAll(gravador.projetar(List.of(registro)));
+                } catch (DataIntegrityViolationException individual) {
+                    if (gravador.jaGravado(registro)) {
+                        logger.debug("Voto do journal {} já estava gravado (sessão {}, associado {})",
+                                    nome, registro.getSessaoId(), registro.getAssociadoId());
+                    } else {
+                        // O voto foi confirmado ao cliente: não pode sumir só com um log
+                        journal.descartar(registro);
+                        descartados.increment();
+                        logger.error("Voto do journal {} recusado pelo banco e movido para os descartados (sessão {}, associado {}): {}",
+                                    nome, registro.getSessaoId(), registro.getAssociadoId(), individual.getMessage());
+                    }
+                }
+            }
+            return votos;
+        }
+    }
+
+    // Avança a marca d'água do snapshot de votantes de cada sessão com o maior id gravado
+    private void informarShard(List<Voto> votos) {
+        Map<Long, Long> ultimoPorSessao = new HashMap<>();
+        for (Voto voto : votos) {
+            ultimoPorSessao.merge(voto.getSessao().getId(), voto.getId(), Math::max);
+        }
+        ultimoPorSessao.forEach((sessaoId, votoId) -> shard.publicar(ComandoVoto.projetado(sessaoId, votoId)));
+    }
+}
@@ -0,0 +1,62 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.TipoVoto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Voto aceito por um shard, como é gravado no journal:
+// sessaoId, chave do associado, tipo, votadoEm (segundos + nanos) e associadoId em UTF-8
+class RegistroVoto {
+
+    private final Long sessaoId;
+    private final String associadoId;
+    private final int associadoChave;
+    private final TipoVoto tipo;
+    private final LocalDateTime votadoEm;
+
+    RegistroVoto(Long sessaoId, String associadoId, int associadoChave, TipoVoto tipo, LocalDateTime votadoEm) {
+        this.sessaoId = sessaoId;
+        this.associadoId = associadoId;
+        this.associadoChave = associadoChave;
+        this.tipo = tipo;
+        this.votadoEm = votadoEm;
+    }
+
+    int tamanhoSerializado() {
+        return 8 + 4 + 1 + 8 + 4 + 2 + associadoId.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    void escrever(ByteBuffer destino) {
+        byte[] associado = associadoId.getBytes(StandardCharsets.UTF_8);
+        destino.putLong(sessaoId)
+               .putInt(associadoChave)
+               .put((byte) tipo.ordinal())
+               .putLong(votadoEm.toEpochSecond(ZoneOffset.UTC))
+               .putInt(votadoEm.getNano())
+               .putShort((short) associado.length)
+               .put(associado);
+    }
+
+    static RegistroVoto ler(ByteBuffer origem) {
+        long sessaoId = origem.getLong();
+        int associadoChave = origem.getInt();
+        TipoVoto tipo = TipoVoto.values()[origem.get()];
+        LocalDateTime votadoEm = LocalDateTime.ofEpochSecond(origem.getLong(), origem.getInt(), ZoneOffset.UTC);
+        byte[] associado = new byte[origem.getShort()];
+        origem.get(associado);
+        return new RegistroVoto(sessaoId, new String(associado, StandardCharsets.UTF_8), associadoChave, tipo, votadoEm);
+    }
+
+    Long getSessaoId() { return sessaoId; }
+
+    String getAssociadoId() { return associadoId; }
+
+    int getAssociadoChave() { return associadoChave; }
+
+    TipoVoto getTipo() { return tipo; }
+
+    LocalDateTime getVotadoEm() { return votadoEm; }
+}
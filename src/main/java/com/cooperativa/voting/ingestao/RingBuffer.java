@@ -0,0 +1,85 @@
+package com.cooperativa.voting.ingestao;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Fila circular limitada, sem locks, para vários produtores e um único consumidor.
+// Cada posição carrega uma sequência que diz se ela está livre para o produtor da
+// volta atual ou preenchida para o consumidor (esquema de Dmitry Vyukov).
+public class RingBuffer<E> {
+
+    private final int capacidade;
+    private final int mascara;
+    private final AtomicReferenceArray<E> elementos;
+    private final AtomicLongArray sequencias;
+    private final AtomicLong cauda = new AtomicLong();
+
+    // Escrito apenas pelo consumidor; volatile só para leitura de tamanho por outras threads
+    private volatile long cabeca;
+
+    public RingBuffer(int capacidade) {
+        if (capacidade < 2 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser potência de 2: " + capacidade);
+        }
+        this.capacidade = capacidade;
+        this.mascara = capacidade - 1;
+        this.elementos = new AtomicReferenceArray<>(capacidade);
+        this.sequencias = new AtomicLongArray(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            sequencias.set(i, i);
+        }
+    }
+
+    // Retorna false quando a fila está cheia
+    public boolean offer(E elemento) {
+        if (elemento == null) {
+            throw new NullPointerException("Elemento não pode ser nulo");
+        }
+
+        long posicao = cauda.get();
+        while (true) {
+            int indice = (int) (posicao & mascara);
+            long diferenca = sequencias.get(indice) - posicao;
+
+            if (diferenca == 0) {
+                if (cauda.compareAndSet(posicao, posicao + 1)) {
+                    elementos.lazySet(indice, elemento);
+                    sequencias.set(indice, posicao + 1);
+                    return true;
+                }
+                posicao = cauda.get();
+            } else if (diferenca < 0) {
+                return false;
+            } else {
+                posicao = cauda.get();
+            }
+        }
+    }
+
+    // Deve ser chamado apenas pela thread consumidora
+    public E poll() {
+        long posicao = cabeca;
+        int indice = (int) (posicao & mascara);
+
+        if (sequencias.get(indice) != posicao + 1) {
+            return null;
+        }
+
+        E elemento = elementos.get(indice);
+        elementos.lazySet(indice, null);
+        sequencias.set(indice, posicao + capacidade);
+        cabeca = posicao + 1;
+        return elemento;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int size() {
+        return (int) Math.max(0, Math.min(capacidade, cauda.get() - cabeca));
+    }
+
+    public int getCapacidade() { return capacidade; }
+}
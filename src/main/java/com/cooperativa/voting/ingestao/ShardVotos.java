@@ -0,0 +1,393 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentoAtual;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.exception.VotoDuplicadoException;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.AssociadoChaveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+// Um shard é uma thread única que consome seu ring buffer. Todo o estado das sessões
+// atribuídas a ele (votantes e totais) é lido e escrito só por essa thread, inclusive
+// a gravação periódica dos snapshots, feita entre lotes.
+class ShardVotos implements Runnable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardVotos.class);
+
+    private final int indice;
+    private final RingBuffer<ComandoVoto> fila;
+    private final int loteMaximo;
+    private final long revalidacaoMillis;
+    private final SessaoRepository sessaoRepository;
+    private final VotoRepository votoRepository;
+    private final GravadorLoteVotos gravador;
+    private final AssociadoChaveService associadoChaveService;
+    private final SnapshotVotantes snapshots;
+    private final long intervaloSnapshotMillis;
+    private final long janelaReaplicacao;
+    private final JournalVotos journal;
+
+    private final Map<Long, EstadoSessao> sessoes = new ConcurrentHashMap<>();
+    private final List<ComandoVoto> lote;
+    private final List<ComandoVoto> aceitos;
+    private long ultimoSnapshot = System.currentTimeMillis();
+
+    private volatile Thread thread;
+    private volatile boolean ativo = true;
+    private volatile boolean aguardando;
+
+    ShardVotos(int indice, int capacidade, int loteMaximo, long revalidacaoMillis,
+               SessaoRepository sessaoRepository, VotoRepository votoRepository, GravadorLoteVotos gravador,
+               AssociadoChaveService associadoChaveService, SnapshotVotantes snapshots,
+               long intervaloSnapshotMillis, long janelaReaplicacao, JournalVotos journal) {
+        this.indice = indice;
+        this.fila = new RingBuffer<>(capacidade);
+        this.loteMaximo = loteMaximo;
+        this.revalidacaoMillis = revalidacaoMillis;
+        this.sessaoRepository = sessaoRepository;
+        this.votoRepository = votoRepository;
+        this.gravador = gravador;
+        this.associadoChaveService = associadoChaveService;
+        this.snapshots = snapshots;
+        this.intervaloSnapshotMillis = intervaloSnapshotMillis;
+        this.janelaReaplicacao = janelaReaplicacao;
+        this.journal = journal;
+        this.lote = new ArrayList<>(loteMaximo);
+        this.aceitos = new ArrayList<>(loteMaximo);
+    }
+
+    void iniciar() {
+        thread = new Thread(() -> CompartimentoAtual.executar(Compartimento.VOTACAO, this), "ingestao-votos-shard-" + indice);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    void parar() throws InterruptedException {
+        ativo = false;
+        Thread atual = thread;
+        if (atual != null) {
+            LockSupport.unpark(atual);
+            atual.join(5000);
+        }
+    }
+
+    boolean publicar(ComandoVoto comando) {
+        if (!fila.offer(comando)) {
+            return false;
+        }
+        if (aguardando) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    int getPendentes() {
+        return fila.size();
+    }
+
+    // Leitura por outras threads: só os totais (volatile) do estado são confiáveis
+    EstadoSessao getEstado(Long sessaoId) {
+        return sessoes.get(sessaoId);
+    }
+
+    @Override
+    public void run() {
+        while (ativo || !fila.isEmpty()) {
+            ComandoVoto comando;
+            while (lote.size() < loteMaximo && (comando = fila.poll()) != null) {
+                lote.add(comando);
+            }
+
+            if (lote.isEmpty()) {
+                salvarSnapshots(false);
+                aguardar();
+                continue;
+            }
+
+            try {
+                processar(lote);
+            } catch (RuntimeException ex) {
+                logger.error("Falha inesperada no shard {}", indice, ex);
+                lote.forEach(c -> {
+                    if (c.isVoto()) {
+                        c.getResultado().completeExceptionally(ex);
+                    }
+                });
+            } finally {
+                lote.clear();
+                aceitos.clear();
+            }
+
+            salvarSnapshots(false);
+        }
+
+        salvarSnapshots(true);
+    }
+
+    private void salvarSnapshots(boolean forcar) {
+        long agora = System.currentTimeMillis();
+        if (snapshots == null || (!forcar && agora - ultimoSnapshot < intervaloSnapshotMillis)) {
+            return;
+        }
+        ultimoSnapshot = agora;
+
+        for (EstadoSessao estado : sessoes.values()) {
+            if (!estado.isAlterado() || !estado.isAberta()) {
+                continue;
+            }
+            try {
+                // O snapshot gravado passa a ser a base (mapeada) e o delta em heap é esvaziado
+                SnapshotVotantes.Snapshot snapshot = snapshots.salvar(estado);
+                estado.restaurar(snapshot.getSim(), snapshot.getNao(), snapshot.getUltimoVotoId());
+                estado.marcarSalvo();
+            } catch (IOException | RuntimeException ex) {
+                logger.warn("Falha ao gravar snapshot da sessão {} no shard {}: {}",
+                           estado.getSessaoId(), indice, ex.getMessage());
+            }
+        }
+    }
+
+    private void aguardar() {
+        aguardando = true;
+        if (fila.isEmpty() && ativo) {
+            LockSupport.parkNanos(this, 1_000_000L);
+        }
+        aguardando = false;
+    }
+
+    private void processar(List<ComandoVoto> comandos) {
+        for (ComandoVoto comando : comandos) {
+            if (comando.getAcao() == ComandoVoto.Acao.ENCERRAMENTO) {
+                encerrar(comando.getSessaoId(), sessoes.get(comando.getSessaoId()));
+                continue;
+            }
+
+            if (comando.getAcao() == ComandoVoto.Acao.AQUECIMENTO) {
+                aquecer(comando.getSessaoId());
+                continue;
+            }
+
+            if (comando.getAcao() == ComandoVoto.Acao.PROJETADO) {
+                EstadoSessao estado = sessoes.get(comando.getSessaoId());
+                if (estado != null && estado.isAberta()) {
+                    estado.aplicado(comando.getVotoId());
+                }
+                continue;
+            }
+
+            try {
+                EstadoSessao estado = estado(comando.getSessaoId());
+
+                // Verificar se a sessão está aberta
+                if (!estado.isAberta()) {
+                    throw new VotacaoEncerradaException(comando.getSessaoId());
+                }
+
+                // Verificar se o associado já votou nesta sessão
+                if (!estado.registrar(comando.getAssociadoChave(), comando.getTipo())) {
+                    throw VotoDuplicadoException.instancia();
+                }
+
+                aceitos.add(comando);
+            } catch (RuntimeException ex) {
+                comando.getResultado().completeExceptionally(ex);
+            }
+        }
+
+        if (aceitos.isEmpty()) {
+            return;
+        }
+        if (journal != null) {
+            anexarAoJournal(aceitos);
+        } else {
+            gravar(aceitos);
+        }
+    }
+
+    // O voto é confirmado ao cliente assim que o lote está no journal (após o fsync);
+    // o id só existe depois que o projetor grava no banco
+    private void anexarAoJournal(List<ComandoVoto> comandos) {
+        LocalDateTime agora = LocalDateTime.now();
+        List<RegistroVoto> registros = new ArrayList<>(comandos.size());
+        for (ComandoVoto comando : comandos) {
+            registros.add(new RegistroVoto(comando.getSessaoId(), comando.getAssociadoId(),
+                                           comando.getAssociadoChave(), comando.getTipo(), agora));
+        }
+
+        try {
+            journal.anexar(registros);
+        } catch (IOException ex) {
+            logger.error("Falha ao gravar {} votos no journal do shard {}", comandos.size(), indice, ex);
+            for (ComandoVoto comando : comandos) {
+                falhar(comando, new ServicoSobrecarregadoException("Falha ao gravar o voto no journal"));
+            }
+            return;
+        }
+
+        for (ComandoVoto comando : comandos) {
+            comando.getResultado().complete(new VotoResponse(
+                null,
+                comando.getSessaoId(),
+                comando.getAssociadoId(),
+                comando.getTipo(),
+                agora
+            ));
+        }
+    }
+
+    private void gravar(List<ComandoVoto> comandos) {
+        try {
+            completar(comandos, gravador.gravar(comandos));
+        } catch (RuntimeException ex) {
+            if (comandos.size() == 1) {
+                falhar(comandos.get(0), ex);
+                return;
+            }
+
+            // Um voto inválido não pode derrubar o lote inteiro: regrava um a um
+            logger.warn("Falha ao gravar lote de {} votos no shard {}, regravando individualmente: {}",
+                       comandos.size(), indice, ex.getMessage());
+            for (ComandoVoto comando : comandos) {
+                try {
+                    completar(List.of(comando), gravador.gravar(List.of(comando)));
+                } catch (RuntimeException individual) {
+                    falhar(comando, individual);
+                }
+            }
+        }
+    }
+
+    private void completar(List<ComandoVoto> comandos, List<Voto> votos) {
+        for (int i = 0; i < comandos.size(); i++) {
+            ComandoVoto comando = comandos.get(i);
+            Voto voto = votos.get(i);
+            EstadoSessao estado = sessoes.get(comando.getSessaoId());
+            if (estado != null) {
+                estado.aplicado(voto.getId());
+            }
+            comando.getResultado().complete(new VotoResponse(
+                voto.getId(),
+                comando.getSessaoId(),
+                voto.getAssociadoId(),
+                voto.getTipo(),
+                voto.getVotadoEm()
+            ));
+        }
+    }
+
+    private void falhar(ComandoVoto comando, RuntimeException ex) {
+        EstadoSessao estado = sessoes.get(comando.getSessaoId());
+        // Violação do índice único significa que o voto existe (gravado por outra instância)
+        if (estado != null && !(ex instanceof DataIntegrityViolationException)) {
+            estado.desfazer(comando.getAssociadoChave(), comando.getTipo());
+        }
+        comando.getResultado().completeExceptionally(ex);
+    }
+
+    private EstadoSessao estado(Long sessaoId) {
+        long agora = System.currentTimeMillis();
+        EstadoSessao estado = sessoes.get(sessaoId);
+
+        if (estado == null) {
+            estado = carregar(sessaoId, agora);
+            sessoes.put(sessaoId, estado);
+        } else if (agora - estado.getVerificadoEm() > revalidacaoMillis) {
+            // Outra instância (ou o banco) pode ter encerrado a sessão
+            Sessao sessao = buscarSessao(sessaoId);
+            estado.atualizar(sessao.getStatus(), sessao.getFimEm(), agora);
+            if (!estado.isAberta()) {
+                encerrar(sessaoId, estado);
+            }
+        }
+
+        return estado;
+    }
+
+    private EstadoSessao carregar(Long sessaoId, long agora) {
+        Sessao sessao = buscarSessao(sessaoId);
+        EstadoSessao estado = new EstadoSessao(sessaoId, sessao.getStatus(), sessao.getFimEm(), agora);
+
+        if (!estado.isAberta()) {
+            if (snapshots != null) {
+                snapshots.remover(sessaoId);
+            }
+            return estado;
+        }
+
+        // O snapshot vira a base mapeada e só a cauda posterior a ele é relida do banco. Um voto com id
+        // menor que a marca d'água pode ter sido confirmado depois dela (ids IDENTITY não seguem a ordem
+        // de commit), então a releitura começa janela-reaplicacao ids antes dela; o que já está nos
+        // bitmaps é ignorado e só o que falta entra no delta
+        SnapshotVotantes.Snapshot snapshot = snapshots != null ? snapshots.carregar(sessaoId).orElse(null) : null;
+        long desde = 0;
+        if (snapshot != null) {
+            estado.restaurar(snapshot.getSim(), snapshot.getNao(), snapshot.getUltimoVotoId());
+            desde = Math.max(0, snapshot.getUltimoVotoId() - janelaReaplicacao);
+        }
+
+        int reaplicados = 0;
+        for (Object[] linha : votoRepository.findVotantesBySessaoIdAposVoto(sessaoId, desde)) {
+            Integer chave = (Integer) linha[2];
+            if (chave == null) {
+                chave = associadoChaveService.chave((String) linha[1]);
+            }
+            if (estado.registrar(chave, (TipoVoto) linha[3])) {
+                reaplicados++;
+            }
+            estado.aplicado((Long) linha[0]);
+        }
+
+        if (snapshot != null) {
+            logger.info("Shard {} restaurou sessão {} do snapshot (último voto {}) e reaplicou {} votos após o id {}",
+                       indice, sessaoId, snapshot.getUltimoVotoId(), reaplicados, desde);
+        } else {
+            logger.debug("Shard {} carregou sessão {} com {} votos ({} bytes de votantes)", indice, sessaoId,
+                        reaplicados, estado.getTamanhoVotantesEmBytes());
+        }
+
+        return estado;
+    }
+
+    private void aquecer(Long sessaoId) {
+        try {
+            estado(sessaoId);
+        } catch (ResourceNotFoundException ex) {
+            // Sessão removida do banco: o snapshot órfão é descartado
+            if (snapshots != null) {
+                snapshots.remover(sessaoId);
+            }
+        }
+    }
+
+    private void encerrar(Long sessaoId, EstadoSessao estado) {
+        if (estado != null) {
+            estado.encerrar();
+        }
+        if (snapshots != null) {
+            snapshots.remover(sessaoId);
+        }
+    }
+
+    private Sessao buscarSessao(Long sessaoId) {
+        return sessaoRepository.findById(sessaoId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sessão", "id", sessaoId));
+    }
+}
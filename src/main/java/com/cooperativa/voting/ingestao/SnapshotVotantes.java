@@ -0,0 +1,197 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.TipoVoto;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.buffer.MutableRoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+// Snapshots dos bitmaps de votantes por sessão, um arquivo por sessão:
+//
+//   cabeçalho (40 bytes): magic, versão, sessaoId, último Voto.id aplicado,
+//                         tamanho do bitmap SIM, tamanho do bitmap NAO, CRC32 dos bitmaps
+//   bitmap SIM e bitmap NAO no formato serializado do Roaring
+//
+// O arquivo é gravado ao lado e renomeado atomicamente, então um crash deixa o snapshot
+// anterior ou o novo, nunca um pela metade. Na leitura o arquivo é mapeado em memória e os
+// bitmaps são usados direto do mapeamento, sem cópia para o heap.
+class SnapshotVotantes {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotVotantes.class);
+
+    private static final int MAGIC = 0x564F5442;
+    private static final int VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 40;
+    private static final String PREFIXO = "sessao-";
+    private static final String EXTENSAO = ".votantes";
+
+    private final Path diretorio;
+
+    SnapshotVotantes(Path diretorio) {
+        this.diretorio = diretorio;
+        try {
+            Files.createDirectories(diretorio);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível criar o diretório de snapshots " + diretorio, ex);
+        }
+    }
+
+    static class Snapshot {
+
+        private final long ultimoVotoId;
+        private final ImmutableRoaringBitmap sim;
+        private final ImmutableRoaringBitmap nao;
+
+        Snapshot(long ultimoVotoId, ImmutableRoaringBitmap sim, ImmutableRoaringBitmap nao) {
+            this.ultimoVotoId = ultimoVotoId;
+            this.sim = sim;
+            this.nao = nao;
+        }
+
+        long getUltimoVotoId() { return ultimoVotoId; }
+
+        ImmutableRoaringBitmap getSim() { return sim; }
+
+        ImmutableRoaringBitmap getNao() { return nao; }
+    }
+
+    // Grava o estado atual da sessão e devolve o snapshot já mapeado do disco
+    Snapshot salvar(EstadoSessao estado) throws IOException {
+        MutableRoaringBitmap sim = estado.votantes(TipoVoto.SIM);
+        MutableRoaringBitmap nao = estado.votantes(TipoVoto.NAO);
+        sim.runOptimize();
+        nao.runOptimize();
+
+        ByteBuffer bitmaps = ByteBuffer.allocate(sim.serializedSizeInBytes() + nao.serializedSizeInBytes());
+        sim.serialize(bitmaps);
+        nao.serialize(bitmaps);
+        bitmaps.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(bitmaps.duplicate());
+
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO)
+                .putInt(MAGIC)
+                .putInt(VERSAO)
+                .putLong(estado.getSessaoId())
+                .putLong(estado.getUltimoVotoId())
+                .putInt(sim.serializedSizeInBytes())
+                .putInt(nao.serializedSizeInBytes())
+                .putLong(crc.getValue());
+        cabecalho.flip();
+
+        Path arquivo = arquivo(estado.getSessaoId());
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (cabecalho.hasRemaining() || bitmaps.hasRemaining()) {
+                canal.write(new ByteBuffer[] {cabecalho, bitmaps});
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        return carregar(estado.getSessaoId())
+                .orElseThrow(() -> new IOException("Snapshot recém-gravado ilegível: " + arquivo));
+    }
+
+    // Snapshot ausente, corrompido ou de outra versão é ignorado: a sessão é recarregada do banco
+    Optional<Snapshot> carregar(Long sessaoId) {
+        Path arquivo = arquivo(sessaoId);
+        if (!Files.exists(arquivo)) {
+            return Optional.empty();
+        }
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long tamanho = canal.size();
+            if (tamanho < TAMANHO_CABECALHO) {
+                return invalido(arquivo, "arquivo truncado");
+            }
+
+            // O mapeamento continua válido depois que o canal é fechado
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+
+            if (mapa.getInt() != MAGIC || mapa.getInt() != VERSAO) {
+                return invalido(arquivo, "formato desconhecido");
+            }
+            if (mapa.getLong() != sessaoId) {
+                return invalido(arquivo, "sessão divergente");
+            }
+            long ultimoVotoId = mapa.getLong();
+            int tamanhoSim = mapa.getInt();
+            int tamanhoNao = mapa.getInt();
+            long crcEsperado = mapa.getLong();
+
+            if (tamanhoSim < 0 || tamanhoNao < 0
+                    || TAMANHO_CABECALHO + (long) tamanhoSim + tamanhoNao != tamanho) {
+                return invalido(arquivo, "tamanho divergente");
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(mapa.slice(TAMANHO_CABECALHO, tamanhoSim + tamanhoNao));
+            if (crc.getValue() != crcEsperado) {
+                return invalido(arquivo, "checksum divergente");
+            }
+
+            return Optional.of(new Snapshot(
+                ultimoVotoId,
+                new ImmutableRoaringBitmap(mapa.slice(TAMANHO_CABECALHO, tamanhoSim)),
+                new ImmutableRoaringBitmap(mapa.slice(TAMANHO_CABECALHO + tamanhoSim, tamanhoNao))
+            ));
+        } catch (IOException | RuntimeException ex) {
+            logger.warn("Falha ao ler snapshot de votantes {}: {}", arquivo, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    void remover(Long sessaoId) {
+        try {
+            Files.deleteIfExists(arquivo(sessaoId));
+        } catch (IOException ex) {
+            logger.warn("Falha ao remover snapshot da sessão {}: {}", sessaoId, ex.getMessage());
+        }
+    }
+
+    // Sessões com snapshot em disco, aquecidas na inicialização
+    List<Long> sessoesSalvas() {
+        List<Long> sessoes = new ArrayList<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*" + EXTENSAO)) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                try {
+                    sessoes.add(Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - EXTENSAO.length())));
+                } catch (NumberFormatException ex) {
+                    logger.warn("Arquivo inesperado no diretório de snapshots: {}", arquivo);
+                }
+            }
+        } catch (IOException ex) {
+            logger.warn("Falha ao listar snapshots em {}: {}", diretorio, ex.getMessage());
+        }
+        return sessoes;
+    }
+
+    private Path arquivo(Long sessaoId) {
+        return diretorio.resolve(PREFIXO + sessaoId + EXTENSAO);
+    }
+
+    private Optional<Snapshot> invalido(Path arquivo, String motivo) {
+        logger.warn("Snapshot de votantes {} ignorado: {}", arquivo, motivo);
+        return Optional.empty();
+    }
+}
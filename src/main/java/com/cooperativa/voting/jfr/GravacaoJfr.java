@@ -0,0 +1,127 @@
+package com.cooperativa.voting.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Gravação JFR contínua, em disco e circular (por idade e tamanho), com as configurações do JDK
+// (GC, locks, alocação, I/O) e os eventos da cooperativa. O dump é pedido pelo endpoint /actuator/jfr.
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.jfr", name = "enabled", havingValue = "true")
+public class GravacaoJfr implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GravacaoJfr.class);
+
+    private static final DateTimeFormatter FORMATO_ARQUIVO = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String PREFIXO_DUMP = "cooperativa-";
+
+    // "default" (cerca de 1% de overhead) ou "profile" (mais detalhe, mais custo)
+    @Value("${cooperativa.jfr.configuracao:default}")
+    private String configuracao;
+
+    @Value("${cooperativa.jfr.idade-maxima-minutos:30}")
+    private long idadeMaximaMinutos;
+
+    @Value("${cooperativa.jfr.tamanho-maximo-mb:256}")
+    private long tamanhoMaximoMb;
+
+    @Value("${cooperativa.jfr.diretorio:${java.io.tmpdir}}")
+    private String diretorio;
+
+    // Cada dump pode chegar ao tamanho máximo da gravação: só os mais recentes ficam no disco
+    @Value("${cooperativa.jfr.dumps-mantidos:3}")
+    private int dumpsMantidos;
+
+    private volatile Recording gravacao;
+
+    @Override
+    public void start() {
+        Recording nova;
+        try {
+            nova = new Recording(Configuration.getConfiguration(configuracao));
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Configuração JFR inválida: " + configuracao, ex);
+        }
+        nova.setName("cooperativa");
+        nova.setToDisk(true);
+        nova.setMaxAge(Duration.ofMinutes(idadeMaximaMinutos));
+        nova.setMaxSize(tamanhoMaximoMb * 1024 * 1024);
+        nova.enable(VotoEvento.class);
+        nova.enable(SessaoEvento.class);
+        nova.enable(VarreduraSessoesEvento.class);
+        nova.enable(ResultadoVotacaoEvento.class);
+        nova.start();
+        gravacao = nova;
+        logger.info("Gravação JFR contínua iniciada (configuração {}, {} minutos, {} MB)",
+            configuracao, idadeMaximaMinutos, tamanhoMaximoMb);
+    }
+
+    @Override
+    public void stop() {
+        gravacao.close();
+        gravacao = null;
+        logger.info("Gravação JFR encerrada");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return gravacao != null;
+    }
+
+    // Copia o que a gravação tem até agora para um arquivo novo; a gravação continua
+    public Path despejar() {
+        Recording atual = gravacao;
+        if (atual == null) {
+            throw new IllegalStateException("Gravação JFR não está ativa");
+        }
+        Path arquivo = Path.of(diretorio, PREFIXO_DUMP + LocalDateTime.now().format(FORMATO_ARQUIVO) + ".jfr");
+        try {
+            Files.createDirectories(arquivo.getParent());
+            atual.dump(arquivo);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível gravar o dump JFR em " + arquivo, ex);
+        }
+        logger.info("Dump JFR gravado em {}", arquivo);
+        apagarAntigos();
+        return arquivo;
+    }
+
+    // O nome leva a data com milissegundos: a ordem alfabética é a ordem de criação
+    private void apagarAntigos() {
+        List<Path> dumps = new ArrayList<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(Path.of(diretorio), PREFIXO_DUMP + "*.jfr")) {
+            arquivos.forEach(dumps::add);
+        } catch (IOException ex) {
+            logger.warn("Não foi possível listar os dumps JFR em {}: {}", diretorio, ex.getMessage());
+            return;
+        }
+
+        Collections.sort(dumps);
+        for (Path antigo : dumps.subList(0, Math.max(0, dumps.size() - Math.max(1, dumpsMantidos)))) {
+            try {
+                Files.deleteIfExists(antigo);
+                logger.debug("Dump JFR antigo apagado: {}", antigo);
+            } catch (IOException ex) {
+                logger.warn("Não foi possível apagar o dump JFR {}: {}", antigo, ex.getMessage());
+            }
+        }
+    }
+}
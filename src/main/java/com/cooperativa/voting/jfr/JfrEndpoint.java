@@ -0,0 +1,36 @@
+package com.cooperativa.voting.jfr;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+// POST /actuator/jfr: grava um dump da gravação contínua e devolve onde ficou o arquivo,
+// para abrir no JDK Mission Control ou com "jfr print --events cooperativa.Voto"
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(prefix = "cooperativa.jfr", name = "enabled", havingValue = "true")
+public class JfrEndpoint {
+
+    private final GravacaoJfr gravacaoJfr;
+
+    public JfrEndpoint(GravacaoJfr gravacaoJfr) {
+        this.gravacaoJfr = gravacaoJfr;
+    }
+
+    @WriteOperation
+    public Map<String, Object> despejar() {
+        Path arquivo = gravacaoJfr.despejar();
+        try {
+            return Map.of("arquivo", arquivo.toAbsolutePath().toString(), "bytes", Files.size(arquivo));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
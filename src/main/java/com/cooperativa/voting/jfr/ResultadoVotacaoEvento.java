@@ -0,0 +1,41 @@
+package com.cooperativa.voting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Cálculo de resultado que chegou ao banco. Chamadas agrupadas pelo @Coalescido geram um só
+// evento. Nas consultas em lote, sessaoId fica 0 e "sessões" traz o tamanho do lote.
+@Name("cooperativa.ResultadoVotacao")
+@Label("Resultado da votação")
+@Category({"Cooperativa", "Sessões"})
+@Description("Contagem dos votos de uma ou mais sessões")
+@StackTrace(false)
+public class ResultadoVotacaoEvento extends Event {
+
+    @Label("Sessão")
+    private long sessaoId;
+
+    @Label("Sessões")
+    private int sessoes;
+
+    public static ResultadoVotacaoEvento iniciar() {
+        ResultadoVotacaoEvento evento = new ResultadoVotacaoEvento();
+        evento.begin();
+        return evento;
+    }
+
+    public void concluir(Long sessaoId) {
+        this.sessaoId = sessaoId;
+        this.sessoes = 1;
+        commit();
+    }
+
+    public void concluirLote(int sessoes) {
+        this.sessoes = sessoes;
+        commit();
+    }
+}
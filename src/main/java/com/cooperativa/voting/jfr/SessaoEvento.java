@@ -0,0 +1,43 @@
+package com.cooperativa.voting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Abertura e encerramento manual de sessão no SessaoService. A duração vai até o fim do método;
+// o commit fica de fora.
+@Name("cooperativa.Sessao")
+@Label("Sessão")
+@Category({"Cooperativa", "Sessões"})
+@Description("Abertura ou encerramento de uma sessão de votação")
+@StackTrace(false)
+public class SessaoEvento extends Event {
+
+    public static final String ABERTURA = "abertura";
+    public static final String ENCERRAMENTO = "encerramento";
+
+    @Label("Operação")
+    private String operacao;
+
+    @Label("Pauta")
+    private long pautaId;
+
+    @Label("Sessão")
+    private long sessaoId;
+
+    public static SessaoEvento iniciar(String operacao) {
+        SessaoEvento evento = new SessaoEvento();
+        evento.begin();
+        evento.operacao = operacao;
+        return evento;
+    }
+
+    public void concluir(Long pautaId, Long sessaoId) {
+        this.pautaId = pautaId;
+        this.sessaoId = sessaoId;
+        commit();
+    }
+}
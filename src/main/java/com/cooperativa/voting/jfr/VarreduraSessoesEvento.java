@@ -0,0 +1,31 @@
+package com.cooperativa.voting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Uma execução do job de sessões expiradas, inclusive as que não encontram nenhuma
+@Name("cooperativa.VarreduraSessoes")
+@Label("Varredura de sessões expiradas")
+@Category({"Cooperativa", "Sessões"})
+@Description("Execução do job que encerra as sessões expiradas")
+@StackTrace(false)
+public class VarreduraSessoesEvento extends Event {
+
+    @Label("Sessões encerradas")
+    private int sessoesEncerradas;
+
+    public static VarreduraSessoesEvento iniciar() {
+        VarreduraSessoesEvento evento = new VarreduraSessoesEvento();
+        evento.begin();
+        return evento;
+    }
+
+    public void concluir(int sessoesEncerradas) {
+        this.sessoesEncerradas = sessoesEncerradas;
+        commit();
+    }
+}
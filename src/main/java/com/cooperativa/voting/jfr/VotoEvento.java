@@ -0,0 +1,112 @@
+package com.cooperativa.voting.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Um evento por voto no VotoService, do recebimento ao commit, com a duração de cada fase.
+// No JDK Mission Control aparece na linha da thread, ao lado de pausas de GC e esperas de lock.
+// Sem gravação ativa, begin/commit não fazem nada e o custo fica nas leituras de System.nanoTime.
+@Name("cooperativa.Voto")
+@Label("Voto")
+@Category({"Cooperativa", "Votação"})
+@Description("Registro de um voto, da busca da sessão ao commit da transação")
+@StackTrace(false)
+public class VotoEvento extends Event {
+
+    public static final String REGISTRADO = "registrado";
+    public static final String DUPLICADO = "duplicado";
+    public static final String SESSAO_ENCERRADA = "sessao-encerrada";
+    public static final String REVERTIDO = "revertido";
+
+    @Label("Sessão")
+    private long sessaoId;
+
+    @Label("Resultado")
+    private String resultado;
+
+    @Label("Busca da sessão")
+    @Timespan
+    private long buscaSessao;
+
+    @Label("Verificação de duplicidade")
+    @Timespan
+    private long verificacaoDuplicidade;
+
+    @Label("Inserção")
+    @Timespan
+    private long insercao;
+
+    @Label("Commit")
+    @Timespan
+    private long commitTransacao;
+
+    // Fim da última fase medida
+    private transient long marca;
+
+    public static VotoEvento iniciar(Long sessaoId) {
+        VotoEvento evento = new VotoEvento();
+        evento.begin();
+        evento.sessaoId = sessaoId;
+        evento.marca = System.nanoTime();
+        return evento;
+    }
+
+    public void sessaoBuscada() {
+        buscaSessao = fase();
+    }
+
+    public void duplicidadeVerificada() {
+        verificacaoDuplicidade = fase();
+    }
+
+    public void inserido() {
+        insercao = fase();
+    }
+
+    // Voto recusado antes de gravar: o evento termina aqui
+    public void recusar(String motivo) {
+        resultado = motivo;
+        commit();
+    }
+
+    // O commit acontece na saída do proxy @Transactional; o evento termina depois dele.
+    // Fora de transação (ou sem gravação ativa), termina na hora.
+    public void concluirComATransacao() {
+        if (!isEnabled() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            resultado = REGISTRADO;
+            commit();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                marca = System.nanoTime();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commitTransacao = fase();
+                    resultado = REGISTRADO;
+                } else {
+                    resultado = REVERTIDO;
+                }
+                commit();
+            }
+        });
+    }
+
+    private long fase() {
+        long agora = System.nanoTime();
+        long duracao = agora - marca;
+        marca = agora;
+        return duracao;
+    }
+}
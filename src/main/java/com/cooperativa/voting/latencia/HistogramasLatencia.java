@@ -0,0 +1,184 @@
+package com.cooperativa.voting.latencia;
+
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Histogramas de latência por endpoint em janela deslizante (intervalos x duração do intervalo),
+// sem depender de backend de métricas. Os intervalos podem ser exportados no formato de log do
+// HdrHistogram, um por endpoint (tag), para o HistogramLogAnalyzer ou o HistogramLogProcessor.
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.latencias", name = "enabled", havingValue = "true")
+public class HistogramasLatencia {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistogramasLatencia.class);
+
+    // Valores gravados em microssegundos; a coluna de máximo do log sai em milissegundos
+    private static final double MICROS_POR_MILI = 1000.0;
+
+    private final Map<String, JanelaLatencia> janelas = new ConcurrentHashMap<>();
+    private final int intervalos;
+    private final HistogramLogWriter arquivo;
+    private final PrintStream saidaArquivo;
+    private long inicioIntervalo = System.currentTimeMillis();
+
+    public HistogramasLatencia(@Value("${cooperativa.latencias.intervalos:6}") int intervalos,
+                               @Value("${cooperativa.latencias.arquivo:}") String arquivo) {
+        this.intervalos = intervalos;
+        if (arquivo.isBlank()) {
+            this.saidaArquivo = null;
+            this.arquivo = null;
+        } else {
+            try {
+                this.saidaArquivo = new PrintStream(new FileOutputStream(arquivo, true), false, StandardCharsets.UTF_8);
+            } catch (FileNotFoundException ex) {
+                throw new UncheckedIOException("Não foi possível abrir o log de latências " + arquivo, ex);
+            }
+            this.arquivo = cabecalho(saidaArquivo, inicioIntervalo);
+            logger.info("Intervalos de latência gravados em {}", arquivo);
+        }
+    }
+
+    public void registrar(String endpoint, long nanos) {
+        JanelaLatencia janela = janelas.get(endpoint);
+        if (janela == null) {
+            janela = janelas.computeIfAbsent(endpoint, chave -> new JanelaLatencia(intervalos));
+        }
+        janela.registrar(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    // Sem o agendamento (testes), a rotação é chamada manualmente
+    @Scheduled(fixedRateString = "${cooperativa.latencias.intervalo-segundos:10}", timeUnit = TimeUnit.SECONDS)
+    public synchronized void rotacionar() {
+        long fim = System.currentTimeMillis();
+        janelas.forEach((endpoint, janela) -> {
+            Histogram intervalo = janela.rotacionar(inicioIntervalo, fim);
+            if (arquivo != null && intervalo.getTotalCount() > 0) {
+                intervalo.setTag(endpoint);
+                gravar(arquivo, intervalo);
+            }
+        });
+        if (saidaArquivo != null) {
+            saidaArquivo.flush();
+        }
+        inicioIntervalo = fim;
+    }
+
+    // Percentis da janela por endpoint, em milissegundos
+    public Map<String, Resumo> resumir() {
+        Map<String, Resumo> resumos = new TreeMap<>();
+        janelas.forEach((endpoint, janela) -> resumos.put(endpoint, new Resumo(janela.janela())));
+        return resumos;
+    }
+
+    // Intervalos da janela de todos os endpoints, em ordem de tempo, no formato de log do HdrHistogram
+    public String exportar() {
+        List<Histogram> todos = new ArrayList<>();
+        janelas.forEach((endpoint, janela) -> janela.copiarIntervalos().forEach(intervalo -> {
+            intervalo.setTag(endpoint);
+            todos.add(intervalo);
+        }));
+        todos.sort(Comparator.comparingLong(Histogram::getStartTimeStamp));
+
+        long base = todos.isEmpty() ? System.currentTimeMillis() : todos.get(0).getStartTimeStamp();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (PrintStream saida = new PrintStream(bytes, false, StandardCharsets.UTF_8)) {
+            HistogramLogWriter log = cabecalho(saida, base);
+            todos.forEach(intervalo -> gravar(log, intervalo));
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        if (saidaArquivo != null) {
+            saidaArquivo.close();
+        }
+    }
+
+    private static HistogramLogWriter cabecalho(PrintStream saida, long baseMs) {
+        HistogramLogWriter log = new HistogramLogWriter(saida);
+        log.setBaseTime(baseMs);
+        log.outputLogFormatVersion();
+        log.outputComment("Latências por endpoint em microssegundos; máximo em milissegundos");
+        log.outputStartTime(baseMs);
+        log.outputLegend();
+        return log;
+    }
+
+    private static void gravar(HistogramLogWriter log, Histogram intervalo) {
+        log.outputIntervalHistogram(
+            (intervalo.getStartTimeStamp() - log.getBaseTime()) / 1000.0,
+            (intervalo.getEndTimeStamp() - log.getBaseTime()) / 1000.0,
+            intervalo, MICROS_POR_MILI);
+    }
+
+    public static class Resumo {
+
+        private final long contagem;
+        private final double media;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double p999;
+        private final double maximo;
+
+        Resumo(Histogram janela) {
+            this.contagem = janela.getTotalCount();
+            this.media = janela.getMean() / MICROS_POR_MILI;
+            this.p50 = janela.getValueAtPercentile(50.0) / MICROS_POR_MILI;
+            this.p90 = janela.getValueAtPercentile(90.0) / MICROS_POR_MILI;
+            this.p99 = janela.getValueAtPercentile(99.0) / MICROS_POR_MILI;
+            this.p999 = janela.getValueAtPercentile(99.9) / MICROS_POR_MILI;
+            this.maximo = janela.getMaxValue() / MICROS_POR_MILI;
+        }
+
+        public long getContagem() {
+            return contagem;
+        }
+
+        public double getMedia() {
+            return media;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getP999() {
+            return p999;
+        }
+
+        public double getMaximo() {
+            return maximo;
+        }
+    }
+}
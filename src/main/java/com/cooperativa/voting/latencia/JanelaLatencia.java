@@ -0,0 +1,62 @@
+package com.cooperativa.voting.latencia;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Latências de um endpoint, em microssegundos. As requisições gravam no Recorder sem lock;
+// a rotação fecha o intervalo atual e o guarda num anel com os últimos N intervalos, que
+// formam a janela. O histograma que sai do anel é reaproveitado no próximo intervalo.
+final class JanelaLatencia {
+
+    static final int DIGITOS_SIGNIFICATIVOS = 3;
+
+    private final Recorder recorder = new Recorder(DIGITOS_SIGNIFICATIVOS);
+    private final Histogram[] intervalos;
+    private int proximo;
+    private Histogram reciclado;
+
+    JanelaLatencia(int intervalos) {
+        this.intervalos = new Histogram[intervalos];
+    }
+
+    void registrar(long micros) {
+        recorder.recordValue(micros);
+    }
+
+    synchronized Histogram rotacionar(long inicioMs, long fimMs) {
+        Histogram intervalo = recorder.getIntervalHistogram(reciclado);
+        intervalo.setStartTimeStamp(inicioMs);
+        intervalo.setEndTimeStamp(fimMs);
+
+        reciclado = intervalos[proximo];
+        intervalos[proximo] = intervalo;
+        proximo = (proximo + 1) % intervalos.length;
+        return intervalo;
+    }
+
+    // Soma dos intervalos fechados; o intervalo em andamento fica de fora até a próxima rotação
+    synchronized Histogram janela() {
+        Histogram soma = new Histogram(DIGITOS_SIGNIFICATIVOS);
+        for (Histogram intervalo : intervalos) {
+            if (intervalo != null) {
+                soma.add(intervalo);
+            }
+        }
+        return soma;
+    }
+
+    // Cópias dos intervalos fechados, do mais antigo para o mais recente
+    synchronized List<Histogram> copiarIntervalos() {
+        List<Histogram> copias = new ArrayList<>(intervalos.length);
+        for (int i = 0; i < intervalos.length; i++) {
+            Histogram intervalo = intervalos[(proximo + i) % intervalos.length];
+            if (intervalo != null) {
+                copias.add(intervalo.copy());
+            }
+        }
+        return copias;
+    }
+}
@@ -0,0 +1,53 @@
+package com.cooperativa.voting.latencia;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Mede cada método dos controllers da entrada no primeiro interceptor até o fim da resposta,
+// incluindo recusas dos interceptores seguintes (admissão, compartimentos). Em long-poll e feeds
+// o tempo vai até o despacho assíncrono terminar.
+public class LatenciaInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String INICIO = LatenciaInterceptor.class.getName() + ".inicio";
+
+    private final HistogramasLatencia histogramasLatencia;
+    private final Map<Method, String> nomes = new ConcurrentHashMap<>();
+
+    public LatenciaInterceptor(HistogramasLatencia histogramasLatencia) {
+        this.histogramasLatencia = histogramasLatencia;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // No despacho assíncrono o preHandle roda de novo; vale o início da primeira passada
+        if (handler instanceof HandlerMethod && request.getAttribute(INICIO) == null) {
+            request.setAttribute(INICIO, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object inicio = request.getAttribute(INICIO);
+        if (inicio == null || !(handler instanceof HandlerMethod metodo)) {
+            return;
+        }
+        request.removeAttribute(INICIO);
+        histogramasLatencia.registrar(nome(metodo), System.nanoTime() - (Long) inicio);
+    }
+
+    private String nome(HandlerMethod metodo) {
+        String nome = nomes.get(metodo.getMethod());
+        if (nome == null) {
+            nome = nomes.computeIfAbsent(metodo.getMethod(),
+                m -> metodo.getBeanType().getSimpleName() + "." + m.getName());
+        }
+        return nome;
+    }
+}
@@ -0,0 +1,36 @@
+package com.cooperativa.voting.latencia;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// GET /actuator/latencias: percentis da janela por endpoint, em milissegundos.
+// GET /actuator/latencias/hlog: intervalos brutos no formato de log do HdrHistogram.
+@Component
+@Endpoint(id = "latencias")
+@ConditionalOnProperty(prefix = "cooperativa.latencias", name = "enabled", havingValue = "true")
+public class LatenciasEndpoint {
+
+    private static final String FORMATO_HLOG = "hlog";
+
+    private final HistogramasLatencia histogramasLatencia;
+
+    public LatenciasEndpoint(HistogramasLatencia histogramasLatencia) {
+        this.histogramasLatencia = histogramasLatencia;
+    }
+
+    @ReadOperation
+    public Map<String, HistogramasLatencia.Resumo> percentis() {
+        return histogramasLatencia.resumir();
+    }
+
+    // Outros formatos respondem 404
+    @ReadOperation(produces = "text/plain")
+    public String exportar(@Selector String formato) {
+        return FORMATO_HLOG.equals(formato) ? histogramasLatencia.exportar() : null;
+    }
+}
@@ -0,0 +1,116 @@
+package com.cooperativa.voting.limitetaxa;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Um balde de tokens por chave (associadoId, sessaoId), guardado como um único long: o instante em
+// que o balde volta a ficar cheio (GCRA). Consumir é um CAS nesse long, sem lock. As chaves ficam
+// espalhadas em faixas; cada faixa é varrida no máximo uma vez por segundo, por quem a acessar,
+// e perde os baldes já cheios, que não guardam informação nenhuma.
+final class BaldesTokens {
+
+    private static final int FAIXAS = 64;
+    private static final long INTERVALO_VARREDURA = TimeUnit.SECONDS.toNanos(1);
+
+    private final int rajada;
+    private final long intervaloNanos;
+    private final long janelaNanos;
+    private final LongSupplier relogio;
+    private final Faixa[] faixas = new Faixa[FAIXAS];
+
+    BaldesTokens(double porSegundo, int rajada) {
+        this(porSegundo, rajada, System::nanoTime);
+    }
+
+    BaldesTokens(double porSegundo, int rajada, LongSupplier relogio) {
+        if (porSegundo <= 0 || rajada < 1) {
+            throw new IllegalArgumentException("Taxa e rajada devem ser positivas");
+        }
+        this.rajada = rajada;
+        this.intervaloNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        this.janelaNanos = intervaloNanos * rajada;
+        this.relogio = relogio;
+
+        long agora = relogio.getAsLong();
+        for (int i = 0; i < FAIXAS; i++) {
+            faixas[i] = new Faixa(agora + INTERVALO_VARREDURA);
+        }
+    }
+
+    Consumo consumir(String chave) {
+        long agora = relogio.getAsLong();
+        Faixa faixa = faixas[(chave.hashCode() ^ (chave.hashCode() >>> 16)) & (FAIXAS - 1)];
+        faixa.varrerSeVencida(agora);
+
+        AtomicLong cheioEm = faixa.baldes.get(chave);
+        if (cheioEm == null) {
+            cheioEm = faixa.baldes.computeIfAbsent(chave, k -> new AtomicLong(agora));
+        }
+
+        // Um balde removido pela varredura entre o get e o CAS perde este consumo: como estava
+        // cheio, o pior caso é um token a mais para a chave
+        while (true) {
+            long atual = cheioEm.get();
+            long base = atual - agora > 0 ? atual : agora;
+            long ocupado = base + intervaloNanos - agora;
+            if (ocupado > janelaNanos) {
+                return new Consumo(false, rajada, 0, base - agora, ocupado - janelaNanos);
+            }
+            if (cheioEm.compareAndSet(atual, base + intervaloNanos)) {
+                return new Consumo(true, rajada, (int) ((janelaNanos - ocupado) / intervaloNanos), ocupado, 0);
+            }
+        }
+    }
+
+    long getChaves() {
+        long total = 0;
+        for (Faixa faixa : faixas) {
+            total += faixa.baldes.mappingCount();
+        }
+        return total;
+    }
+
+    private static final class Faixa {
+
+        private final ConcurrentHashMap<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+        private final AtomicLong proximaVarredura;
+
+        private Faixa(long proximaVarredura) {
+            this.proximaVarredura = new AtomicLong(proximaVarredura);
+        }
+
+        private void varrerSeVencida(long agora) {
+            long prevista = proximaVarredura.get();
+            if (agora - prevista < 0 || !proximaVarredura.compareAndSet(prevista, agora + INTERVALO_VARREDURA)) {
+                return;
+            }
+            baldes.values().removeIf(cheioEm -> cheioEm.get() - agora <= 0);
+        }
+    }
+
+    // Resultado de um consumo; tempos em nanos a partir de agora
+    static final class Consumo {
+
+        private final boolean permitido;
+        private final int limite;
+        private final int restantes;
+        private final long cheioEmNanos;
+        private final long tentarEmNanos;
+
+        private Consumo(boolean permitido, int limite, int restantes, long cheioEmNanos, long tentarEmNanos) {
+            this.permitido = permitido;
+            this.limite = limite;
+            this.restantes = restantes;
+            this.cheioEmNanos = cheioEmNanos;
+            this.tentarEmNanos = tentarEmNanos;
+        }
+
+        boolean isPermitido() { return permitido; }
+        int getLimite() { return limite; }
+        int getRestantes() { return restantes; }
+        long getCheioEmNanos() { return cheioEmNanos; }
+        long getTentarEmNanos() { return tentarEmNanos; }
+    }
+}
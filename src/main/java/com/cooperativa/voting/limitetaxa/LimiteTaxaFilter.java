@@ -0,0 +1,283 @@
+package com.cooperativa.voting.limitetaxa;
+
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ErrorResponse;
+import com.cooperativa.voting.filtro.CorpoLido;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Limite de taxa por associadoId e por sessaoId nos endpoints de voto e de "pode votar", antes de
+// qualquer controller: um cliente repetindo a mesma requisição em loop recebe 429 sem chegar ao banco.
+// Cada endpoint tem seus limites em cooperativa.limite-taxa.<endpoint>.<associado|sessao>.*;
+// taxa 0 desliga o balde. No voto, o associadoId vem do corpo (JSON, CBOR ou Smile), lido aqui com
+// teto de tamanho e repassado adiante.
+@Component
+@Order(2)
+@ConditionalOnProperty(prefix = "cooperativa.limite-taxa", name = "enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LimiteTaxaFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LimiteTaxaFilter.class);
+
+    private static final String PREFIXO = "/api/votos/";
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final JsonFactory FABRICA_CBOR = new CBORFactory();
+    private static final JsonFactory FABRICA_SMILE = new SmileFactory();
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final ObjectMapper objectMapper;
+    private final List<Regra> regras = new ArrayList<>();
+    private final int corpoMaximoBytes;
+
+    public LimiteTaxaFilter(Environment environment, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.corpoMaximoBytes = environment.getProperty("cooperativa.limite-taxa.corpo-maximo-bytes", Integer.class, 16384);
+
+        regras.add(new Regra("voto", "POST", "/api/votos/sessao/{sessaoId}", true,
+            environment, meterRegistry, 1, 5, 2000, 4000));
+        regras.add(new Regra("pode-votar", "GET", "/api/votos/sessao/{sessaoId}/associado/{associadoId}/pode-votar", false,
+            environment, meterRegistry, 2, 10, 1000, 2000));
+        regras.add(new Regra("pode-votar-lote", "POST", "/api/votos/sessao/{sessaoId}/pode-votar", false,
+            environment, meterRegistry, 0, 0, 50, 100));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !caminho(request).startsWith(PREFIXO);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String caminho = caminho(request);
+        Regra regra = null;
+        Map<String, String> variaveis = null;
+        for (Regra candidata : regras) {
+            if (candidata.metodo.equals(request.getMethod()) && pathMatcher.match(candidata.padrao, caminho)) {
+                regra = candidata;
+                variaveis = pathMatcher.extractUriTemplateVariables(candidata.padrao, caminho);
+                break;
+            }
+        }
+        if (regra == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String associadoId = variaveis.get("associadoId");
+        if (regra.associadoNoCorpo && regra.porAssociado != null) {
+            CorpoLido corpoLido;
+            try {
+                corpoLido = CorpoLido.ler(request, corpoMaximoBytes);
+            } catch (CorpoLido.GrandeDemais ex) {
+                recusarCorpo(ex, request, response);
+                return;
+            }
+            associadoId = associadoIdDoCorpo(corpoLido);
+            request = corpoLido;
+        }
+
+        BaldesTokens.Consumo maisRestrito = null;
+        if (regra.porSessao != null) {
+            BaldesTokens.Consumo consumo = regra.porSessao.consumir(variaveis.get("sessaoId"));
+            if (!consumo.isPermitido()) {
+                recusar(regra, regra.rejeitadasPorSessao, consumo, request, response);
+                return;
+            }
+            maisRestrito = consumo;
+        }
+        if (regra.porAssociado != null && associadoId != null) {
+            BaldesTokens.Consumo consumo = regra.porAssociado.consumir(associadoId);
+            if (!consumo.isPermitido()) {
+                recusar(regra, regra.rejeitadasPorAssociado, consumo, request, response);
+                return;
+            }
+            if (maisRestrito == null || consumo.getRestantes() < maisRestrito.getRestantes()) {
+                maisRestrito = consumo;
+            }
+        }
+
+        if (maisRestrito != null) {
+            escreverCabecalhos(maisRestrito, response);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void recusar(Regra regra, Counter rejeitadas, BaldesTokens.Consumo consumo,
+                         HttpServletRequest request, HttpServletResponse response) throws IOException {
+        rejeitadas.increment();
+        logger.debug("Requisição recusada pelo limite de taxa - endpoint: {}, caminho: {}", regra.nome, request.getRequestURI());
+
+        escreverCabecalhos(consumo, response);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos(consumo.getTentarEmNanos())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Muitas requisições",
+            "Limite de requisições excedido, tente novamente mais tarde",
+            "uri=" + request.getRequestURI()
+        );
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private void recusarCorpo(CorpoLido.GrandeDemais ex, HttpServletRequest request,
+                              HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.PAYLOAD_TOO_LARGE.value(),
+            "Corpo grande demais",
+            ex.getMessage(),
+            "uri=" + request.getRequestURI()
+        );
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private void escreverCabecalhos(BaldesTokens.Consumo consumo, HttpServletResponse response) {
+        response.setHeader("RateLimit-Limit", String.valueOf(consumo.getLimite()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(consumo.getRestantes()));
+        response.setHeader("RateLimit-Reset", String.valueOf(segundos(consumo.getCheioEmNanos())));
+    }
+
+    // Lê só até o campo associadoId; corpo inválido segue sem chave e o controller responde 400
+    private String associadoIdDoCorpo(CorpoLido corpo) {
+        JsonFactory fabrica = fabrica(corpo.getContentType());
+        if (fabrica == null) {
+            return null;
+        }
+        try (JsonParser parser = fabrica.createParser(corpo.getBytes())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String campo = parser.currentName();
+                JsonToken valor = parser.nextToken();
+                if ("associadoId".equals(campo)) {
+                    return valor == JsonToken.VALUE_STRING ? parser.getText() : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            logger.debug("Corpo do voto ilegível no limite de taxa: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    // Mesmos formatos aceitos pelo controller (FormatosBinariosConfig)
+    private JsonFactory fabrica(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType tipo = MediaType.parseMediaType(contentType);
+            if (tipo.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return objectMapper.getFactory();
+            }
+            if (tipo.isCompatibleWith(CBOR)) {
+                return FABRICA_CBOR;
+            }
+            if (tipo.isCompatibleWith(SMILE)) {
+                return FABRICA_SMILE;
+            }
+        } catch (IllegalArgumentException e) {
+            logger.debug("Content-Type inválido no limite de taxa: {}", contentType);
+        }
+        return null;
+    }
+
+    private static String caminho(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static long segundos(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static final class Regra {
+
+        private final String nome;
+        private final String metodo;
+        private final String padrao;
+        private final boolean associadoNoCorpo;
+        private final BaldesTokens porAssociado;
+        private final BaldesTokens porSessao;
+        private final Counter rejeitadasPorAssociado;
+        private final Counter rejeitadasPorSessao;
+
+        private Regra(String nome, String metodo, String padrao, boolean associadoNoCorpo,
+                      Environment environment, MeterRegistry meterRegistry,
+                      double associadoPorSegundo, int associadoRajada, double sessaoPorSegundo, int sessaoRajada) {
+            this.nome = nome;
+            this.metodo = metodo;
+            this.padrao = padrao;
+            this.associadoNoCorpo = associadoNoCorpo;
+            this.porAssociado = baldes(environment, meterRegistry, "associado", associadoPorSegundo, associadoRajada);
+            this.porSessao = baldes(environment, meterRegistry, "sessao", sessaoPorSegundo, sessaoRajada);
+            this.rejeitadasPorAssociado = rejeitadas(meterRegistry, "associado");
+            this.rejeitadasPorSessao = rejeitadas(meterRegistry, "sessao");
+        }
+
+        private BaldesTokens baldes(Environment environment, MeterRegistry meterRegistry, String chave,
+                                    double porSegundoPadrao, int rajadaPadrao) {
+            String prefixo = "cooperativa.limite-taxa." + nome + "." + chave + ".";
+            double porSegundo = environment.getProperty(prefixo + "por-segundo", Double.class, porSegundoPadrao);
+            if (porSegundo <= 0) {
+                return null;
+            }
+            int rajada = environment.getProperty(prefixo + "rajada", Integer.class, Math.max(1, rajadaPadrao));
+
+            BaldesTokens baldes = new BaldesTokens(porSegundo, rajada);
+            Gauge.builder("cooperativa.limite-taxa.chaves", baldes, BaldesTokens::getChaves)
+                .description("Chaves com balde de tokens em uso")
+                .tag("endpoint", nome)
+                .tag("chave", chave)
+                .register(meterRegistry);
+            return baldes;
+        }
+
+        private Counter rejeitadas(MeterRegistry meterRegistry, String chave) {
+            return Counter.builder("cooperativa.limite-taxa.rejeicoes")
+                .description("Requisições recusadas com 429 pelo limite de taxa")
+                .tag("endpoint", nome)
+                .tag("chave", chave)
+                .register(meterRegistry);
+        }
+    }
+}
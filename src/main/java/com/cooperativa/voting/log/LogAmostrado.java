@@ -0,0 +1,57 @@
+package com.cooperativa.voting.log;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Linha de log no máximo uma vez por intervalo, com a contagem do período, para eventos que
+// acontecem a cada requisição (votos registrados, recusas esperadas). Cada ocorrência fica no
+// nível de detalhe, que em produção está desligado. Numa rajada de votos, o log não vira o gargalo.
+// O resumo só sai quando chega uma nova ocorrência depois do intervalo; a contagem exata fica
+// nas métricas.
+public final class LogAmostrado {
+
+    private final Logger logger;
+    private final String descricao;
+    private final Level nivel;
+    private final long intervaloNanos;
+    private final LongAdder ocorrencias = new LongAdder();
+    private final AtomicLong proximoRegistro;
+
+    public LogAmostrado(Logger logger, String descricao, Level nivel, long intervalo, TimeUnit unidade) {
+        this.logger = logger;
+        this.descricao = descricao;
+        this.nivel = nivel;
+        this.intervaloNanos = unidade.toNanos(intervalo);
+        this.proximoRegistro = new AtomicLong(System.nanoTime());
+    }
+
+    // Ocorrência com mensagem: em TRACE e como "Última" no resumo
+    public void registrar(String mensagem) {
+        ocorrencias.increment();
+        if (logger.isTraceEnabled()) {
+            logger.trace("{}: {}", descricao, mensagem);
+        }
+        if (venceu()) {
+            logger.atLevel(nivel).log("{}: {} desde o último registro. Última: {}",
+                descricao, ocorrencias.sumThenReset(), mensagem);
+        }
+    }
+
+    // Ocorrência sem mensagem própria; quem chama registra o detalhe em DEBUG se quiser
+    public void contar() {
+        ocorrencias.increment();
+        if (venceu()) {
+            logger.atLevel(nivel).log("{}: {} desde o último registro", descricao, ocorrencias.sumThenReset());
+        }
+    }
+
+    private boolean venceu() {
+        long agora = System.nanoTime();
+        long previsto = proximoRegistro.get();
+        return agora - previsto >= 0 && proximoRegistro.compareAndSet(previsto, agora + intervaloNanos);
+    }
+}
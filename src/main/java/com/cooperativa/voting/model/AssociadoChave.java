@@ -0,0 +1,30 @@
+package com.cooperativa.voting.model;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+// Dicionário de associados: cada associadoId (CPF ou matrícula) recebe uma chave inteira densa
+@Entity
+@Table(name = "associados_chaves")
+public class AssociadoChave {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer chave;
+
+    @NotNull(message = "ID do associado é obrigatório")
+    @Column(name = "associado_id", nullable = false, unique = true)
+    private String associadoId;
+
+    public AssociadoChave() {}
+
+    public AssociadoChave(String associadoId) {
+        this.associadoId = associadoId;
+    }
+
+    public Integer getChave() { return chave; }
+    public void setChave(Integer chave) { this.chave = chave; }
+
+    public String getAssociadoId() { return associadoId; }
+    public void setAssociadoId(String associadoId) { this.associadoId = associadoId; }
+}
@@ -0,0 +1,65 @@
+package com.cooperativa.voting.model;
+
+import com.cooperativa.voting.enums.StatusSessao;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import java.time.LocalDateTime;
+
+// Abertura ou encerramento de uma sessão, gravado na mesma transação da mudança de status.
+// A posição, atribuída depois do commit, é o cursor do feed de alterações de sessões.
+@Entity
+@Table(name = "sessoes_eventos", indexes = @Index(name = "idx_sessoes_eventos_posicao", columnList = "posicao"))
+public class EventoSessao {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "sessao_id", nullable = false)
+    private Long sessaoId;
+    
+    @Column(name = "pauta_id", nullable = false)
+    private Long pautaId;
+    
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false)
+    private StatusSessao status;
+    
+    @Column(name = "ocorrido_em", nullable = false)
+    private LocalDateTime ocorridoEm;
+    
+    @Column(name = "posicao")
+    private Long posicao;
+    
+    public EventoSessao() {
+        this.ocorridoEm = LocalDateTime.now();
+    }
+    
+    public EventoSessao(Sessao sessao) {
+        this();
+        this.sessaoId = sessao.getId();
+        this.pautaId = sessao.getPauta().getId();
+        this.status = sessao.getStatus();
+    }
+    
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getSessaoId() { return sessaoId; }
+    public void setSessaoId(Long sessaoId) { this.sessaoId = sessaoId; }
+    
+    public Long getPautaId() { return pautaId; }
+    public void setPautaId(Long pautaId) { this.pautaId = pautaId; }
+    
+    public StatusSessao getStatus() { return status; }
+    public void setStatus(StatusSessao status) { this.status = status; }
+    
+    public LocalDateTime getOcorridoEm() { return ocorridoEm; }
+    public void setOcorridoEm(LocalDateTime ocorridoEm) { this.ocorridoEm = ocorridoEm; }
+    
+    public Long getPosicao() { return posicao; }
+    public void setPosicao(Long posicao) { this.posicao = posicao; }
+}
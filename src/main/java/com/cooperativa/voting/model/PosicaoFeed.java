@@ -0,0 +1,30 @@
+package com.cooperativa.voting.model;
+
+import jakarta.persistence.*;
+
+// Última posição publicada de um feed de alterações. A linha é travada (SELECT ... FOR UPDATE)
+// durante a publicação, então instâncias diferentes publicam uma de cada vez.
+@Entity
+@Table(name = "feeds_posicoes")
+public class PosicaoFeed {
+
+    @Id
+    @Column(length = 32)
+    private String nome;
+
+    @Column(nullable = false)
+    private Long ultima;
+
+    public PosicaoFeed() {}
+
+    public PosicaoFeed(String nome, Long ultima) {
+        this.nome = nome;
+        this.ultima = ultima;
+    }
+
+    public String getNome() { return nome; }
+    public void setNome(String nome) { this.nome = nome; }
+
+    public Long getUltima() { return ultima; }
+    public void setUltima(Long ultima) { this.ultima = ultima; }
+}
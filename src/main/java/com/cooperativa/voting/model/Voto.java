@@ -3,11 +3,17 @@ package com.cooperativa.voting.model;
 import com.cooperativa.voting.enums.TipoVoto;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "votos", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"sessao_id", "associado_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"sessao_id", "associado_id"}),
+       indexes = {
+           @Index(name = "idx_votos_associado_chave", columnList = "associado_chave"),
+           @Index(name = "idx_votos_posicao", columnList = "posicao")
+       })
 public class Voto {
     
     @Id
@@ -22,13 +28,23 @@ public class Voto {
     @Column(name = "associado_id", nullable = false)
     private String associadoId;
     
+    // Chave inteira do associado (ver AssociadoChave); nula em votos anteriores ao dicionário
+    @Column(name = "associado_chave")
+    private Integer associadoChave;
+    
+    // VARCHAR também no H2 (que usaria ENUM nativo), igual ao schema do PostgreSQL
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     @Column(nullable = false)
     private TipoVoto tipo;
     
     @Column(name = "votado_em", nullable = false)
     private LocalDateTime votadoEm;
     
+    // Posição no feed de alterações, atribuída depois do commit (ver PublicadorAlteracoes)
+    @Column(name = "posicao")
+    private Long posicao;
+    
     public Voto() {
         this.votadoEm = LocalDateTime.now();
     }
@@ -40,6 +56,11 @@ public class Voto {
         this.tipo = tipo;
     }
     
+    public Voto(Sessao sessao, String associadoId, Integer associadoChave, TipoVoto tipo) {
+        this(sessao, associadoId, tipo);
+        this.associadoChave = associadoChave;
+    }
+    
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     
@@ -49,9 +70,15 @@ public class Voto {
     public String getAssociadoId() { return associadoId; }
     public void setAssociadoId(String associadoId) { this.associadoId = associadoId; }
     
+    public Integer getAssociadoChave() { return associadoChave; }
+    public void setAssociadoChave(Integer associadoChave) { this.associadoChave = associadoChave; }
+    
     public TipoVoto getTipo() { return tipo; }
     public void setTipo(TipoVoto tipo) { this.tipo = tipo; }
     
     public LocalDateTime getVotadoEm() { return votadoEm; }
     public void setVotadoEm(LocalDateTime votadoEm) { this.votadoEm = votadoEm; }
+    
+    public Long getPosicao() { return posicao; }
+    public void setPosicao(Long posicao) { this.posicao = posicao; }
 }
\ No newline at end of file
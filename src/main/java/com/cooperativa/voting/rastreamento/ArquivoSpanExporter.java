@@ -0,0 +1,90 @@
+package com.cooperativa.voting.rastreamento;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Um span por linha, em JSON, acrescentado ao arquivo. Serve para análise local sem coletor:
+// jq 'select(.traceId == "...")' mostra a árvore de um voto lento.
+public class ArquivoSpanExporter implements SpanExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArquivoSpanExporter.class);
+
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter saida;
+
+    public ArquivoSpanExporter(ObjectMapper objectMapper, Path arquivo) {
+        this.objectMapper = objectMapper;
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            this.saida = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Não foi possível abrir o arquivo de spans " + arquivo, ex);
+        }
+        logger.info("Spans exportados para {}", arquivo);
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                saida.write(objectMapper.writeValueAsString(linha(span)));
+                saida.newLine();
+            }
+            saida.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            logger.warn("Falha ao gravar {} spans: {}", spans.size(), ex.getMessage());
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            saida.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException ex) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    private static Map<String, Object> linha(SpanData span) {
+        Map<String, Object> atributos = new LinkedHashMap<>();
+        span.getAttributes().forEach((chave, valor) -> atributos.put(chave.getKey(), valor));
+
+        Map<String, Object> linha = new LinkedHashMap<>();
+        linha.put("traceId", span.getTraceId());
+        linha.put("spanId", span.getSpanId());
+        linha.put("parentSpanId", span.getParentSpanId());
+        linha.put("nome", span.getName());
+        linha.put("tipo", span.getKind().name());
+        linha.put("inicioEpochNanos", span.getStartEpochNanos());
+        linha.put("duracaoMicros", (span.getEndEpochNanos() - span.getStartEpochNanos()) / 1000);
+        linha.put("status", span.getStatus().getStatusCode().name());
+        linha.put("atributos", atributos);
+        return linha;
+    }
+}
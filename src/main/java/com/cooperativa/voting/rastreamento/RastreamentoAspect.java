@@ -0,0 +1,130 @@
+package com.cooperativa.voting.rastreamento;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Spans dos services e de cada consulta dos repositórios, filhos do span HTTP do Spring Boot.
+// Roda por fora do @Transactional (o span do service inclui o commit) e por dentro do single-flight
+// (chamadas coalescidas não geram span próprio). sessaoId e pautaId vêm dos argumentos pelo nome
+// do parâmetro; "id" vale como sessaoId ou pautaId conforme a classe.
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(prefix = "cooperativa.rastreamento", name = "enabled", havingValue = "true")
+public class RastreamentoAspect {
+
+    private static final String SESSAO_ID = "sessaoId";
+    private static final String PAUTA_ID = "pautaId";
+
+    private final ObservationRegistry observationRegistry;
+    // Por classe do proxy e método: save e findById são os mesmos Method nos três repositórios
+    private final Map<Class<?>, Map<Method, Alvo>> alvos = new ConcurrentHashMap<>();
+
+    public RastreamentoAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.cooperativa.voting.service.VotoService.*(..))"
+            + " || execution(public * com.cooperativa.voting.service.SessaoService.*(..))"
+            + " || execution(public * com.cooperativa.voting.service.PautaService.*(..))")
+    public Object servico(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observar(joinPoint, "cooperativa.servico");
+    }
+
+    // Casa também os métodos herdados (save, findById): para o AspectJ eles são membros da interface da aplicação
+    @Around("execution(* com.cooperativa.voting.repository.VotoRepository.*(..))"
+            + " || execution(* com.cooperativa.voting.repository.SessaoRepository.*(..))"
+            + " || execution(* com.cooperativa.voting.repository.PautaRepository.*(..))")
+    public Object repositorio(ProceedingJoinPoint joinPoint) throws Throwable {
+        return observar(joinPoint, "cooperativa.repositorio");
+    }
+
+    private Object observar(ProceedingJoinPoint joinPoint, String nomeObservacao) throws Throwable {
+        MethodSignature assinatura = (MethodSignature) joinPoint.getSignature();
+        Class<?> classeProxy = joinPoint.getThis().getClass();
+        Map<Method, Alvo> alvosClasse = alvos.get(classeProxy);
+        if (alvosClasse == null) {
+            alvosClasse = alvos.computeIfAbsent(classeProxy, classe -> new ConcurrentHashMap<>());
+        }
+        Alvo alvo = alvosClasse.get(assinatura.getMethod());
+        if (alvo == null) {
+            alvo = alvosClasse.computeIfAbsent(assinatura.getMethod(),
+                metodo -> new Alvo(classeProxy, metodo, assinatura.getParameterNames()));
+        }
+
+        // O nome do span sai em minúsculas com hífens (e cortado em 50 caracteres); o nome exato fica na tag metodo
+        Observation observacao = Observation.createNotStarted(nomeObservacao, observationRegistry)
+                .contextualName(alvo.nome)
+                .lowCardinalityKeyValue("metodo", alvo.nome);
+        Object[] argumentos = joinPoint.getArgs();
+        for (Atributo atributo : alvo.atributos) {
+            Object valor = argumentos[atributo.indice];
+            if (valor != null) {
+                observacao.highCardinalityKeyValue(KeyValue.of(atributo.nome, valor.toString()));
+            }
+        }
+        return observacao.observeChecked(() -> joinPoint.proceed());
+    }
+
+    // Nome do span e argumentos que viram atributos, resolvidos uma vez por método
+    private static final class Alvo {
+
+        private final String nome;
+        private final List<Atributo> atributos = new ArrayList<>();
+
+        Alvo(Class<?> classeProxy, Method metodo, String[] parametros) {
+            String classe = classeDeclarada(classeProxy, metodo);
+            this.nome = classe + "." + metodo.getName();
+            if (parametros == null) {
+                return;
+            }
+            for (int i = 0; i < parametros.length; i++) {
+                String atributo = switch (parametros[i]) {
+                    case SESSAO_ID -> SESSAO_ID;
+                    case PAUTA_ID -> PAUTA_ID;
+                    case "id" -> classe.startsWith("Sessao") ? SESSAO_ID : classe.startsWith("Pauta") ? PAUTA_ID : null;
+                    default -> null;
+                };
+                if (atributo != null && !Iterable.class.isAssignableFrom(metodo.getParameterTypes()[i])) {
+                    atributos.add(new Atributo(i, atributo));
+                }
+            }
+        }
+
+        // Nos repositórios o nome útil é o da interface da aplicação, mesmo para métodos herdados
+        private static String classeDeclarada(Class<?> classeProxy, Method metodo) {
+            for (Class<?> interfaceProxy : classeProxy.getInterfaces()) {
+                if (interfaceProxy.getPackageName().equals("com.cooperativa.voting.repository")) {
+                    return interfaceProxy.getSimpleName();
+                }
+            }
+            return metodo.getDeclaringClass().getSimpleName();
+        }
+    }
+
+    private static final class Atributo {
+
+        private final int indice;
+        private final String nome;
+
+        Atributo(int indice, String nome) {
+            this.indice = indice;
+            this.nome = nome;
+        }
+    }
+}
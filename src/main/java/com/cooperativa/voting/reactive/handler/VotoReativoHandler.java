@@ -0,0 +1,131 @@
+package com.cooperativa.voting.reactive.handler;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ErrorResponse;
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ValidationErrorResponse;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.reactive.service.VotoReativoService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@ConditionalOnProperty(prefix = "cooperativa.reativo", name = "enabled", havingValue = "true")
+public class VotoReativoHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(VotoReativoHandler.class);
+
+    @Autowired
+    private VotoReativoService votoService;
+
+    @Autowired
+    private Validator validator;
+
+    public Mono<ServerResponse> registrarVoto(ServerRequest request) {
+        return id(request, "sessaoId")
+                .flatMap(sessaoId -> request.bodyToMono(VotoRequest.class).flatMap(voto -> {
+                    Set<ConstraintViolation<VotoRequest>> violations = validator.validate(voto);
+                    if (!violations.isEmpty()) {
+                        return erroDeValidacao(violations, request);
+                    }
+
+                    return votoService.registrarVoto(sessaoId, voto)
+                            .flatMap(response -> ServerResponse.status(HttpStatus.CREATED).bodyValue(response));
+                }))
+                .onErrorResume(ex -> tratarErro(ex, request));
+    }
+
+    public Mono<ServerResponse> verificarSePodeVotar(ServerRequest request) {
+        String associadoId = request.pathVariable("associadoId");
+
+        return id(request, "sessaoId")
+                .flatMap(sessaoId -> votoService.verificarSePodeVotar(sessaoId, associadoId))
+                .flatMap(podeVotar -> ServerResponse.ok().bodyValue(Map.of("podeVotar", podeVotar)))
+                .onErrorResume(ex -> tratarErro(ex, request));
+    }
+
+    public Mono<ServerResponse> obterResultadoVotacao(ServerRequest request) {
+        return id(request, "id")
+                .flatMap(votoService::obterResultadoVotacao)
+                .flatMap(resultado -> ServerResponse.ok().bodyValue(resultado))
+                .onErrorResume(ex -> tratarErro(ex, request));
+    }
+
+    // Dentro da cadeia reativa: um id que não é número vira 400 em tratarErro, e não 500
+    private Mono<Long> id(ServerRequest request, String variavel) {
+        String valor = request.pathVariable(variavel);
+        return Mono.fromCallable(() -> Long.valueOf(valor))
+                .onErrorMap(NumberFormatException.class,
+                    ex -> new ServerWebInputException("Identificador inválido em " + variavel + ": " + valor));
+    }
+
+    // Mesmo mapeamento de status e corpo de erro do GlobalExceptionHandler
+    private Mono<ServerResponse> tratarErro(Throwable ex, ServerRequest request) {
+        String path = "uri=" + request.path();
+
+        if (ex instanceof ResourceNotFoundException) {
+            logger.warn("Recurso não encontrado: {}", ex.getMessage());
+            return erro(HttpStatus.NOT_FOUND, "Recurso não encontrado", ex.getMessage(), path);
+        }
+        if (ex instanceof VotacaoEncerradaException) {
+            logger.warn("Tentativa de voto em sessão encerrada: {}", ex.getMessage());
+            return erro(HttpStatus.FORBIDDEN, "Votação encerrada", ex.getMessage(), path);
+        }
+        if (ex instanceof BusinessException) {
+            logger.warn("Erro de negócio: {}", ex.getMessage());
+            return erro(HttpStatus.BAD_REQUEST, "Erro de negócio", ex.getMessage(), path);
+        }
+        if (ex instanceof DataIntegrityViolationException) {
+            logger.error("Violação de integridade de dados", ex);
+            String message = "Violação de regra de integridade dos dados";
+            if (ex.getMessage() != null && ex.getMessage().toLowerCase().contains("associado_id")) {
+                message = "Este associado já votou nesta pauta";
+            }
+            return erro(HttpStatus.CONFLICT, "Conflito de dados", message, path);
+        }
+        if (ex instanceof ServerWebInputException || ex instanceof DecodingException) {
+            logger.warn("Erro de parsing JSON: {}", ex.getMessage());
+            return erro(HttpStatus.BAD_REQUEST, "Formato inválido", "O formato dos dados enviados é inválido", path);
+        }
+
+        logger.error("Erro interno do servidor", ex);
+        return erro(HttpStatus.INTERNAL_SERVER_ERROR, "Erro interno do servidor",
+                "Ocorreu um erro inesperado. Tente novamente mais tarde.", path);
+    }
+
+    private Mono<ServerResponse> erro(HttpStatus status, String error, String message, String path) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(status.value(), error, message, path));
+    }
+
+    private Mono<ServerResponse> erroDeValidacao(Set<ConstraintViolation<VotoRequest>> violations, ServerRequest request) {
+        Map<String, String> errors = new HashMap<>();
+        violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+
+        logger.warn("Erro de validação: {}", errors);
+
+        return ServerResponse.status(HttpStatus.BAD_REQUEST).bodyValue(new ValidationErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            "Erro de validação",
+            "Os dados fornecidos são inválidos",
+            "uri=" + request.path(),
+            errors
+        ));
+    }
+}
@@ -0,0 +1,26 @@
+package com.cooperativa.voting.reactive.handler;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.POST;
+import static org.springframework.web.reactive.function.server.RequestPredicates.contentType;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+// Mesmos caminhos dos controllers MVC, servidos pelo WebFlux quando a aplicação sobe como reativa
+@Configuration
+@ConditionalOnProperty(prefix = "cooperativa.reativo", name = "enabled", havingValue = "true")
+public class VotoReativoRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> votoReativoRoutes(VotoReativoHandler handler) {
+        return route(POST("/api/votos/sessao/{sessaoId}").and(contentType(MediaType.APPLICATION_JSON)), handler::registrarVoto)
+                .andRoute(GET("/api/votos/sessao/{sessaoId}/associado/{associadoId}/pode-votar"), handler::verificarSePodeVotar)
+                .andRoute(GET("/api/sessoes/{id}/resultado"), handler::obterResultadoVotacao);
+    }
+}
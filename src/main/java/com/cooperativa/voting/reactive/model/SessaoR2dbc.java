@@ -0,0 +1,46 @@
+package com.cooperativa.voting.reactive.model;
+
+import com.cooperativa.voting.enums.StatusSessao;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("sessoes")
+public class SessaoR2dbc {
+    
+    @Id
+    private Long id;
+    
+    @Column("pauta_id")
+    private Long pautaId;
+    
+    @Column("inicio_em")
+    private LocalDateTime inicioEm;
+    
+    @Column("fim_em")
+    private LocalDateTime fimEm;
+    
+    private StatusSessao status;
+    
+    // Mesma regra de Sessao.isAberta()
+    public boolean isAberta() {
+        return status == StatusSessao.ABERTA && LocalDateTime.now().isBefore(fimEm);
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getPautaId() { return pautaId; }
+    public void setPautaId(Long pautaId) { this.pautaId = pautaId; }
+    
+    public LocalDateTime getInicioEm() { return inicioEm; }
+    public void setInicioEm(LocalDateTime inicioEm) { this.inicioEm = inicioEm; }
+    
+    public LocalDateTime getFimEm() { return fimEm; }
+    public void setFimEm(LocalDateTime fimEm) { this.fimEm = fimEm; }
+    
+    public StatusSessao getStatus() { return status; }
+    public void setStatus(StatusSessao status) { this.status = status; }
+}
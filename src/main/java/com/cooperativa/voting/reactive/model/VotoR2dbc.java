@@ -0,0 +1,63 @@
+package com.cooperativa.voting.reactive.model;
+
+import com.cooperativa.voting.enums.TipoVoto;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Table("votos")
+public class VotoR2dbc {
+    
+    @Id
+    private Long id;
+    
+    @Column("sessao_id")
+    private Long sessaoId;
+    
+    @Column("associado_id")
+    private String associadoId;
+    
+    @Column("associado_chave")
+    private Integer associadoChave;
+    
+    private TipoVoto tipo;
+    
+    @Column("votado_em")
+    private LocalDateTime votadoEm;
+    
+    public VotoR2dbc() {
+        this.votadoEm = LocalDateTime.now();
+    }
+    
+    public VotoR2dbc(Long sessaoId, String associadoId, TipoVoto tipo) {
+        this();
+        this.sessaoId = sessaoId;
+        this.associadoId = associadoId;
+        this.tipo = tipo;
+    }
+    
+    public VotoR2dbc(Long sessaoId, String associadoId, Integer associadoChave, TipoVoto tipo) {
+        this(sessaoId, associadoId, tipo);
+        this.associadoChave = associadoChave;
+    }
+    
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    
+    public Long getSessaoId() { return sessaoId; }
+    public void setSessaoId(Long sessaoId) { this.sessaoId = sessaoId; }
+    
+    public String getAssociadoId() { return associadoId; }
+    public void setAssociadoId(String associadoId) { this.associadoId = associadoId; }
+    
+    public Integer getAssociadoChave() { return associadoChave; }
+    public void setAssociadoChave(Integer associadoChave) { this.associadoChave = associadoChave; }
+    
+    public TipoVoto getTipo() { return tipo; }
+    public void setTipo(TipoVoto tipo) { this.tipo = tipo; }
+    
+    public LocalDateTime getVotadoEm() { return votadoEm; }
+    public void setVotadoEm(LocalDateTime votadoEm) { this.votadoEm = votadoEm; }
+}
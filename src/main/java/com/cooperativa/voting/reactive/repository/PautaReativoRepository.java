@@ -0,0 +1,9 @@
+package com.cooperativa.voting.reactive.repository;
+
+import com.cooperativa.voting.reactive.model.PautaR2dbc;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PautaReativoRepository extends R2dbcRepository<PautaR2dbc, Long> {
+}
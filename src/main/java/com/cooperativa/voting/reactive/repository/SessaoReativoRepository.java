@@ -0,0 +1,9 @@
+package com.cooperativa.voting.reactive.repository;
+
+import com.cooperativa.voting.reactive.model.SessaoR2dbc;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SessaoReativoRepository extends R2dbcRepository<SessaoR2dbc, Long> {
+}
@@ -0,0 +1,18 @@
+package com.cooperativa.voting.reactive.repository;
+
+import com.cooperativa.voting.reactive.model.VotoR2dbc;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface VotoReativoRepository extends R2dbcRepository<VotoR2dbc, Long> {
+    
+    @Query("SELECT COUNT(*) > 0 FROM votos WHERE sessao_id = :sessaoId AND associado_id = :associadoId")
+    Mono<Boolean> existsBySessaoIdAndAssociadoId(@Param("sessaoId") Long sessaoId, @Param("associadoId") String associadoId);
+    
+    @Query("SELECT COUNT(*) FROM votos WHERE sessao_id = :sessaoId AND tipo = :tipo")
+    Mono<Long> countBySessaoIdAndTipo(@Param("sessaoId") Long sessaoId, @Param("tipo") String tipo);
+}
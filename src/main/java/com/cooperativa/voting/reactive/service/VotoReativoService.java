@@ -0,0 +1,133 @@
+package com.cooperativa.voting.reactive.service;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.exception.VotoDuplicadoException;
+import com.cooperativa.voting.log.LogAmostrado;
+import com.cooperativa.voting.reactive.model.SessaoR2dbc;
+import com.cooperativa.voting.reactive.model.VotoR2dbc;
+import com.cooperativa.voting.reactive.repository.PautaReativoRepository;
+import com.cooperativa.voting.reactive.repository.SessaoReativoRepository;
+import com.cooperativa.voting.reactive.repository.VotoReativoRepository;
+import com.cooperativa.voting.service.AssociadoChaveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+
+@Service
+@ConditionalOnProperty(prefix = "cooperativa.reativo", name = "enabled", havingValue = "true")
+public class VotoReativoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VotoReativoService.class);
+
+    private final LogAmostrado votosRegistrados =
+        new LogAmostrado(logger, "Votos registrados (reativo)", Level.INFO, 10, TimeUnit.SECONDS);
+
+    @Autowired
+    private VotoReativoRepository votoRepository;
+
+    @Autowired
+    private SessaoReativoRepository sessaoRepository;
+
+    @Autowired
+    private PautaReativoRepository pautaRepository;
+
+    @Autowired
+    private AssociadoChaveService associadoChaveService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public Mono<VotoResponse> registrarVoto(Long sessaoId, VotoRequest request) {
+        logger.debug("Registrando voto (reativo) - Sessão: {}, Associado: {}, Voto: {}",
+                   sessaoId, request.getAssociadoId(), request.getVoto());
+
+        return buscarSessao(sessaoId)
+                .flatMap(sessao -> {
+                    // Verificar se a sessão está aberta
+                    if (!sessao.isAberta()) {
+                        return Mono.error(new VotacaoEncerradaException(sessaoId));
+                    }
+
+                    // Verificar se o associado já votou nesta sessão
+                    return votoRepository.existsBySessaoIdAndAssociadoId(sessaoId, request.getAssociadoId());
+                })
+                .flatMap(jaVotou -> {
+                    if (jaVotou) {
+                        return Mono.error(VotoDuplicadoException.instancia());
+                    }
+
+                    // O dicionário de associados é JPA (bloqueante): resolve a chave fora do event loop
+                    return Mono.fromCallable(() -> associadoChaveService.chave(request.getAssociadoId()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(chave -> votoRepository.save(
+                                    new VotoR2dbc(sessaoId, request.getAssociadoId(), chave, request.getVoto())));
+                })
+                .doOnNext(voto -> {
+                    logger.debug("Voto registrado com sucesso (reativo) - ID: {}", voto.getId());
+                    votosRegistrados.contar();
+                    eventPublisher.publishEvent(new VotosRegistradosEvent(sessaoId, request.getVoto()));
+                })
+                .map(this::convertToResponse);
+    }
+
+    public Mono<Boolean> verificarSePodeVotar(Long sessaoId, String associadoId) {
+        logger.debug("Verificando (reativo) se associado {} pode votar na sessão {}", associadoId, sessaoId);
+
+        return buscarSessao(sessaoId)
+                .flatMap(sessao -> sessao.isAberta()
+                        ? votoRepository.existsBySessaoIdAndAssociadoId(sessaoId, associadoId).map(jaVotou -> !jaVotou)
+                        : Mono.just(false));
+    }
+
+    public Mono<ResultadoVotacaoResponse> obterResultadoVotacao(Long sessaoId) {
+        logger.debug("Obtendo resultado da votação (reativo) para sessão ID: {}", sessaoId);
+
+        return buscarSessao(sessaoId)
+                .flatMap(sessao -> Mono.zip(
+                        pautaRepository.findById(sessao.getPautaId()),
+                        votoRepository.countBySessaoIdAndTipo(sessaoId, TipoVoto.SIM.name()),
+                        votoRepository.countBySessaoIdAndTipo(sessaoId, TipoVoto.NAO.name()))
+                        .map(t -> new ResultadoVotacaoResponse(
+                            sessao.getId(),
+                            t.getT1().getId(),
+                            t.getT1().getTitulo(),
+                            t.getT1().getDescricao(),
+                            sessao.getStatus(),
+                            sessao.isAberta(),
+                            sessao.getInicioEm(),
+                            sessao.getFimEm(),
+                            t.getT2().intValue(),
+                            t.getT3().intValue()
+                        )));
+    }
+
+    private Mono<SessaoR2dbc> buscarSessao(Long sessaoId) {
+        return sessaoRepository.findById(sessaoId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Sessão", "id", sessaoId)));
+    }
+
+    private VotoResponse convertToResponse(VotoR2dbc voto) {
+        return new VotoResponse(
+            voto.getId(),
+            voto.getSessaoId(),
+            voto.getAssociadoId(),
+            voto.getTipo(),
+            voto.getVotadoEm()
+        );
+    }
+}
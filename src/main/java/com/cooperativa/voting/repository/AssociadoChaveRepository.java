@@ -0,0 +1,16 @@
+package com.cooperativa.voting.repository;
+
+import com.cooperativa.voting.model.AssociadoChave;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AssociadoChaveRepository extends JpaRepository<AssociadoChave, Integer> {
+
+    @Query("SELECT a FROM AssociadoChave a WHERE a.associadoId = :associadoId")
+    Optional<AssociadoChave> findByAssociadoId(@Param("associadoId") String associadoId);
+}
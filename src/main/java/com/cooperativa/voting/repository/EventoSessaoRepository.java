@@ -0,0 +1,29 @@
+package com.cooperativa.voting.repository;
+
+import com.cooperativa.voting.model.EventoSessao;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EventoSessaoRepository extends JpaRepository<EventoSessao, Long> {
+    
+    @Query("SELECT e FROM EventoSessao e WHERE e.posicao > :apos ORDER BY e.posicao")
+    List<EventoSessao> findAposPosicao(@Param("apos") Long apos, Pageable pageable);
+    
+    @Query("SELECT MIN(e.id) FROM EventoSessao e WHERE e.posicao IS NULL")
+    Long findMenorIdSemPosicao();
+    
+    @Query("SELECT MAX(e.posicao) FROM EventoSessao e")
+    Long findMaiorPosicao();
+    
+    // Limpa o contexto de persistência: eventos já carregados nele ainda teriam posição nula
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE EventoSessao e SET e.posicao = e.id + :deslocamento WHERE e.posicao IS NULL AND e.id BETWEEN :desde AND :ate")
+    int publicar(@Param("deslocamento") Long deslocamento, @Param("desde") Long desde, @Param("ate") Long ate);
+}
@@ -0,0 +1,19 @@
+package com.cooperativa.voting.repository;
+
+import com.cooperativa.voting.model.PosicaoFeed;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PosicaoFeedRepository extends JpaRepository<PosicaoFeed, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM PosicaoFeed p WHERE p.nome = :nome")
+    Optional<PosicaoFeed> travar(@Param("nome") String nome);
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,15 @@ public interface SessaoRepository extends JpaRepository<Sessao, Long> {
     @Query("SELECT s FROM Sessao s WHERE s.pauta.id = :pautaId ORDER BY s.inicioEm DESC")
     List<Sessao> findByPautaIdOrderByInicioEmDesc(@Param("pautaId") Long pautaId);
     
+    @Query("SELECT s FROM Sessao s JOIN FETCH s.pauta WHERE s.id IN :ids")
+    List<Sessao> findAllWithPautaByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT s FROM Sessao s JOIN FETCH s.pauta p WHERE p.id IN :pautaIds ORDER BY s.inicioEm DESC")
+    List<Sessao> findAllWithPautaByPautaIdIn(@Param("pautaIds") Collection<Long> pautaIds);
+    
+    @Query("SELECT s FROM Sessao s JOIN FETCH s.pauta WHERE s.status = 'ABERTA'")
+    List<Sessao> findAllAbertasWithPauta();
+    
     @Query("SELECT s FROM Sessao s WHERE s.pauta.id = :pautaId AND s.status = :status")
     List<Sessao> findByPautaIdAndStatus(@Param("pautaId") Long pautaId, @Param("status") StatusSessao status);
     
@@ -1,12 +1,16 @@
 package com.cooperativa.voting.repository;
 
-import com.cooperativa.voting.model.Voto;
 import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Voto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +20,14 @@ public interface VotoRepository extends JpaRepository<Voto, Long> {
     @Query("SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM Voto v WHERE v.sessao.id = :sessaoId AND v.associadoId = :associadoId")
     boolean existsBySessaoIdAndAssociadoId(@Param("sessaoId") Long sessaoId, @Param("associadoId") String associadoId);
     
+    @Query("SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM Voto v WHERE v.sessao.id = :sessaoId AND v.associadoId = :associadoId AND v.tipo = :tipo")
+    boolean existsBySessaoIdAndAssociadoIdAndTipo(@Param("sessaoId") Long sessaoId, @Param("associadoId") String associadoId,
+                                                  @Param("tipo") TipoVoto tipo);
+    
+    @Query("SELECT v.associadoId FROM Voto v WHERE v.sessao.id = :sessaoId AND v.associadoId IN :associadoIds")
+    List<String> findAssociadoIdsBySessaoIdAndAssociadoIdIn(@Param("sessaoId") Long sessaoId,
+                                                             @Param("associadoIds") Collection<String> associadoIds);
+    
     @Query("SELECT v FROM Voto v WHERE v.sessao.id = :sessaoId")
     List<Voto> findBySessaoId(@Param("sessaoId") Long sessaoId);
     
@@ -25,6 +37,10 @@ public interface VotoRepository extends JpaRepository<Voto, Long> {
     @Query("SELECT COUNT(v) FROM Voto v WHERE v.sessao.id = :sessaoId AND v.tipo = :tipo")
     long countBySessaoIdAndTipo(@Param("sessaoId") Long sessaoId, @Param("tipo") TipoVoto tipo);
     
+    // [sessaoId, tipo, quantidade] de várias sessões numa única agregação
+    @Query("SELECT v.sessao.id, v.tipo, COUNT(v) FROM Voto v WHERE v.sessao.id IN :sessaoIds GROUP BY v.sessao.id, v.tipo")
+    List<Object[]> countBySessaoIdsGroupByTipo(@Param("sessaoIds") Collection<Long> sessaoIds);
+    
     @Query("SELECT COUNT(v) FROM Voto v WHERE v.sessao.id = :sessaoId")
     long countBySessaoId(@Param("sessaoId") Long sessaoId);
     
@@ -36,4 +52,32 @@ public interface VotoRepository extends JpaRepository<Voto, Long> {
     
     @Query("SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM Voto v WHERE v.sessao.pauta.id = :pautaId AND v.associadoId = :associadoId")
     boolean existsByPautaIdAndAssociadoId(@Param("pautaId") Long pautaId, @Param("associadoId") String associadoId);
+    
+    @Query("SELECT v.id, v.associadoId, v.associadoChave, v.tipo FROM Voto v WHERE v.sessao.id = :sessaoId AND v.id > :votoId")
+    List<Object[]> findVotantesBySessaoIdAposVoto(@Param("sessaoId") Long sessaoId, @Param("votoId") Long votoId);
+    
+    @Query("SELECT v FROM Voto v WHERE v.posicao > :apos ORDER BY v.posicao")
+    List<Voto> findAposPosicao(@Param("apos") Long apos, Pageable pageable);
+    
+    @Query("SELECT MIN(v.id) FROM Voto v WHERE v.posicao IS NULL")
+    Long findMenorIdSemPosicao();
+    
+    @Query("SELECT MAX(v.posicao) FROM Voto v")
+    Long findMaiorPosicao();
+    
+    // Limpa o contexto de persistência: votos já carregados nele ainda teriam posição nula
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Voto v SET v.posicao = v.id + :deslocamento WHERE v.posicao IS NULL AND v.id BETWEEN :desde AND :ate")
+    int publicar(@Param("deslocamento") Long deslocamento, @Param("desde") Long desde, @Param("ate") Long ate);
+    
+    @Query("SELECT v.associadoChave FROM Voto v WHERE v.sessao.pauta.id = :pautaId AND v.associadoChave IS NOT NULL")
+    List<Integer> findAssociadoChaveByPautaId(@Param("pautaId") Long pautaId);
+    
+    @Query("SELECT DISTINCT v.associadoId FROM Voto v WHERE v.associadoChave IS NULL")
+    List<String> findAssociadoIdSemChave(Pageable pageable);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE Voto v SET v.associadoChave = :chave WHERE v.associadoId = :associadoId AND v.associadoChave IS NULL")
+    int atualizarAssociadoChave(@Param("associadoId") String associadoId, @Param("chave") Integer chave);
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentoAtual;
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Long-poll do resultado de uma sessão: o cliente informa a última versão que conhece e a
+// requisição fica pendente (sem ocupar thread do servlet) até a versão mudar ou a espera
+// esgotar. Entre um voto e outro os painéis não consultam o banco.
+@Service
+public class AcompanhamentoResultadoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AcompanhamentoResultadoService.class);
+
+    @Autowired
+    private SessaoService sessaoService;
+
+    @Value("${cooperativa.resultado.espera-maxima-ms:30000}")
+    private long esperaMaximaMs;
+
+    private final Map<Long, Set<Espera>> esperasPorSessao = new ConcurrentHashMap<>();
+    private final Set<Long> sessoesAlteradas = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean verificacaoAgendada = new AtomicBoolean();
+
+    private final ExecutorService avisos = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "resultado-avisos");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> aguardarResultado(Long sessaoId, long versaoConhecida,
+                                                                                      long esperaMs) {
+        logger.debug("Aguardando resultado da sessão ID: {} após a versão {} por até {} ms", sessaoId, versaoConhecida, esperaMs);
+
+        // Sessão inexistente falha aqui mesmo, com 404
+        ResultadoVotacaoResponse atual = sessaoService.obterResultadoVotacao(sessaoId);
+        long espera = Math.max(0, Math.min(esperaMs, esperaMaximaMs));
+
+        if (atual.getVersao() > versaoConhecida || espera == 0) {
+            DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado = new DeferredResult<>();
+            resultado.setResult(responder(atual, versaoConhecida));
+            return resultado;
+        }
+
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado = new DeferredResult<>(espera);
+        Espera registro = new Espera(versaoConhecida, CompartimentoAtual.obter(), resultado);
+        esperasPorSessao.compute(sessaoId, (id, esperas) -> {
+            Set<Espera> conjunto = esperas != null ? esperas : ConcurrentHashMap.newKeySet();
+            conjunto.add(registro);
+            return conjunto;
+        });
+        resultado.onCompletion(() -> remover(sessaoId, registro));
+        // A sessão pode ter expirado pelo horário, sem nenhum aviso: confere uma última vez
+        resultado.onTimeout(() -> responderNaExpiracao(sessaoId, registro));
+
+        // Um voto entre a primeira consulta e o registro da espera não geraria aviso para ela
+        ResultadoVotacaoResponse novo = sessaoService.obterResultadoVotacao(sessaoId);
+        if (novo.getVersao() > versaoConhecida) {
+            resultado.setResult(ResponseEntity.ok(novo));
+        }
+        return resultado;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVotosRegistrados(VotosRegistradosEvent event) {
+        event.getSessaoIds().forEach(this::avisar);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessaoEncerrada(SessaoEncerradaEvent event) {
+        avisar(event.getSessaoId());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        avisos.shutdownNow();
+    }
+
+    // Avisos de uma mesma sessão são acumulados até a próxima verificação: uma consulta por sessão
+    private void avisar(Long sessaoId) {
+        if (!esperasPorSessao.containsKey(sessaoId)) {
+            return;
+        }
+        sessoesAlteradas.add(sessaoId);
+        if (verificacaoAgendada.compareAndSet(false, true)) {
+            avisos.execute(this::verificar);
+        }
+    }
+
+    private void verificar() {
+        verificacaoAgendada.set(false);
+
+        for (Iterator<Long> iterator = sessoesAlteradas.iterator(); iterator.hasNext(); ) {
+            Long sessaoId = iterator.next();
+            iterator.remove();
+
+            Set<Espera> esperas = esperasPorSessao.get(sessaoId);
+            if (esperas == null) {
+                continue;
+            }
+            try {
+                // Uma consulta por sessão, no compartimento em que as requisições chegaram
+                Map<Compartimento, ResultadoVotacaoResponse> resultados = new EnumMap<>(Compartimento.class);
+                for (Espera espera : esperas) {
+                    ResultadoVotacaoResponse resultado = resultados.computeIfAbsent(espera.compartimento,
+                        compartimento -> CompartimentoAtual.executar(compartimento,
+                            () -> sessaoService.obterResultadoVotacao(sessaoId)));
+                    if (resultado.getVersao() > espera.versaoConhecida) {
+                        espera.resultado.setResult(ResponseEntity.ok(resultado));
+                    }
+                }
+            } catch (RuntimeException ex) {
+                logger.warn("Falha ao atualizar o resultado da sessão ID {} para quem aguarda: {}", sessaoId, ex.getMessage());
+                esperas.forEach(espera -> espera.resultado.setErrorResult(ex));
+            }
+        }
+    }
+
+    private void responderNaExpiracao(Long sessaoId, Espera espera) {
+        try {
+            // Chamado pela thread de expiração do container, que não passa pelo interceptor
+            ResultadoVotacaoResponse resultado = CompartimentoAtual.executar(espera.compartimento,
+                () -> sessaoService.obterResultadoVotacao(sessaoId));
+            espera.resultado.setResult(responder(resultado, espera.versaoConhecida));
+        } catch (RuntimeException ex) {
+            espera.resultado.setErrorResult(ex);
+        }
+    }
+
+    private ResponseEntity<ResultadoVotacaoResponse> responder(ResultadoVotacaoResponse resultado, long versaoConhecida) {
+        return resultado.getVersao() > versaoConhecida
+                ? ResponseEntity.ok(resultado)
+                : ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+    }
+
+    private void remover(Long sessaoId, Espera espera) {
+        esperasPorSessao.computeIfPresent(sessaoId, (id, esperas) -> {
+            esperas.remove(espera);
+            return esperas.isEmpty() ? null : esperas;
+        });
+    }
+
+    private static final class Espera {
+
+        private final long versaoConhecida;
+        private final Compartimento compartimento;
+        private final DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado;
+
+        Espera(long versaoConhecida, Compartimento compartimento,
+               DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado) {
+            this.versaoConhecida = versaoConhecida;
+            this.compartimento = compartimento;
+            this.resultado = resultado;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentoAtual;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.EventoSessaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.event.SessaoAbertaEvent;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.model.EventoSessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.EventoSessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+// Feeds de alterações (votos e abertura/encerramento de sessões) para consumidores que acompanham
+// o sistema de forma incremental. O cursor é a posição da linha, atribuída em ordem de commit pelo
+// PublicadorAlteracoes; sem novidades a requisição fica pendente (long-poll) sem ocupar thread do
+// servlet até chegar um aviso ou esgotar a espera.
+@Service
+public class AlteracoesService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlteracoesService.class);
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private EventoSessaoRepository eventoSessaoRepository;
+
+    @Autowired
+    private PublicadorAlteracoes publicadorAlteracoes;
+
+    @Value("${cooperativa.alteracoes.limite-maximo:1000}")
+    private int limiteMaximo;
+
+    @Value("${cooperativa.alteracoes.espera-maxima-ms:30000}")
+    private long esperaMaximaMs;
+
+    // Uma única thread refaz as consultas das esperas pendentes quando chega um aviso
+    private final ExecutorService avisos = Executors.newSingleThreadExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "alteracoes-avisos");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Feed<Voto, VotoResponse> feedVotos = new Feed<>(
+        () -> publicadorAlteracoes.publicarVotos(),
+        (apos, limite) -> votoRepository.findAposPosicao(apos, PageRequest.of(0, limite)),
+        Voto::getPosicao,
+        this::convertToResponse);
+
+    private final Feed<EventoSessao, EventoSessaoResponse> feedSessoes = new Feed<>(
+        () -> publicadorAlteracoes.publicarEventosSessao(),
+        (apos, limite) -> eventoSessaoRepository.findAposPosicao(apos, PageRequest.of(0, limite)),
+        EventoSessao::getPosicao,
+        this::convertToResponse);
+
+    public DeferredResult<AlteracoesResponse<VotoResponse>> listarAlteracoesVotos(Long apos, int limite, long esperaMs) {
+        logger.debug("Listando alterações de votos após {} (limite {}, espera {} ms)", apos, limite, esperaMs);
+
+        return feedVotos.aguardar(normalizarCursor(apos), normalizarLimite(limite), normalizarEspera(esperaMs));
+    }
+
+    public DeferredResult<AlteracoesResponse<EventoSessaoResponse>> listarAlteracoesSessoes(Long apos, int limite, long esperaMs) {
+        logger.debug("Listando alterações de sessões após {} (limite {}, espera {} ms)", apos, limite, esperaMs);
+
+        return feedSessoes.aguardar(normalizarCursor(apos), normalizarLimite(limite), normalizarEspera(esperaMs));
+    }
+
+    // Os avisos só chegam depois do commit, quando as linhas novas já são visíveis para a consulta
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVotosRegistrados(VotosRegistradosEvent event) {
+        feedVotos.avisar();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        feedSessoes.avisar();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessaoEncerrada(SessaoEncerradaEvent event) {
+        feedSessoes.avisar();
+    }
+
+    // Publica linhas de escritores que não avisam esta instância (outras réplicas) e acorda as esperas
+    @Scheduled(fixedDelayString = "${cooperativa.alteracoes.publicacao-ms:1000}")
+    public void publicarPendentes() {
+        if (feedVotos.publicar() > 0) {
+            feedVotos.avisar();
+        }
+        if (feedSessoes.publicar() > 0) {
+            feedSessoes.avisar();
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        avisos.shutdownNow();
+    }
+
+    private long normalizarCursor(Long apos) {
+        return apos == null || apos < 0 ? 0 : apos;
+    }
+
+    private int normalizarLimite(int limite) {
+        return Math.max(1, Math.min(limite, limiteMaximo));
+    }
+
+    private long normalizarEspera(long esperaMs) {
+        return Math.max(0, Math.min(esperaMs, esperaMaximaMs));
+    }
+
+    private VotoResponse convertToResponse(Voto voto) {
+        return new VotoResponse(
+            voto.getId(),
+            voto.getSessao().getId(),
+            voto.getAssociadoId(),
+            voto.getTipo(),
+            voto.getVotadoEm()
+        );
+    }
+
+    private EventoSessaoResponse convertToResponse(EventoSessao evento) {
+        return new EventoSessaoResponse(
+            evento.getId(),
+            evento.getSessaoId(),
+            evento.getPautaId(),
+            evento.getStatus(),
+            evento.getOcorridoEm()
+        );
+    }
+
+    private final class Feed<E, T> {
+
+        private final IntSupplier publicacao;
+        private final BiFunction<Long, Integer, List<E>> consulta;
+        private final Function<E, Long> cursor;
+        private final Function<E, T> conversor;
+        private final Set<Espera<T>> esperas = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean verificacaoAgendada = new AtomicBoolean();
+
+        Feed(IntSupplier publicacao, BiFunction<Long, Integer, List<E>> consulta, Function<E, Long> cursor,
+             Function<E, T> conversor) {
+            this.publicacao = publicacao;
+            this.consulta = consulta;
+            this.cursor = cursor;
+            this.conversor = conversor;
+        }
+
+        // Só leitura: a publicação fica com o aviso de commit e o job agendado, sem lock numa requisição GET
+        DeferredResult<AlteracoesResponse<T>> aguardar(long apos, int limite, long esperaMs) {
+            AlteracoesResponse<T> pagina = consultar(apos, limite);
+            if (!pagina.getItens().isEmpty() || esperaMs == 0) {
+                DeferredResult<AlteracoesResponse<T>> resultado = new DeferredResult<>();
+                resultado.setResult(pagina);
+                return resultado;
+            }
+
+            // Ao esgotar a espera responde a página vazia, com o mesmo cursor
+            DeferredResult<AlteracoesResponse<T>> resultado = new DeferredResult<>(esperaMs, pagina);
+            Espera<T> espera = new Espera<>(apos, limite, CompartimentoAtual.obter(), resultado);
+            esperas.add(espera);
+            resultado.onCompletion(() -> esperas.remove(espera));
+
+            // Um aviso entre a primeira consulta e o registro da espera seria perdido
+            AlteracoesResponse<T> novaPagina = consultar(apos, limite);
+            if (!novaPagina.getItens().isEmpty()) {
+                resultado.setResult(novaPagina);
+            }
+            return resultado;
+        }
+
+        // Cada commit publica as linhas novas fora da thread que o fez; vários avisos durante uma
+        // verificação resultam em apenas mais uma verificação
+        void avisar() {
+            if (verificacaoAgendada.compareAndSet(false, true)) {
+                avisos.execute(this::verificar);
+            }
+        }
+
+        // Uma falha (por exemplo, duas réplicas criando a posição do feed) fica para a próxima publicação
+        int publicar() {
+            try {
+                return publicacao.getAsInt();
+            } catch (RuntimeException ex) {
+                logger.debug("Publicação do feed adiada: {}", ex.getMessage());
+                return 0;
+            }
+        }
+
+        private void verificar() {
+            verificacaoAgendada.set(false);
+            publicar();
+            if (esperas.isEmpty()) {
+                return;
+            }
+
+            // Consumidores no mesmo cursor compartilham a consulta, feita no compartimento da requisição
+            Map<String, AlteracoesResponse<T>> paginas = new HashMap<>();
+            for (Espera<T> espera : esperas) {
+                if (espera.resultado.isSetOrExpired()) {
+                    continue;
+                }
+                try {
+                    AlteracoesResponse<T> pagina = paginas.computeIfAbsent(
+                        espera.compartimento + ":" + espera.apos + ":" + espera.limite,
+                        chave -> CompartimentoAtual.executar(espera.compartimento,
+                            () -> consultar(espera.apos, espera.limite)));
+                    if (!pagina.getItens().isEmpty()) {
+                        espera.resultado.setResult(pagina);
+                    }
+                } catch (RuntimeException ex) {
+                    logger.warn("Falha ao consultar alterações após {}: {}", espera.apos, ex.getMessage());
+                    espera.resultado.setErrorResult(ex);
+                }
+            }
+        }
+
+        private AlteracoesResponse<T> consultar(long apos, int limite) {
+            // Um item a mais indica se há outra página
+            List<E> linhas = consulta.apply(apos, limite + 1);
+
+            // Uma linha sem posição (ainda não publicada) nunca pode virar cursor: a página para antes dela
+            for (int i = 0; i < linhas.size(); i++) {
+                if (cursor.apply(linhas.get(i)) == null) {
+                    linhas = linhas.subList(0, i);
+                    break;
+                }
+            }
+
+            boolean temMais = linhas.size() > limite;
+            if (temMais) {
+                linhas = linhas.subList(0, limite);
+            }
+            Long proximo = linhas.isEmpty() ? apos : cursor.apply(linhas.get(linhas.size() - 1));
+            return new AlteracoesResponse<>(linhas.stream().map(conversor).toList(), proximo, temMais);
+        }
+    }
+
+    private static final class Espera<T> {
+
+        private final long apos;
+        private final int limite;
+        private final Compartimento compartimento;
+        private final DeferredResult<AlteracoesResponse<T>> resultado;
+
+        Espera(long apos, int limite, Compartimento compartimento, DeferredResult<AlteracoesResponse<T>> resultado) {
+            this.apos = apos;
+            this.limite = limite;
+            this.compartimento = compartimento;
+            this.resultado = resultado;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.model.AssociadoChave;
+import com.cooperativa.voting.repository.AssociadoChaveRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Traduz associadoId (String) para uma chave inteira densa, usada nos bitmaps de votantes
+@Service
+public class AssociadoChaveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AssociadoChaveService.class);
+
+    private static final int TAMANHO_LOTE_PREENCHIMENTO = 1000;
+
+    private final AssociadoChaveRepository associadoChaveRepository;
+    private final VotoRepository votoRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    // Limitado por tamanho: acima do máximo saem os associados menos usados, e não os novos
+    private final Cache<String, Integer> cache;
+
+    public AssociadoChaveService(AssociadoChaveRepository associadoChaveRepository, VotoRepository votoRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${cooperativa.associados.cache-maximo:1000000}") int cacheMaximo) {
+        this.associadoChaveRepository = associadoChaveRepository;
+        this.votoRepository = votoRepository;
+        this.transactionManager = transactionManager;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximo)
+                .build();
+    }
+
+    public int chave(String associadoId) {
+        Integer chave = cache.getIfPresent(associadoId);
+        if (chave != null) {
+            return chave;
+        }
+
+        chave = associadoChaveRepository.findByAssociadoId(associadoId)
+                .map(AssociadoChave::getChave)
+                .orElseGet(() -> criar(associadoId));
+
+        cache.put(associadoId, chave);
+        return chave;
+    }
+
+    // Votos gravados antes do dicionário existir (ou por outra versão da aplicação) ficam sem chave
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencherChavesPendentes() {
+        long atualizados = 0;
+        List<String> pendentes;
+
+        do {
+            pendentes = votoRepository.findAssociadoIdSemChave(PageRequest.of(0, TAMANHO_LOTE_PREENCHIMENTO));
+            for (String associadoId : pendentes) {
+                atualizados += votoRepository.atualizarAssociadoChave(associadoId, chave(associadoId));
+            }
+        } while (pendentes.size() == TAMANHO_LOTE_PREENCHIMENTO);
+
+        if (atualizados > 0) {
+            logger.info("Chave de associado preenchida em {} votos", atualizados);
+        }
+    }
+
+    private Integer criar(String associadoId) {
+        // Transação própria: uma colisão no índice único não pode invalidar a transação do chamador.
+        // Quem grava votos (VotoService, shards, API reativa) resolve a chave antes de abrir a sua
+        TransactionTemplate novaTransacao = new TransactionTemplate(transactionManager);
+        novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            return novaTransacao.execute(status ->
+                    associadoChaveRepository.saveAndFlush(new AssociadoChave(associadoId)).getChave());
+        } catch (DataIntegrityViolationException ex) {
+            // Outra thread (ou instância) criou a chave ao mesmo tempo
+            return associadoChaveRepository.findByAssociadoId(associadoId)
+                    .map(AssociadoChave::getChave)
+                    .orElseThrow(() -> ex);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.ParticipacaoResponse;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+// Participação dos associados entre pautas, calculada com bitmaps das chaves dos votantes
+@Service
+@Transactional(readOnly = true)
+public class ParticipacaoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipacaoService.class);
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private PautaService pautaService;
+
+    public RoaringBitmap votantesDaPauta(Long pautaId) {
+        // Verificar se a pauta existe
+        pautaService.buscarPautaEntityPorId(pautaId);
+
+        RoaringBitmap votantes = new RoaringBitmap();
+        for (Integer chave : votoRepository.findAssociadoChaveByPautaId(pautaId)) {
+            votantes.add(chave);
+        }
+        votantes.runOptimize();
+        return votantes;
+    }
+
+    public ParticipacaoResponse calcularParticipacao(List<Long> pautaIds) {
+        logger.debug("Calculando participação para pautas: {}", pautaIds);
+
+        if (pautaIds == null || pautaIds.isEmpty()) {
+            throw new BusinessException("Informe ao menos uma pauta");
+        }
+
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(pautaIds));
+        Map<Long, Long> votantesPorPauta = new LinkedHashMap<>();
+        RoaringBitmap algumaPauta = new RoaringBitmap();
+        RoaringBitmap todasAsPautas = null;
+
+        for (Long pautaId : ids) {
+            RoaringBitmap votantes = votantesDaPauta(pautaId);
+            votantesPorPauta.put(pautaId, votantes.getLongCardinality());
+
+            algumaPauta.or(votantes);
+            if (todasAsPautas == null) {
+                todasAsPautas = votantes.clone();
+            } else {
+                todasAsPautas.and(votantes);
+            }
+        }
+
+        return new ParticipacaoResponse(
+            ids,
+            votantesPorPauta,
+            algumaPauta.getLongCardinality(),
+            todasAsPautas.getLongCardinality()
+        );
+    }
+}
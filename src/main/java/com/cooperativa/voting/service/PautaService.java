@@ -1,7 +1,9 @@
 package com.cooperativa.voting.service;
 
+import com.cooperativa.voting.coalescencia.Coalescido;
 import com.cooperativa.voting.dto.request.PautaRequest;
 import com.cooperativa.voting.dto.response.PautaResponse;
+import com.cooperativa.voting.event.PautaAlteradaEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.model.Pauta;
@@ -9,6 +11,7 @@ import com.cooperativa.voting.repository.PautaRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,9 @@ public class PautaService {
     @Autowired
     private PautaRepository pautaRepository;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
     public PautaResponse criarPauta(PautaRequest request) {
         logger.info("Criando nova pauta: {}", request.getTitulo());
         
@@ -40,6 +46,7 @@ public class PautaService {
         return convertToResponse(savedPauta);
     }
     
+    @Coalescido
     @Transactional(readOnly = true)
     public List<PautaResponse> listarPautas() {
         logger.debug("Listando todas as pautas");
@@ -50,6 +57,7 @@ public class PautaService {
                 .collect(Collectors.toList());
     }
     
+    @Coalescido
     @Transactional(readOnly = true)
     public PautaResponse buscarPautaPorId(Long id) {
         logger.debug("Buscando pauta por ID: {}", id);
@@ -81,6 +89,7 @@ public class PautaService {
         pauta.setDescricao(request.getDescricao());
         
         Pauta updatedPauta = pautaRepository.save(pauta);
+        eventPublisher.publishEvent(new PautaAlteradaEvent(updatedPauta.getId()));
         
         logger.info("Pauta atualizada com sucesso - ID: {}", updatedPauta.getId());
         
@@ -92,6 +101,7 @@ public class PautaService {
         
         Pauta pauta = buscarPautaEntityPorId(id);
         pautaRepository.delete(pauta);
+        eventPublisher.publishEvent(new PautaAlteradaEvent(id));
         
         logger.info("Pauta deletada com sucesso - ID: {}", id);
     }
@@ -0,0 +1,88 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.model.PosicaoFeed;
+import com.cooperativa.voting.repository.EventoSessaoRepository;
+import com.cooperativa.voting.repository.PosicaoFeedRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+// Atribui as posições dos feeds de alterações na ordem de commit. O id IDENTITY é reservado no
+// INSERT, então um id menor pode ficar visível depois de um maior; a posição só é dada a linhas já
+// confirmadas, e uma linha que confirma tarde recebe posição acima de tudo que já foi publicado.
+// A posição é id + deslocamento, nunca menor que o id: cursores antigos (ids) continuam válidos.
+@Service
+public class PublicadorAlteracoes {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicadorAlteracoes.class);
+
+    static final String FEED_VOTOS = "votos";
+    static final String FEED_SESSOES = "sessoes";
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private EventoSessaoRepository eventoSessaoRepository;
+
+    @Autowired
+    private PosicaoFeedRepository posicaoFeedRepository;
+
+    @Value("${cooperativa.alteracoes.lote-publicacao:5000}")
+    private int lotePublicacao;
+
+    // Linhas publicadas; 0 quando não havia nada pendente
+    @Transactional
+    public int publicarVotos() {
+        return publicar(FEED_VOTOS, votoRepository::findMenorIdSemPosicao, votoRepository::findMaiorPosicao,
+            votoRepository::publicar);
+    }
+
+    @Transactional
+    public int publicarEventosSessao() {
+        return publicar(FEED_SESSOES, eventoSessaoRepository::findMenorIdSemPosicao, eventoSessaoRepository::findMaiorPosicao,
+            eventoSessaoRepository::publicar);
+    }
+
+    private int publicar(String feed, Supplier<Long> menorIdSemPosicao, Supplier<Long> maiorPosicao,
+                         Atribuicao atribuir) {
+        PosicaoFeed posicao = posicaoFeedRepository.travar(feed).orElse(null);
+        if (posicao == null) {
+            // Primeira publicação: instâncias concorrentes colidem na chave e tentam de novo na próxima
+            Long maior = maiorPosicao.get();
+            posicao = posicaoFeedRepository.saveAndFlush(new PosicaoFeed(feed, maior != null ? maior : 0L));
+        }
+
+        Long menor = menorIdSemPosicao.get();
+        if (menor == null) {
+            return 0;
+        }
+        long ate = menor + lotePublicacao - 1;
+        long deslocamento = Math.max(0, posicao.getUltima() + 1 - menor);
+        // O limite inferior deixa de fora uma linha com id menor confirmada entre as duas consultas:
+        // ela entra na próxima publicação, com posição acima da última
+        int publicadas = atribuir.publicar(deslocamento, menor, ate);
+        if (publicadas == 0) {
+            return 0;
+        }
+
+        // Guarda a maior posição de fato atribuída, e não o fim do lote, para as próximas não saltarem
+        // lote-publicacao. O UPDATE limpou o contexto de persistência, então a linha travada é relida
+        Long maior = maiorPosicao.get();
+        posicao = posicaoFeedRepository.travar(feed).orElseThrow();
+        posicao.setUltima(Math.max(posicao.getUltima(), maior != null ? maior : 0L));
+        logger.debug("Feed {}: {} linhas publicadas até a posição {}", feed, publicadas, posicao.getUltima());
+        return publicadas;
+    }
+
+    @FunctionalInterface
+    private interface Atribuicao {
+        int publicar(Long deslocamento, Long desde, Long ate);
+    }
+}
@@ -1,25 +1,40 @@
 package com.cooperativa.voting.service;
 
+import com.cooperativa.voting.coalescencia.Coalescido;
 import com.cooperativa.voting.dto.request.SessaoRequest;
 import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
 import com.cooperativa.voting.dto.response.SessaoResponse;
 import com.cooperativa.voting.enums.StatusSessao;
 import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.SessaoAbertaEvent;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.jfr.ResultadoVotacaoEvento;
+import com.cooperativa.voting.jfr.SessaoEvento;
+import com.cooperativa.voting.jfr.VarreduraSessoesEvento;
+import com.cooperativa.voting.model.EventoSessao;
 import com.cooperativa.voting.model.Pauta;
 import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.EventoSessaoRepository;
 import com.cooperativa.voting.repository.SessaoRepository;
 import com.cooperativa.voting.repository.VotoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,11 +49,21 @@ public class SessaoService {
     @Autowired
     private VotoRepository votoRepository;
     
+    @Autowired
+    private EventoSessaoRepository eventoSessaoRepository;
+    
     @Autowired
     private PautaService pautaService;
     
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Value("${cooperativa.resultados.ids-maximo:100}")
+    private int idsMaximo;
+    
     public SessaoResponse abrirSessao(Long pautaId, SessaoRequest request) {
         logger.info("Abrindo sessão para pauta ID: {} com duração: {} minutos", pautaId, request.getDuracaoMinutos());
+        SessaoEvento evento = SessaoEvento.iniciar(SessaoEvento.ABERTURA);
         
         Pauta pauta = pautaService.buscarPautaEntityPorId(pautaId);
         
@@ -49,6 +74,9 @@ public class SessaoService {
         
         Sessao sessao = new Sessao(pauta, request.getDuracaoMinutos());
         Sessao savedSessao = sessaoRepository.save(sessao);
+        eventoSessaoRepository.save(new EventoSessao(savedSessao));
+        eventPublisher.publishEvent(new SessaoAbertaEvent(savedSessao.getId()));
+        evento.concluir(pautaId, savedSessao.getId());
         
         logger.info("Sessão aberta com sucesso - ID: {}, Fim em: {}", 
                    savedSessao.getId(), savedSessao.getFimEm());
@@ -56,6 +84,7 @@ public class SessaoService {
         return convertToResponse(savedSessao);
     }
     
+    @Coalescido
     @Transactional(readOnly = true)
     public List<SessaoResponse> listarSessoesPorPauta(Long pautaId) {
         logger.debug("Listando sessões para pauta ID: {}", pautaId);
@@ -69,6 +98,7 @@ public class SessaoService {
                 .collect(Collectors.toList());
     }
     
+    @Coalescido
     @Transactional(readOnly = true)
     public SessaoResponse buscarSessaoPorId(Long id) {
         logger.debug("Buscando sessão por ID: {}", id);
@@ -85,33 +115,68 @@ public class SessaoService {
                 .orElseThrow(() -> new ResourceNotFoundException("Sessão", "id", id));
     }
     
+    @Coalescido
     @Transactional(readOnly = true)
     public ResultadoVotacaoResponse obterResultadoVotacao(Long sessaoId) {
         logger.debug("Obtendo resultado da votação para sessão ID: {}", sessaoId);
+        ResultadoVotacaoEvento evento = ResultadoVotacaoEvento.iniciar();
         
         Sessao sessao = buscarSessaoEntityPorId(sessaoId);
         
         int votosSim = (int) votoRepository.countBySessaoIdAndTipo(sessaoId, TipoVoto.SIM);
         int votosNao = (int) votoRepository.countBySessaoIdAndTipo(sessaoId, TipoVoto.NAO);
+        evento.concluir(sessaoId);
         
-        boolean votacaoAberta = sessao.isAberta();
+        return convertToResultado(sessao, votosSim, votosNao);
+    }
+    
+    // Resultados de várias sessões com uma consulta das sessões (e pautas) e uma agregação dos votos.
+    // Mantém a ordem pedida; ids inexistentes ficam de fora.
+    @Coalescido
+    @Transactional(readOnly = true)
+    public List<ResultadoVotacaoResponse> obterResultadosVotacao(List<Long> sessaoIds) {
+        logger.debug("Obtendo resultados da votação para as sessões: {}", sessaoIds);
         
-        return new ResultadoVotacaoResponse(
-            sessao.getId(),
-            sessao.getPauta().getId(),
-            sessao.getPauta().getTitulo(),
-            sessao.getPauta().getDescricao(),
-            sessao.getStatus(),
-            votacaoAberta,
-            sessao.getInicioEm(),
-            sessao.getFimEm(),
-            votosSim,
-            votosNao
-        );
+        List<Long> ids = validarIds(sessaoIds, "sessões");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Sessao> sessoes = sessaoRepository.findAllWithPautaByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(Sessao::getId, Function.identity()));
+        
+        return convertToResultados(ids.stream()
+                .map(sessoes::get)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+    
+    // Todas as sessões das pautas, na ordem das pautas pedidas e da mais recente para a mais antiga
+    @Coalescido
+    @Transactional(readOnly = true)
+    public List<ResultadoVotacaoResponse> obterResultadosVotacaoPorPautas(List<Long> pautaIds) {
+        logger.debug("Obtendo resultados da votação para as pautas: {}", pautaIds);
+        
+        List<Long> ids = validarIds(pautaIds, "pautas");
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, Integer> ordem = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            ordem.put(ids.get(i), i);
+        }
+        
+        return convertToResultados(sessaoRepository.findAllWithPautaByPautaIdIn(ids)
+                .stream()
+                .sorted(Comparator.comparing(sessao -> ordem.get(sessao.getPauta().getId())))
+                .toList());
     }
     
     public SessaoResponse encerrarSessao(Long id) {
         logger.info("Encerrando sessão ID: {}", id);
+        SessaoEvento evento = SessaoEvento.iniciar(SessaoEvento.ENCERRAMENTO);
         
         Sessao sessao = buscarSessaoEntityPorId(id);
         
@@ -121,6 +186,9 @@ public class SessaoService {
         
         sessao.encerrar();
         Sessao updatedSessao = sessaoRepository.save(sessao);
+        eventoSessaoRepository.save(new EventoSessao(updatedSessao));
+        eventPublisher.publishEvent(new SessaoEncerradaEvent(updatedSessao.getId()));
+        evento.concluir(updatedSessao.getPauta().getId(), updatedSessao.getId());
         
         logger.info("Sessão encerrada com sucesso - ID: {}", updatedSessao.getId());
         
@@ -130,6 +198,7 @@ public class SessaoService {
     // Tarefa agendada para encerrar sessões expiradas
     @Scheduled(fixedRate = 60000) // Executa a cada minuto
     public void encerrarSessoesExpiradas() {
+        VarreduraSessoesEvento evento = VarreduraSessoesEvento.iniciar();
         List<Sessao> sessoesExpiradas = sessaoRepository.findExpiredSessions(LocalDateTime.now());
         
         if (!sessoesExpiradas.isEmpty()) {
@@ -141,7 +210,61 @@ public class SessaoService {
             });
             
             sessaoRepository.saveAll(sessoesExpiradas);
+            eventoSessaoRepository.saveAll(sessoesExpiradas.stream().map(EventoSessao::new).toList());
+            sessoesExpiradas.forEach(sessao -> eventPublisher.publishEvent(new SessaoEncerradaEvent(sessao.getId())));
+        }
+        evento.concluir(sessoesExpiradas.size());
+    }
+    
+    private List<Long> validarIds(List<Long> ids, String recurso) {
+        List<Long> distintos = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        
+        if (distintos.size() > idsMaximo) {
+            throw new BusinessException(String.format("Informe no máximo %d %s por consulta", idsMaximo, recurso));
+        }
+        return distintos;
+    }
+    
+    private List<ResultadoVotacaoResponse> convertToResultados(List<Sessao> sessoes) {
+        if (sessoes.isEmpty()) {
+            return List.of();
+        }
+        
+        ResultadoVotacaoEvento evento = ResultadoVotacaoEvento.iniciar();
+        
+        // [votosSim, votosNao] por sessão
+        Map<Long, int[]> contagens = new HashMap<>();
+        List<Long> sessaoIds = sessoes.stream().map(Sessao::getId).toList();
+        for (Object[] linha : votoRepository.countBySessaoIdsGroupByTipo(sessaoIds)) {
+            int[] contagem = contagens.computeIfAbsent((Long) linha[0], id -> new int[2]);
+            contagem[linha[1] == TipoVoto.SIM ? 0 : 1] = ((Long) linha[2]).intValue();
         }
+        evento.concluirLote(sessoes.size());
+        
+        return sessoes.stream()
+                .map(sessao -> {
+                    int[] contagem = contagens.getOrDefault(sessao.getId(), new int[2]);
+                    return convertToResultado(sessao, contagem[0], contagem[1]);
+                })
+                .toList();
+    }
+    
+    private ResultadoVotacaoResponse convertToResultado(Sessao sessao, int votosSim, int votosNao) {
+        return new ResultadoVotacaoResponse(
+            sessao.getId(),
+            sessao.getPauta().getId(),
+            sessao.getPauta().getTitulo(),
+            sessao.getPauta().getDescricao(),
+            sessao.getStatus(),
+            sessao.isAberta(),
+            sessao.getInicioEm(),
+            sessao.getFimEm(),
+            votosSim,
+            votosNao
+        );
     }
     
     private SessaoResponse convertToResponse(Sessao sessao) {
@@ -0,0 +1,181 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.SessaoAbertaResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.PautaAlteradaEvent;
+import com.cooperativa.voting.event.SessaoAbertaEvent;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// Índice em memória das sessões abertas, para o painel que atualiza a cada segundo. Carregado
+// do banco uma vez na subida e mantido pelos eventos de abertura, encerramento (manual ou pelo
+// job de expiração), votos e alteração de pauta: a listagem não consulta o banco.
+// Entre uma reconciliação e outra, cada instância só enxerga os votos gravados por ela.
+@Service
+public class SessoesAbertasService implements SmartLifecycle {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SessoesAbertasService.class);
+    
+    @Autowired
+    private SessaoRepository sessaoRepository;
+    
+    @Autowired
+    private VotoRepository votoRepository;
+    
+    private final Map<Long, SessaoAberta> sessoes = new ConcurrentHashMap<>();
+    
+    private volatile boolean iniciado;
+    
+    public List<SessaoAbertaResponse> listarSessoesAbertas() {
+        LocalDateTime agora = LocalDateTime.now();
+        
+        // Sessões vencidas saem da listagem mesmo antes do job de expiração encerrá-las
+        return sessoes.values().stream()
+                .filter(sessao -> sessao.fimEm.isAfter(agora))
+                .sorted(Comparator.comparing((SessaoAberta sessao) -> sessao.fimEm).thenComparing(sessao -> sessao.sessaoId))
+                .map(sessao -> sessao.toResponse(agora))
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public void start() {
+        List<Sessao> abertas = sessaoRepository.findAllAbertasWithPauta();
+        carregar(abertas);
+        iniciado = true;
+        logger.info("Índice de sessões abertas carregado com {} sessões", abertas.size());
+    }
+    
+    @Override
+    public void stop() {
+        iniciado = false;
+        sessoes.clear();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return iniciado;
+    }
+    
+    // Carrega antes do servidor gRPC e do Tomcat aceitarem votos
+    @Override
+    public int getPhase() {
+        return -1;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessaoAberta(SessaoAbertaEvent event) {
+        carregar(sessaoRepository.findAllWithPautaByIdIn(List.of(event.getSessaoId())));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSessaoEncerrada(SessaoEncerradaEvent event) {
+        sessoes.remove(event.getSessaoId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVotosRegistrados(VotosRegistradosEvent event) {
+        event.getVotosPorSessao().forEach((sessaoId, votos) -> {
+            SessaoAberta sessao = sessoes.get(sessaoId);
+            if (sessao != null) {
+                sessao.votosSim.addAndGet(votos.getVotosSim());
+                sessao.votosNao.addAndGet(votos.getVotosNao());
+            }
+        });
+    }
+    
+    // Recontagem periódica a partir do banco: corrige eventos que se cruzaram com a carga de uma
+    // sessão, inclui votos e sessões de outras instâncias e descarta sessões que não estão mais abertas
+    @Scheduled(fixedDelayString = "${cooperativa.sessoes-abertas.reconciliacao-ms:30000}")
+    public void reconciliar() {
+        if (!iniciado) {
+            return;
+        }
+        List<Sessao> abertas = sessaoRepository.findAllAbertasWithPauta();
+        Map<Long, Sessao> porId = abertas.stream().collect(Collectors.toMap(Sessao::getId, sessao -> sessao));
+        sessoes.keySet().removeIf(sessaoId -> !porId.containsKey(sessaoId));
+        carregar(abertas);
+        logger.debug("Índice de sessões abertas reconciliado com {} sessões", abertas.size());
+    }
+    
+    // Título alterado ou pauta excluída junto com as sessões
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPautaAlterada(PautaAlteradaEvent event) {
+        Map<Long, String> titulos = sessaoRepository.findAllWithPautaByPautaIdIn(List.of(event.getPautaId())).stream()
+                .collect(Collectors.toMap(Sessao::getId, sessao -> sessao.getPauta().getTitulo()));
+        
+        sessoes.values().removeIf(sessao -> sessao.pautaId.equals(event.getPautaId()) && !titulos.containsKey(sessao.sessaoId));
+        sessoes.values().stream()
+                .filter(sessao -> sessao.pautaId.equals(event.getPautaId()))
+                .forEach(sessao -> sessao.pautaTitulo = titulos.get(sessao.sessaoId));
+    }
+    
+    // A sessão entra no índice antes da contagem: um aviso de votos que chegue durante a carga não
+    // é descartado. A contagem então substitui os totais, já incluindo os votos gravados até ela
+    private void carregar(Collection<Sessao> abertas) {
+        if (abertas.isEmpty()) {
+            return;
+        }
+        
+        Map<Long, SessaoAberta> carregadas = new HashMap<>();
+        for (Sessao sessao : abertas) {
+            carregadas.put(sessao.getId(), sessoes.computeIfAbsent(sessao.getId(), id -> new SessaoAberta(sessao)));
+        }
+        
+        Map<Long, int[]> totais = new HashMap<>();
+        for (Object[] linha : votoRepository.countBySessaoIdsGroupByTipo(carregadas.keySet())) {
+            int[] total = totais.computeIfAbsent((Long) linha[0], id -> new int[2]);
+            total[linha[1] == TipoVoto.SIM ? 0 : 1] = ((Long) linha[2]).intValue();
+        }
+        carregadas.forEach((sessaoId, sessao) -> {
+            int[] total = totais.getOrDefault(sessaoId, new int[2]);
+            sessao.votosSim.set(total[0]);
+            sessao.votosNao.set(total[1]);
+        });
+    }
+    
+    private static final class SessaoAberta {
+        
+        private final Long sessaoId;
+        private final Long pautaId;
+        private final LocalDateTime inicioEm;
+        private final LocalDateTime fimEm;
+        private final AtomicInteger votosSim = new AtomicInteger();
+        private final AtomicInteger votosNao = new AtomicInteger();
+        private volatile String pautaTitulo;
+        
+        SessaoAberta(Sessao sessao) {
+            this.sessaoId = sessao.getId();
+            this.pautaId = sessao.getPauta().getId();
+            this.pautaTitulo = sessao.getPauta().getTitulo();
+            this.inicioEm = sessao.getInicioEm();
+            this.fimEm = sessao.getFimEm();
+        }
+        
+        SessaoAbertaResponse toResponse(LocalDateTime agora) {
+            long segundosRestantes = Math.max(0, Duration.between(agora, fimEm).toSeconds());
+            return new SessaoAbertaResponse(sessaoId, pautaId, pautaTitulo, inicioEm, fimEm,
+                    segundosRestantes, votosSim.get(), votosNao.get());
+        }
+    }
+}
@@ -1,20 +1,37 @@
 package com.cooperativa.voting.service;
 
 import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.PodeVotarLoteResponse;
 import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.exception.VotoDuplicadoException;
+import com.cooperativa.voting.jfr.VotoEvento;
+import com.cooperativa.voting.log.LogAmostrado;
 import com.cooperativa.voting.model.Sessao;
 import com.cooperativa.voting.model.Voto;
 import com.cooperativa.voting.repository.VotoRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,32 +40,70 @@ public class VotoService {
     
     private static final Logger logger = LoggerFactory.getLogger(VotoService.class);
     
+    // Parâmetros por consulta IN, abaixo do limite de binds dos bancos
+    private static final int BLOCO_CONSULTA = 1000;
+    
+    // Um INFO por período com a contagem; o voto individual fica em DEBUG
+    private final LogAmostrado votosRegistrados =
+        new LogAmostrado(logger, "Votos registrados", Level.INFO, 10, TimeUnit.SECONDS);
+    
     @Autowired
     private VotoRepository votoRepository;
     
     @Autowired
     private SessaoService sessaoService;
     
+    @Autowired
+    private AssociadoChaveService associadoChaveService;
+    
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Value("${cooperativa.votos.pode-votar.ids-maximo:5000}")
+    private int podeVotarIdsMaximo;
+    
+    // A chave do associado é resolvida antes da transação do voto: criar uma chave nova abre
+    // transação própria, e dentro da do voto seriam duas conexões presas por requisição
+    @Transactional(propagation = Propagation.SUPPORTS)
     public VotoResponse registrarVoto(Long sessaoId, VotoRequest request) {
-        logger.info("Registrando voto - Sessão: {}, Associado: {}, Voto: {}", 
+        logger.debug("Registrando voto - Sessão: {}, Associado: {}, Voto: {}", 
                    sessaoId, request.getAssociadoId(), request.getVoto());
         
+        int associadoChave = associadoChaveService.chave(request.getAssociadoId());
+        return new TransactionTemplate(transactionManager).execute(status -> gravarVoto(sessaoId, request, associadoChave));
+    }
+    
+    private VotoResponse gravarVoto(Long sessaoId, VotoRequest request, int associadoChave) {
+        VotoEvento evento = VotoEvento.iniciar(sessaoId);
+        
         Sessao sessao = sessaoService.buscarSessaoEntityPorId(sessaoId);
+        evento.sessaoBuscada();
         
         // Verificar se a sessão está aberta
         if (!sessao.isAberta()) {
+            evento.recusar(VotoEvento.SESSAO_ENCERRADA);
             throw new VotacaoEncerradaException(sessaoId);
         }
         
         // Verificar se o associado já votou nesta sessão
-        if (votoRepository.existsBySessaoIdAndAssociadoId(sessaoId, request.getAssociadoId())) {
-            throw new BusinessException("Este associado já votou nesta pauta");
+        boolean jaVotou = votoRepository.existsBySessaoIdAndAssociadoId(sessaoId, request.getAssociadoId());
+        evento.duplicidadeVerificada();
+        if (jaVotou) {
+            evento.recusar(VotoEvento.DUPLICADO);
+            throw VotoDuplicadoException.instancia();
         }
         
-        Voto voto = new Voto(sessao, request.getAssociadoId(), request.getVoto());
+        Voto voto = new Voto(sessao, request.getAssociadoId(), associadoChave, request.getVoto());
         Voto savedVoto = votoRepository.save(voto);
+        evento.inserido();
+        evento.concluirComATransacao();
+        eventPublisher.publishEvent(new VotosRegistradosEvent(sessaoId, request.getVoto()));
         
-        logger.info("Voto registrado com sucesso - ID: {}", savedVoto.getId());
+        logger.debug("Voto registrado com sucesso - ID: {}", savedVoto.getId());
+        votosRegistrados.contar();
         
         return convertToResponse(savedVoto);
     }
@@ -96,6 +151,46 @@ public class VotoService {
                !votoRepository.existsBySessaoIdAndAssociadoId(sessaoId, associadoId);
     }
     
+    // Fila inteira de um terminal: a sessão é verificada uma vez e os votantes saem de uma consulta IN
+    // por bloco de associados, em vez de uma consulta por associado
+    @Transactional(readOnly = true)
+    public PodeVotarLoteResponse verificarQuemPodeVotar(Long sessaoId, List<String> associadoIds) {
+        logger.debug("Verificando {} associados na sessão {}", associadoIds.size(), sessaoId);
+        
+        List<String> distintos = associadoIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (distintos.size() > podeVotarIdsMaximo) {
+            throw new BusinessException(String.format("Informe no máximo %d associados por consulta", podeVotarIdsMaximo));
+        }
+        
+        Sessao sessao = sessaoService.buscarSessaoEntityPorId(sessaoId);
+        if (!sessao.isAberta()) {
+            return new PodeVotarLoteResponse(sessaoId, false, List.of());
+        }
+        
+        Set<String> votantes = new HashSet<>();
+        for (int inicio = 0; inicio < distintos.size(); inicio += BLOCO_CONSULTA) {
+            List<String> bloco = distintos.subList(inicio, Math.min(inicio + BLOCO_CONSULTA, distintos.size()));
+            votantes.addAll(votoRepository.findAssociadoIdsBySessaoIdAndAssociadoIdIn(sessaoId, bloco));
+        }
+        
+        List<String> podemVotar = new ArrayList<>(distintos.size() - votantes.size());
+        for (String associadoId : distintos) {
+            if (!votantes.contains(associadoId)) {
+                podemVotar.add(associadoId);
+            }
+        }
+        return new PodeVotarLoteResponse(sessaoId, true, podemVotar);
+    }
+    
+    // Sessão encerrada não recebe mais votos: a lista de votos dela não muda
+    @Transactional(readOnly = true)
+    public boolean isSessaoEncerrada(Long sessaoId) {
+        return sessaoService.buscarSessaoEntityPorId(sessaoId).getStatus() == StatusSessao.ENCERRADA;
+    }
+    
     private VotoResponse convertToResponse(Voto voto) {
         return new VotoResponse(
             voto.getId(),
@@ -0,0 +1,95 @@
+package com.cooperativa.voting.admissao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LimiteAdaptativoTest {
+
+    private static final long RAPIDA = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long LENTA = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    void tentarAdquirir_DeveRecusar_QuandoLimiteAtingido() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(3, 1, 10, 1.5);
+
+        assertThat(limite.tentarAdquirir()).isTrue();
+        assertThat(limite.tentarAdquirir()).isTrue();
+        assertThat(limite.tentarAdquirir()).isTrue();
+        assertThat(limite.tentarAdquirir()).isFalse();
+        assertThat(limite.getEmUso()).isEqualTo(3);
+
+        limite.liberar(RAPIDA, false);
+
+        assertThat(limite.getEmUso()).isEqualTo(2);
+        assertThat(limite.tentarAdquirir()).isTrue();
+    }
+
+    @Test
+    void liberar_DeveCrescerLimite_QuandoLatenciaEstavelELimiteEmUso() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(10, 2, 100, 1.5);
+
+        for (int i = 0; i < 50; i++) {
+            rodada(limite, RAPIDA);
+        }
+
+        assertThat(limite.getLimite()).isGreaterThan(10);
+        assertThat(limite.getEmUso()).isZero();
+    }
+
+    @Test
+    void liberar_NaoDeveCrescerLimite_QuandoOcioso() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(10, 2, 100, 1.5);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(limite.tentarAdquirir()).isTrue();
+            limite.liberar(RAPIDA, false);
+        }
+
+        assertThat(limite.getLimite()).isEqualTo(10);
+    }
+
+    @Test
+    void liberar_DeveReduzirLimite_QuandoLatenciaSobe() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(50, 2, 100, 1.5);
+        for (int i = 0; i < 5; i++) {
+            rodada(limite, RAPIDA);
+        }
+        int limiteEstavel = limite.getLimite();
+
+        for (int i = 0; i < 20; i++) {
+            rodada(limite, LENTA);
+        }
+
+        assertThat(limite.getLimite()).isLessThan(limiteEstavel / 2);
+        assertThat(limite.getLimite()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void liberar_DeveCortarLimite_QuandoSobrecarga() {
+        LimiteAdaptativo limite = new LimiteAdaptativo(10, 8, 100, 1.5);
+
+        assertThat(limite.tentarAdquirir()).isTrue();
+        limite.liberar(RAPIDA, true);
+        assertThat(limite.getLimite()).isEqualTo(9);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limite.tentarAdquirir()).isTrue();
+            limite.liberar(RAPIDA, true);
+        }
+        assertThat(limite.getLimite()).isEqualTo(8);
+    }
+
+    // Ocupa o limite inteiro e libera tudo com a mesma latência
+    private void rodada(LimiteAdaptativo limite, long latencia) {
+        int adquiridas = 0;
+        while (limite.tentarAdquirir()) {
+            adquiridas++;
+        }
+        for (int i = 0; i < adquiridas; i++) {
+            limite.liberar(latencia, false);
+        }
+    }
+}
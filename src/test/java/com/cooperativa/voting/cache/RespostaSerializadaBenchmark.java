@@ -0,0 +1,97 @@
+package com.cooperativa.voting.cache;
+
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Custo por requisição de uma sessão encerrada: montar os DTOs e serializar com Jackson (caminho
+// normal) contra copiar os bytes guardados no cache. Rodar com -prof gc para ver a alocação.
+// Não é executado pelo surefire: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RespostaSerializada -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RespostaSerializadaBenchmark {
+
+    @Param({"10", "1000"})
+    private int votos;
+
+    private ObjectMapper objectMapper;
+    private LocalDateTime agora;
+    private RespostaSerializada resultadoSerializado;
+    private RespostaSerializada votosSerializados;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mesma configuração do ObjectMapper do Spring Boot (módulo de datas, sem timestamps)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        agora = LocalDateTime.now();
+        resultadoSerializado = RespostaSerializada.de(objectMapper.writeValueAsBytes(montarResultado()), 1024, 0, 0);
+        votosSerializados = RespostaSerializada.de(objectMapper.writeValueAsBytes(montarVotos()), 1024, 0, 0);
+    }
+
+    @Benchmark
+    public void resultadoSerializandoACadaRequisicao(Blackhole blackhole) throws IOException {
+        blackhole.consume(escrever(objectMapper.writeValueAsBytes(montarResultado())));
+    }
+
+    @Benchmark
+    public void resultadoDoCache(Blackhole blackhole) {
+        blackhole.consume(escrever(resultadoSerializado.getIdentidade()));
+    }
+
+    @Benchmark
+    public void votosSerializandoACadaRequisicao(Blackhole blackhole) throws IOException {
+        blackhole.consume(escrever(objectMapper.writeValueAsBytes(montarVotos())));
+    }
+
+    @Benchmark
+    public void votosDoCache(Blackhole blackhole) {
+        blackhole.consume(escrever(votosSerializados.getIdentidade()));
+    }
+
+    @Benchmark
+    public void votosDoCacheGzip(Blackhole blackhole) {
+        byte[] corpo = votosSerializados.getGzip() != null ? votosSerializados.getGzip() : votosSerializados.getIdentidade();
+        blackhole.consume(escrever(corpo));
+    }
+
+    // Simula a cópia para o buffer do servlet, presente nos dois caminhos
+    private byte[] escrever(byte[] corpo) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(corpo.length);
+        saida.write(corpo, 0, corpo.length);
+        return saida.toByteArray();
+    }
+
+    private ResultadoVotacaoResponse montarResultado() {
+        return new ResultadoVotacaoResponse(1L, 1L, "Pauta", "Descrição da pauta", StatusSessao.ENCERRADA, false,
+            agora.minusHours(1), agora, votos / 2 + votos % 2, votos / 2);
+    }
+
+    private List<VotoResponse> montarVotos() {
+        List<VotoResponse> lista = new ArrayList<>(votos);
+        for (int i = 0; i < votos; i++) {
+            lista.add(new VotoResponse((long) i, 1L, String.format("%011d", i),
+                i % 2 == 0 ? TipoVoto.SIM : TipoVoto.NAO, agora.minusSeconds(i)));
+        }
+        return lista;
+    }
+}
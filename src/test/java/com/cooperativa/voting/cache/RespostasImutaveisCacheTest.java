@@ -0,0 +1,132 @@
+package com.cooperativa.voting.cache;
+
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.PautaAlteradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RespostasImutaveisCacheTest {
+
+    private RespostasImutaveisCache cache;
+    private AtomicInteger consultas;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RespostasImutaveisCache(new ObjectMapper(), new SimpleMeterRegistry(), 1, 256);
+        consultas = new AtomicInteger();
+    }
+
+    @Test
+    void servir_DeveEscreverBytesDoCache_SemRepetirConsulta_QuandoImutavel() throws IOException {
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        Object corpo = cache.servir(1L, "resultado", this::consultar, resultado -> true, new MockHttpServletRequest(), primeira);
+
+        MockHttpServletResponse segunda = new MockHttpServletResponse();
+        cache.servir(1L, "resultado", this::consultar, resultado -> true, new MockHttpServletRequest(), segunda);
+
+        assertThat(corpo).isNull();
+        assertThat(consultas).hasValue(1);
+        assertThat(segunda.getContentType()).isEqualTo("application/json");
+        assertThat(segunda.getContentAsString()).isEqualTo(primeira.getContentAsString()).contains("\"sim\":1");
+    }
+
+    @Test
+    void servir_DeveDevolverCorpoSemGuardar_QuandoNaoImutavel() throws IOException {
+        Object corpo = cache.servir(1L, "resultado", this::consultar, resultado -> false,
+            new MockHttpServletRequest(), new MockHttpServletResponse());
+        cache.servir(1L, "resultado", this::consultar, resultado -> false,
+            new MockHttpServletRequest(), new MockHttpServletResponse());
+
+        assertThat(corpo).isInstanceOf(Map.class);
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    void servir_DeveRefazerConsulta_QuandoGeracaoDaSessaoOuDasPautasMuda() throws IOException {
+        servir(1L);
+        cache.onVotosRegistrados(new VotosRegistradosEvent(2L, TipoVoto.SIM));
+        servir(1L);
+        assertThat(consultas).hasValue(1);
+
+        cache.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+        servir(1L);
+        assertThat(consultas).hasValue(2);
+
+        cache.onPautaAlterada(new PautaAlteradaEvent(1L));
+        servir(1L);
+        assertThat(consultas).hasValue(3);
+    }
+
+    @Test
+    void servir_DeveRefazerConsulta_QuandoGeracaoDaSessaoSaiDoCache() throws IOException {
+        AtomicLong nanos = new AtomicLong();
+        cache = new RespostasImutaveisCache(new ObjectMapper(), new SimpleMeterRegistry(), 1, 256, nanos::get);
+
+        servir(1L);
+        cache.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+        // A geração do voto expira antes de a sessão ser consultada de novo
+        nanos.addAndGet(TimeUnit.HOURS.toNanos(2));
+        servir(1L);
+        servir(1L);
+
+        assertThat(consultas).hasValue(2);
+    }
+
+    @Test
+    void servir_DeveEscreverGzip_SomenteQuandoClienteAceitaECorpoGrande() throws IOException {
+        List<String> grande = Collections.nCopies(100, "associado-12345678901");
+
+        MockHttpServletRequest comGzip = new MockHttpServletRequest();
+        comGzip.addHeader("Accept-Encoding", "gzip, deflate");
+        MockHttpServletResponse comprimida = new MockHttpServletResponse();
+        cache.servir(1L, "votos", () -> grande, votos -> true, comGzip, comprimida);
+
+        MockHttpServletResponse identidade = new MockHttpServletResponse();
+        cache.servir(1L, "votos", () -> grande, votos -> true, new MockHttpServletRequest(), identidade);
+
+        assertThat(comprimida.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(comprimida.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(comprimida.getContentAsByteArray().length).isLessThan(identidade.getContentAsByteArray().length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(comprimida.getContentAsByteArray()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(identidade.getContentAsByteArray());
+        }
+        assertThat(identidade.getHeader("Content-Encoding")).isNull();
+    }
+
+    @Test
+    void servir_DeveIgnorarCache_QuandoAcceptNaoIncluiJson() throws IOException {
+        MockHttpServletRequest xml = new MockHttpServletRequest();
+        xml.addHeader("Accept", "application/xml");
+
+        Object corpo = cache.servir(1L, "resultado", this::consultar, resultado -> true, xml, new MockHttpServletResponse());
+
+        assertThat(corpo).isNotNull();
+    }
+
+    private void servir(Long sessaoId) throws IOException {
+        cache.servir(sessaoId, "resultado", this::consultar, resultado -> true,
+            new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+
+    private Map<String, Object> consultar() {
+        consultas.incrementAndGet();
+        return Map.of("sim", 1, "nao", 0);
+    }
+}
@@ -0,0 +1,93 @@
+package com.cooperativa.voting.coalescencia;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final AtomicInteger executadas = new AtomicInteger();
+    private final AtomicInteger coalescidas = new AtomicInteger();
+
+    @Test
+    void executar_DeveCompartilharExecucao_QuandoChamadasConcorrentesUsamMesmaChave() throws Exception {
+        CountDownLatch liderIniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger execucoes = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        try {
+            List<Future<Object>> resultados = new ArrayList<>();
+            resultados.add(executor.submit(() -> executar("resultado:1", () -> {
+                execucoes.incrementAndGet();
+                liderIniciou.countDown();
+                liberar.await();
+                return "resultado";
+            })));
+            assertThat(liderIniciou.await(5, TimeUnit.SECONDS)).isTrue();
+
+            for (int i = 0; i < 4; i++) {
+                resultados.add(executor.submit(() -> executar("resultado:1", () -> {
+                    execucoes.incrementAndGet();
+                    return "outro";
+                })));
+            }
+            long limite = System.currentTimeMillis() + 5000;
+            while (coalescidas.get() < 4 && System.currentTimeMillis() < limite) {
+                Thread.sleep(1);
+            }
+            liberar.countDown();
+
+            for (Future<Object> resultado : resultados) {
+                assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("resultado");
+            }
+            assertThat(execucoes.get()).isEqualTo(1);
+            assertThat(executadas.get()).isEqualTo(1);
+            assertThat(coalescidas.get()).isEqualTo(4);
+            assertThat(singleFlight.getEmAndamento()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void executar_DeveExecutarDeNovo_QuandoExecucaoAnteriorJaTerminou() throws Exception {
+        assertThat(executar("pauta:1", () -> "primeira")).isEqualTo("primeira");
+        assertThat(executar("pauta:1", () -> "segunda")).isEqualTo("segunda");
+
+        assertThat(executadas.get()).isEqualTo(2);
+        assertThat(coalescidas.get()).isZero();
+    }
+
+    @Test
+    void executar_DevePropagarExcecaoEDescartarChave_QuandoExecucaoFalha() throws Exception {
+        assertThatThrownBy(() -> executar("sessao:999", () -> {
+            throw new IllegalStateException("falhou");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("falhou");
+
+        assertThat(singleFlight.getEmAndamento()).isZero();
+        assertThat(executar("sessao:999", () -> "ok")).isEqualTo("ok");
+    }
+
+    private Object executar(String chave, SingleFlight.Execucao execucao) throws Exception {
+        try {
+            return singleFlight.executar(chave, execucao,
+                coalescida -> (coalescida ? coalescidas : executadas).incrementAndGet());
+        } catch (Exception ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cooperativa.voting.compartimento;
+
+import com.cooperativa.voting.exception.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompartimentosInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private CompartimentosInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+            .withProperty("cooperativa.compartimentos.relatorio.concorrencia", "1")
+            .withProperty("cooperativa.compartimentos.relatorio.espera-ms", "0")
+            .withProperty("cooperativa.compartimentos.retry-after-segundos", "2");
+        interceptor = new CompartimentosInterceptor(environment, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        CompartimentoAtual.limpar();
+    }
+
+    @Test
+    void preHandle_DeveMarcarThreadComCompartimentoDoEndpoint() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        interceptor.preHandle(request, response, handler("relatorio"));
+        assertThat(CompartimentoAtual.obter()).isEqualTo(Compartimento.RELATORIO);
+
+        interceptor.afterCompletion(request, response, handler("relatorio"), null);
+        assertThat(CompartimentoAtual.obter()).isEqualTo(Compartimento.CONSULTA);
+    }
+
+    @Test
+    void executar_DeveUsarCompartimentoCapturado_ERestaurarOAnterior() throws Exception {
+        interceptor.preHandle(new MockHttpServletRequest(), response, handler("votacao"));
+
+        Compartimento durante = CompartimentoAtual.executar(Compartimento.RELATORIO, CompartimentoAtual::obter);
+
+        assertThat(durante).isEqualTo(Compartimento.RELATORIO);
+        assertThat(CompartimentoAtual.obter()).isEqualTo(Compartimento.VOTACAO);
+    }
+
+    @Test
+    void obter_NaoDeveUsarVotacao_EmThreadsForaDeRequisicoes() throws Exception {
+        Compartimento[] fora = new Compartimento[1];
+        Thread thread = new Thread(() -> fora[0] = CompartimentoAtual.obter());
+        thread.start();
+        thread.join();
+
+        assertThat(fora[0]).isEqualTo(Compartimento.CONSULTA);
+    }
+
+    @Test
+    void preHandle_DeveUsarConsulta_QuandoEndpointSemAnotacao() throws Exception {
+        interceptor.preHandle(new MockHttpServletRequest(), response, handler("consulta"));
+
+        assertThat(CompartimentoAtual.obter()).isEqualTo(Compartimento.CONSULTA);
+    }
+
+    @Test
+    void preHandle_DeveRecusar_QuandoCompartimentoSemVagas() throws Exception {
+        MockHttpServletRequest primeira = new MockHttpServletRequest();
+        interceptor.preHandle(primeira, response, handler("relatorio"));
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler("relatorio")))
+            .isInstanceOf(ServicoSobrecarregadoException.class)
+            .extracting("retryAfterSegundos").isEqualTo(2L);
+        assertThat(meterRegistry.get("cooperativa.compartimentos.rejeicoes")
+            .tag("compartimento", "relatorio").counter().count()).isEqualTo(1);
+
+        // Os outros compartimentos não são afetados
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), response, handler("votacao"))).isTrue();
+
+        interceptor.afterCompletion(primeira, response, handler("relatorio"), null);
+        assertThat(interceptor.getDisponiveis(Compartimento.RELATORIO)).isEqualTo(1);
+    }
+
+    @Test
+    void afterConcurrentHandlingStarted_DeveLiberarVaga_UmaUnicaVez() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, handler("relatorio"));
+        assertThat(interceptor.getDisponiveis(Compartimento.RELATORIO)).isZero();
+
+        interceptor.afterConcurrentHandlingStarted(request, response, handler("relatorio"));
+        interceptor.afterCompletion(request, response, handler("relatorio"), null);
+
+        assertThat(interceptor.getDisponiveis(Compartimento.RELATORIO)).isEqualTo(1);
+    }
+
+    private HandlerMethod handler(String metodo) throws NoSuchMethodException {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(metodo));
+    }
+
+    static class Endpoints {
+
+        @Compartimentado(Compartimento.VOTACAO)
+        public void votacao() {
+        }
+
+        public void consulta() {
+        }
+
+        @Compartimentado(Compartimento.RELATORIO)
+        public void relatorio() {
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.cooperativa.voting.config;
+
+import com.cooperativa.voting.model.Voto;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.PreparedStatement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImagemNativaConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    ImagemNativaConfigTest() {
+        new ImagemNativaConfig.Dicas().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void dicas_DevemCobrirEntidadesEMensagensGrpc() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Voto.class)
+                .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(TypeReference.of("com.cooperativa.voting.grpc.v1.RegistrarVotoRequest$Builder")))
+                .accepts(hints);
+    }
+
+    @Test
+    void dicas_DevemCobrirProxiesJdbcESwaggerUi() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/resources/webjars/swagger-ui/5.21.0/index.html"))
+                .accepts(hints);
+    }
+}
@@ -1,9 +1,11 @@
 package com.cooperativa.voting.controller;
 
 import com.cooperativa.voting.dto.request.PautaRequest;
+import com.cooperativa.voting.dto.response.ParticipacaoResponse;
 import com.cooperativa.voting.dto.response.PautaResponse;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.service.ParticipacaoService;
 import com.cooperativa.voting.service.PautaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -33,6 +36,9 @@ class PautaControllerTest {
     @MockitoBean
     private PautaService pautaService;
 
+    @MockitoBean
+    private ParticipacaoService participacaoService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -175,4 +181,28 @@ class PautaControllerTest {
 
         verify(pautaService).deletarPauta(999L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void calcularParticipacao_DeveRetornar200_QuandoPautasExistem() throws Exception {
+        ParticipacaoResponse participacao = new ParticipacaoResponse(
+                List.of(1L, 2L), Map.of(1L, 3L, 2L, 2L), 4L, 1L);
+        when(participacaoService.calcularParticipacao(List.of(1L, 2L))).thenReturn(participacao);
+
+        mockMvc.perform(get("/api/pautas/participacao").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.votantesPorPauta.1").value(3))
+                .andExpect(jsonPath("$.associadosDistintos").value(4))
+                .andExpect(jsonPath("$.associadosEmTodasAsPautas").value(1));
+
+        verify(participacaoService).calcularParticipacao(List.of(1L, 2L));
+    }
+
+    @Test
+    void calcularParticipacao_DeveRetornar404_QuandoPautaNaoExiste() throws Exception {
+        when(participacaoService.calcularParticipacao(List.of(999L)))
+                .thenThrow(new ResourceNotFoundException("Pauta", "id", 999L));
+
+        mockMvc.perform(get("/api/pautas/participacao").param("ids", "999"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -1,25 +1,36 @@
 package com.cooperativa.voting.controller;
 
 import com.cooperativa.voting.dto.request.SessaoRequest;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.EventoSessaoResponse;
 import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.SessaoAbertaResponse;
 import com.cooperativa.voting.dto.response.SessaoResponse;
 import com.cooperativa.voting.enums.StatusSessao;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.service.AcompanhamentoResultadoService;
+import com.cooperativa.voting.service.AlteracoesService;
 import com.cooperativa.voting.service.SessaoService;
+import com.cooperativa.voting.service.SessoesAbertasService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -35,6 +46,15 @@ class SessaoControllerTest {
     @MockitoBean
     private SessaoService sessaoService;
 
+    @MockitoBean
+    private AlteracoesService alteracoesService;
+
+    @MockitoBean
+    private AcompanhamentoResultadoService acompanhamentoResultadoService;
+
+    @MockitoBean
+    private SessoesAbertasService sessoesAbertasService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -69,6 +89,23 @@ class SessaoControllerTest {
         verify(sessaoService).abrirSessao(eq(1L), any(SessaoRequest.class));
     }
 
+    @Test
+    void listarSessoesAbertas_DeveRetornarIndiceEmMemoria() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        when(sessoesAbertasService.listarSessoesAbertas()).thenReturn(List.of(
+                new SessaoAbertaResponse(1L, 1L, "Pauta Teste", now, now.plusMinutes(5), 300, 4, 2)));
+
+        mockMvc.perform(get("/api/sessoes/abertas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sessaoId").value(1L))
+                .andExpect(jsonPath("$[0].pautaTitulo").value("Pauta Teste"))
+                .andExpect(jsonPath("$[0].segundosRestantes").value(300))
+                .andExpect(jsonPath("$[0].totalVotos").value(6));
+
+        verifyNoInteractions(sessaoService);
+    }
+
     @Test
     void abrirSessao_DeveRetornar400_QuandoDuracaoInvalida() throws Exception {
         SessaoRequest invalidRequest = new SessaoRequest();
@@ -159,6 +196,28 @@ class SessaoControllerTest {
         verify(sessaoService).obterResultadoVotacao(1L);
     }
 
+    @Test
+    void obterResultadosVotacao_DeveRetornar200_ComResultadosDasSessoes() throws Exception {
+        when(sessaoService.obterResultadosVotacao(List.of(1L, 2L))).thenReturn(List.of(resultadoResponse));
+
+        mockMvc.perform(get("/api/sessoes/resultados").param("ids", "1,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].sessaoId").value(1L));
+
+        verify(sessaoService).obterResultadosVotacao(List.of(1L, 2L));
+    }
+
+    @Test
+    void obterResultadosVotacaoPorPautas_DeveRetornar400_QuandoAcimaDoLimite() throws Exception {
+        when(sessaoService.obterResultadosVotacaoPorPautas(List.of(1L, 2L)))
+                .thenThrow(new BusinessException("Informe no máximo 1 pautas por consulta"));
+
+        mockMvc.perform(get("/api/sessoes/resultados").param("pautaIds", "1", "2"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Informe no máximo 1 pautas por consulta"));
+    }
+
     @Test
     void encerrarSessao_DeveRetornar200_QuandoSessaoAberta() throws Exception {
         when(sessaoService.encerrarSessao(1L)).thenReturn(sessaoResponse);
@@ -192,4 +251,60 @@ class SessaoControllerTest {
 
         verify(sessaoService).encerrarSessao(999L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void listarAlteracoes_DeveRetornarEventosDeSessao_QuandoExistemNovidades() throws Exception {
+        EventoSessaoResponse evento = new EventoSessaoResponse(5L, 1L, 1L, StatusSessao.ENCERRADA, LocalDateTime.now());
+        DeferredResult<AlteracoesResponse<EventoSessaoResponse>> resultado = new DeferredResult<>();
+        resultado.setResult(new AlteracoesResponse<>(List.of(evento), 5L, true));
+        when(alteracoesService.listarAlteracoesSessoes(4L, 100, 0L)).thenReturn(resultado);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/sessoes/changes").param("after", "4"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens[0].sessaoId").value(1L))
+                .andExpect(jsonPath("$.itens[0].status").value("ENCERRADA"))
+                .andExpect(jsonPath("$.cursor").value(5L))
+                .andExpect(jsonPath("$.temMais").value(true));
+
+        verify(alteracoesService).listarAlteracoesSessoes(4L, 100, 0L);
+    }
+
+    @Test
+    void aguardarResultadoVotacao_DeveRetornar200_QuandoVersaoMudou() throws Exception {
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado = new DeferredResult<>();
+        resultado.setResult(ResponseEntity.ok(resultadoResponse));
+        when(acompanhamentoResultadoService.aguardarResultado(1L, 3L, 20000L)).thenReturn(resultado);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/sessoes/1/resultado")
+                .param("sinceVersion", "3")
+                .param("waitMs", "20000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessaoId").value(1L))
+                .andExpect(jsonPath("$.versao").value(resultadoResponse.getVersao()));
+
+        verify(sessaoService, never()).obterResultadoVotacao(any());
+    }
+
+    @Test
+    void aguardarResultadoVotacao_DeveRetornar304_QuandoNadaMudou() throws Exception {
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado = new DeferredResult<>();
+        resultado.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        when(acompanhamentoResultadoService.aguardarResultado(1L, 10L, 0L)).thenReturn(resultado);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/sessoes/1/resultado").param("sinceVersion", "10"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+}
@@ -1,13 +1,18 @@
 package com.cooperativa.voting.controller;
 
+import com.cooperativa.voting.dto.request.PodeVotarLoteRequest;
 import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.PodeVotarLoteResponse;
 import com.cooperativa.voting.dto.response.VotoResponse;
 import com.cooperativa.voting.enums.TipoVoto;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.service.AlteracoesService;
 import com.cooperativa.voting.service.VotoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +20,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -35,6 +43,9 @@ class VotoControllerTest {
     @MockitoBean
     private VotoService votoService;
 
+    @MockitoBean
+    private AlteracoesService alteracoesService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -66,6 +77,25 @@ class VotoControllerTest {
         verify(votoService).registrarVoto(eq(1L), any(VotoRequest.class));
     }
 
+    @Test
+    void registrarVoto_DeveLerEResponderCbor_QuandoNegociado() throws Exception {
+        when(votoService.registrarVoto(eq(1L), any(VotoRequest.class))).thenReturn(votoResponse);
+        ObjectMapper cborMapper = objectMapper.copyWith(new CBORFactory());
+
+        byte[] corpo = mockMvc.perform(post("/api/votos/sessao/1")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cborMapper.writeValueAsBytes(votoRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        VotoResponse resposta = cborMapper.readValue(corpo, VotoResponse.class);
+        assertThat(resposta.getAssociadoId()).isEqualTo("12345678901");
+        assertThat(resposta.getVoto()).isEqualTo(TipoVoto.SIM);
+        assertThat(corpo.length).isLessThan(objectMapper.writeValueAsBytes(votoResponse).length);
+    }
+
     @Test
     void registrarVoto_DeveRetornar400_QuandoAssociadoIdVazio() throws Exception {
         VotoRequest invalidRequest = new VotoRequest();
@@ -202,4 +232,51 @@ class VotoControllerTest {
 
         verify(votoService).verificarSePodeVotar(999L, "12345678901");
     }
-}
\ No newline at end of file
+
+    @Test
+    void verificarQuemPodeVotar_DeveRetornar200_ComAssociadosQuePodemVotar() throws Exception {
+        when(votoService.verificarQuemPodeVotar(1L, List.of("12345678901", "12345678902")))
+                .thenReturn(new PodeVotarLoteResponse(1L, true, List.of("12345678902")));
+
+        mockMvc.perform(post("/api/votos/sessao/1/pode-votar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PodeVotarLoteRequest(List.of("12345678901", "12345678902")))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.votacaoAberta").value(true))
+                .andExpect(jsonPath("$.podemVotar[0]").value("12345678902"))
+                .andExpect(jsonPath("$.podemVotar.length()").value(1));
+    }
+
+    @Test
+    void verificarQuemPodeVotar_DeveRetornar400_QuandoListaVazia() throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/1/pode-votar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new PodeVotarLoteRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(votoService);
+    }
+
+    @Test
+    void listarAlteracoes_DeveRetornarPaginaComCursor_QuandoExistemVotosNovos() throws Exception {
+        DeferredResult<AlteracoesResponse<VotoResponse>> resultado = new DeferredResult<>();
+        resultado.setResult(new AlteracoesResponse<>(List.of(votoResponse), 1L, false));
+        when(alteracoesService.listarAlteracoesVotos(0L, 50, 1000L)).thenReturn(resultado);
+
+        MvcResult mvcResult = mockMvc.perform(get("/api/votos/changes")
+                .param("after", "0")
+                .param("limit", "50")
+                .param("waitMs", "1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(1))
+                .andExpect(jsonPath("$.itens[0].id").value(1L))
+                .andExpect(jsonPath("$.cursor").value(1L))
+                .andExpect(jsonPath("$.temMais").value(false));
+
+        verify(alteracoesService).listarAlteracoesVotos(0L, 50, 1000L);
+    }
+}
@@ -0,0 +1,113 @@
+package com.cooperativa.voting.dto;
+
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Compara JSON, CBOR e Smile para os DTOs mais trafegados: tempo de codificar e decodificar e, nos
+// contadores auxiliares bytesVotos e bytesResultado do relatório do JMH, o tamanho do payload.
+// Não é executado pelo surefire: mvn -Pbenchmark test-compile exec:exec -Djmh.args="FormatosSerializacao -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FormatosSerializacaoBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    @Param({"1", "1000"})
+    private int votos;
+
+    private ObjectMapper objectMapper;
+    private JavaType tipoLista;
+    private List<VotoResponse> listaVotos;
+    private ResultadoVotacaoResponse resultado;
+    private byte[] listaVotosCodificada;
+    private byte[] resultadoCodificado;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Mesmo builder usado pelo Spring Boot nos conversores HTTP
+        objectMapper = Jackson2ObjectMapperBuilder.json().factory(fabrica()).build();
+        tipoLista = objectMapper.getTypeFactory().constructCollectionType(List.class, VotoResponse.class);
+
+        LocalDateTime agora = LocalDateTime.now();
+        listaVotos = new ArrayList<>(votos);
+        for (int i = 0; i < votos; i++) {
+            listaVotos.add(new VotoResponse((long) i, 1L, String.format("%011d", i),
+                i % 2 == 0 ? TipoVoto.SIM : TipoVoto.NAO, agora.minusSeconds(i)));
+        }
+        resultado = new ResultadoVotacaoResponse(1L, 1L, "Pauta", "Descrição da pauta", StatusSessao.ENCERRADA, false,
+            agora.minusHours(1), agora, votos / 2 + votos % 2, votos / 2);
+
+        listaVotosCodificada = objectMapper.writeValueAsBytes(listaVotos);
+        resultadoCodificado = objectMapper.writeValueAsBytes(resultado);
+    }
+
+    @Benchmark
+    public byte[] codificarVotos(Tamanhos tamanhos) throws IOException {
+        return objectMapper.writeValueAsBytes(listaVotos);
+    }
+
+    @Benchmark
+    public List<VotoResponse> decodificarVotos(Tamanhos tamanhos) throws IOException {
+        return objectMapper.readValue(listaVotosCodificada, tipoLista);
+    }
+
+    @Benchmark
+    public byte[] codificarResultado(Tamanhos tamanhos) throws IOException {
+        return objectMapper.writeValueAsBytes(resultado);
+    }
+
+    @Benchmark
+    public ResultadoVotacaoResponse decodificarResultado(Tamanhos tamanhos) throws IOException {
+        return objectMapper.readValue(resultadoCodificado, ResultadoVotacaoResponse.class);
+    }
+
+    // Tamanho do payload no formato medido. Os valores são atribuídos, não somados, a cada iteração,
+    // então o relatório mostra os bytes de um payload e não um total por tempo
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Tamanhos {
+
+        public long bytesVotos;
+        public long bytesResultado;
+
+        @Setup(Level.Iteration)
+        public void medir(FormatosSerializacaoBenchmark benchmark) {
+            bytesVotos = benchmark.listaVotosCodificada.length;
+            bytesResultado = benchmark.resultadoCodificado.length;
+        }
+    }
+
+    private JsonFactory fabrica() {
+        return switch (formato) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
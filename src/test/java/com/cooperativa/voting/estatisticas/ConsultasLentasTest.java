@@ -0,0 +1,79 @@
+package com.cooperativa.voting.estatisticas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsultasLentasTest {
+
+    @Test
+    void registrar_DeveManterApenasAsMaisLentas_DaMaisLentaParaAMaisRapida() {
+        ConsultasLentas consultas = new ConsultasLentas(3, 0, TimeUnit.MILLISECONDS);
+
+        for (int ms = 1; ms <= 10; ms++) {
+            consultas.registrar("select " + ms, new Object[0], 0, TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+
+        assertThat(consultas.listar()).extracting(ConsultasLentas.ConsultaLenta::getSql)
+                .containsExactly("select 10", "select 9", "select 8");
+        assertThat(consultas.listar().get(0).getDuracaoMs()).isEqualTo(10.0);
+    }
+
+    @Test
+    void registrar_DeveIgnorarExecucoesAbaixoDoLimite() {
+        ConsultasLentas consultas = new ConsultasLentas(10, 5, TimeUnit.MILLISECONDS);
+
+        consultas.registrar("select rapido", new Object[0], 0, TimeUnit.MILLISECONDS.toNanos(4));
+        consultas.registrar("select lento", new Object[0], 0, TimeUnit.MILLISECONDS.toNanos(6));
+
+        assertThat(consultas.listar()).extracting(ConsultasLentas.ConsultaLenta::getSql)
+                .containsExactly("select lento");
+    }
+
+    @Test
+    void registrar_DeveGuardarSoOsParametrosInformados_Truncados() {
+        ConsultasLentas consultas = new ConsultasLentas(10, 0, TimeUnit.MILLISECONDS);
+        Long[] ids = Stream.iterate(1000L, id -> id + 1).limit(30).toArray(Long[]::new);
+        Object[] parametros = {42L, ids, null, "sobra"};
+
+        consultas.registrar("select * from voto where sessao_id=? and id in (?) and tipo=?", parametros, 3, 1);
+
+        List<String> guardados = consultas.listar().get(0).getParametros();
+        assertThat(guardados).hasSize(3);
+        assertThat(guardados.get(0)).isEqualTo("42");
+        assertThat(guardados.get(1)).hasSize(103).startsWith("[1000, 1001").endsWith("...");
+        assertThat(guardados.get(2)).isEqualTo("null");
+    }
+
+    @Test
+    void registrar_DeveMascararParametrosDeTexto_MantendoValoresIguaisComAMesmaMascara() {
+        ConsultasLentas consultas = new ConsultasLentas(10, 0, TimeUnit.MILLISECONDS);
+        Object[] parametros = {7L, "12345678901", new Object[] {"12345678901", "98765432100"}};
+
+        consultas.registrar("select * from voto where sessao_id=? and associado_id=? or associado_id in (?)", parametros, 3, 1);
+
+        List<String> guardados = consultas.listar().get(0).getParametros();
+        String mascara = consultas.mascarar("12345678901");
+        assertThat(guardados).noneMatch(parametro -> parametro.contains("12345678901") || parametro.contains("98765432100"));
+        assertThat(mascara).matches("#[0-9a-f]{12}");
+        assertThat(guardados.get(1)).isEqualTo(mascara);
+        assertThat(guardados.get(2)).startsWith("[" + mascara + ", #");
+        assertThat(new ConsultasLentas(10, 0, TimeUnit.MILLISECONDS).mascarar("12345678901")).isNotEqualTo(mascara);
+    }
+
+    @Test
+    void limpar_DeveDescartarAsGuardadasEVoltarAoLimite() {
+        ConsultasLentas consultas = new ConsultasLentas(1, 0, TimeUnit.MILLISECONDS);
+        consultas.registrar("select lento", new Object[0], 0, TimeUnit.SECONDS.toNanos(1));
+
+        consultas.limpar();
+        consultas.registrar("select rapido", new Object[0], 0, TimeUnit.MILLISECONDS.toNanos(1));
+
+        assertThat(consultas.listar()).extracting(ConsultasLentas.ConsultaLenta::getSql)
+                .containsExactly("select rapido");
+    }
+}
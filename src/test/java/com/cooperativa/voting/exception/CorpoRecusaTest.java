@@ -0,0 +1,60 @@
+package com.cooperativa.voting.exception;
+
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CorpoRecusaTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void montar_DeveGerarMesmoJsonDoErrorResponse() throws Exception {
+        CorpoRecusa corpo = CorpoRecusa.de(400, "Erro de negócio", VotoDuplicadoException.MENSAGEM);
+
+        JsonNode montado = objectMapper.readTree(corpo.montar(VotoDuplicadoException.MENSAGEM, "uri=/api/votos/sessao/1"));
+        JsonNode esperado = objectMapper.readTree(objectMapper.writeValueAsBytes(
+            new ErrorResponse(400, "Erro de negócio", VotoDuplicadoException.MENSAGEM, "uri=/api/votos/sessao/1")));
+
+        assertThat(campos(montado)).containsExactlyElementsOf(campos(esperado));
+        assertThat(montado.get("status")).isEqualTo(esperado.get("status"));
+        assertThat(montado.get("error")).isEqualTo(esperado.get("error"));
+        assertThat(montado.get("message")).isEqualTo(esperado.get("message"));
+        assertThat(montado.get("path")).isEqualTo(esperado.get("path"));
+        assertThat(LocalDateTime.parse(montado.get("timestamp").asText())).isBeforeOrEqualTo(LocalDateTime.now());
+    }
+
+    @Test
+    void montar_DeveEscaparMensagemEPath() throws Exception {
+        CorpoRecusa corpo = CorpoRecusa.de(403, "Votação encerrada", null);
+
+        JsonNode montado = objectMapper.readTree(corpo.montar("A sessão \"1\" está encerrada", "uri=/api/votos/sessao/\\1"));
+
+        assertThat(montado.get("status").asInt()).isEqualTo(403);
+        assertThat(montado.get("message").asText()).isEqualTo("A sessão \"1\" está encerrada");
+        assertThat(montado.get("path").asText()).isEqualTo("uri=/api/votos/sessao/\\1");
+    }
+
+    @Test
+    void recusasEsperadas_NaoDevemTerStackTrace() {
+        assertThat(VotoDuplicadoException.instancia().getStackTrace()).isEmpty();
+        assertThat(VotoDuplicadoException.instancia()).isSameAs(VotoDuplicadoException.instancia());
+        assertThat(new VotacaoEncerradaException(1L).getStackTrace()).isEmpty();
+        assertThat(new VotacaoEncerradaException(1L)).hasMessage("A sessão de votação 1 está encerrada ou expirou");
+        assertThat(new BusinessException("Outro erro").getStackTrace()).isNotEmpty();
+    }
+
+    private List<String> campos(JsonNode node) {
+        List<String> campos = new ArrayList<>();
+        node.fieldNames().forEachRemaining(campos::add);
+        return campos;
+    }
+}
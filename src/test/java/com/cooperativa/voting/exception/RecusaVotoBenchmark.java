@@ -0,0 +1,73 @@
+package com.cooperativa.voting.exception;
+
+import com.cooperativa.voting.exception.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Custo por voto recusado (associado que já votou): exceção com stack trace, ErrorResponse e
+// ObjectMapper (caminho antigo) contra a instância única sem stack trace e o corpo montado de partes
+// prontas. A profundidade simula a pilha do Tomcat/Spring MVC até o service. O WARN por recusa
+// não entra na medição; no caminho novo ele é amostrado. Rodar com -prof gc para ver a alocação.
+// Não é executado pelo surefire: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RecusaVoto -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecusaVotoBenchmark {
+
+    private static final String PATH = "uri=/api/votos/sessao/42";
+
+    @Param({"10", "120"})
+    private int profundidade;
+
+    private ObjectMapper objectMapper;
+    private CorpoRecusa corpoVotoDuplicado;
+
+    @Setup
+    public void setUp() {
+        // Mesma configuração do ObjectMapper do Spring Boot (módulo de datas, sem timestamps)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        corpoVotoDuplicado = CorpoRecusa.de(400, "Erro de negócio", VotoDuplicadoException.MENSAGEM);
+    }
+
+    @Benchmark
+    public void recusaComStackTraceESerializacao(Blackhole blackhole) throws IOException {
+        try {
+            lancar(profundidade, false);
+        } catch (BusinessException ex) {
+            ErrorResponse errorResponse = new ErrorResponse(400, "Erro de negócio", ex.getMessage(), PATH);
+            blackhole.consume(objectMapper.writeValueAsBytes(errorResponse));
+        }
+    }
+
+    @Benchmark
+    public void recusaSemStackTraceECorpoPronto(Blackhole blackhole) {
+        try {
+            lancar(profundidade, true);
+        } catch (BusinessException ex) {
+            blackhole.consume(corpoVotoDuplicado.montar(ex.getMessage(), PATH));
+        }
+    }
+
+    private static void lancar(int profundidade, boolean semStackTrace) {
+        if (profundidade > 0) {
+            lancar(profundidade - 1, semStackTrace);
+            return;
+        }
+        if (semStackTrace) {
+            throw VotoDuplicadoException.instancia();
+        }
+        throw new BusinessException(VotoDuplicadoException.MENSAGEM);
+    }
+}
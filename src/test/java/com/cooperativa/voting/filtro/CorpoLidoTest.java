@@ -0,0 +1,79 @@
+package com.cooperativa.voting.filtro;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CorpoLidoTest {
+
+    @Test
+    void ler_DeveServirOCorpoDeNovo_EReaproveitarLeitura() throws Exception {
+        MockHttpServletRequest request = requisicao("{\"voto\":\"SIM\"}");
+
+        CorpoLido corpo = CorpoLido.ler(request, 64);
+
+        assertThat(corpo.getInputStream().readAllBytes()).isEqualTo(corpo.getBytes());
+        assertThat(corpo.getReader().readLine()).isEqualTo("{\"voto\":\"SIM\"}");
+        assertThat(CorpoLido.ler(corpo, 64)).isSameAs(corpo);
+    }
+
+    @Test
+    void ler_DeveRecusar_QuandoCorpoAcimaDoMaximo() {
+        MockHttpServletRequest declarado = requisicao("x".repeat(65));
+        assertThatThrownBy(() -> CorpoLido.ler(declarado, 64)).isInstanceOf(CorpoLido.GrandeDemais.class);
+
+        // Sem Content-Length (chunked): a leitura para no máximo + 1 byte
+        MockHttpServletRequest semTamanho = new MockHttpServletRequest("POST", "/api/votos/sessao/1") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        semTamanho.setContent("x".repeat(65).getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> CorpoLido.ler(semTamanho, 64)).isInstanceOf(CorpoLido.GrandeDemais.class);
+    }
+
+    @Test
+    void setReadListener_DeveEntregarOCorpoDeImediato() throws Exception {
+        ServletInputStream entrada = CorpoLido.ler(requisicao("abc"), 64).getInputStream();
+        ByteArrayOutputStream lido = new ByteArrayOutputStream();
+        boolean[] terminou = new boolean[1];
+
+        entrada.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (entrada.isReady() && !entrada.isFinished()) {
+                    lido.write(entrada.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                terminou[0] = true;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        assertThat(lido.toString(StandardCharsets.UTF_8)).isEqualTo("abc");
+        assertThat(terminou[0]).isTrue();
+    }
+
+    private static MockHttpServletRequest requisicao(String corpo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/votos/sessao/1");
+        request.setContentType("application/json");
+        request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,164 @@
+package com.cooperativa.voting.idempotencia;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotenciaFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // Mesmos módulos do ObjectMapper da aplicação: as respostas de erro do filtro têm timestamp (java.time)
+    private final IdempotenciaFilter filter =
+        new IdempotenciaFilter(Jackson2ObjectMapperBuilder.json().build(), meterRegistry, 1, 1, 1024);
+    private final AtomicInteger execucoes = new AtomicInteger();
+
+    @Test
+    void doFilter_DeveRepetirRespostaGuardada_QuandoMesmaChave() throws Exception {
+        FilterChain chain = responder(201, "{\"id\":1}");
+
+        MockHttpServletResponse primeira = executar(requisicao(1, "chave-1"), chain);
+        MockHttpServletResponse repetida = executar(requisicao(1, "chave-1"), chain);
+
+        assertThat(execucoes.get()).isEqualTo(1);
+        assertThat(primeira.getStatus()).isEqualTo(201);
+        assertThat(primeira.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA)).isNull();
+        assertThat(repetida.getStatus()).isEqualTo(201);
+        assertThat(repetida.getContentType()).isEqualTo("application/json");
+        assertThat(repetida.getContentAsByteArray()).isEqualTo(primeira.getContentAsByteArray());
+        assertThat(repetida.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA)).isEqualTo("true");
+        assertThat(meterRegistry.get("cooperativa.idempotencia.repeticoes").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_DeveRetornar422_QuandoMesmaChaveComOutroCorpo() throws Exception {
+        FilterChain chain = responder(201, "{\"id\":1}");
+
+        executar(requisicao(1, "chave-1", "{\"associadoId\":\"11111111111\",\"voto\":\"SIM\"}"), chain);
+        MockHttpServletResponse outroCorpo =
+            executar(requisicao(1, "chave-1", "{\"associadoId\":\"22222222222\",\"voto\":\"SIM\"}"), chain);
+
+        assertThat(execucoes.get()).isEqualTo(1);
+        assertThat(outroCorpo.getStatus()).isEqualTo(422);
+        assertThat(outroCorpo.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA)).isNull();
+    }
+
+    @Test
+    void doFilter_DeveRetornar413_QuandoCorpoAcimaDoMaximo() throws Exception {
+        MockHttpServletResponse resposta = executar(requisicao(1, "chave-1", "x".repeat(1025)), responder(201, "{}"));
+
+        assertThat(resposta.getStatus()).isEqualTo(413);
+        assertThat(execucoes.get()).isZero();
+    }
+
+    @Test
+    void doFilter_DeveSepararChaves_PorSessao() throws Exception {
+        FilterChain chain = responder(201, "{}");
+
+        executar(requisicao(1, "chave-1"), chain);
+        executar(requisicao(2, "chave-1"), chain);
+
+        assertThat(execucoes.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doFilter_NaoDeveGuardar_QuandoRespostaTransitoria() throws Exception {
+        FilterChain chain = responder(503, "{}");
+
+        executar(requisicao(1, "chave-1"), chain);
+        MockHttpServletResponse segunda = executar(requisicao(1, "chave-1"), chain);
+
+        assertThat(execucoes.get()).isEqualTo(2);
+        assertThat(segunda.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA)).isNull();
+    }
+
+    @Test
+    void doFilter_DeveRetornar409_QuandoMesmaChaveEmAndamento() throws Exception {
+        CountDownLatch iniciou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<MockHttpServletResponse> primeira = executor.submit(() -> executar(requisicao(1, "chave-1"), (req, res) -> {
+                iniciou.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                res.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            }));
+            assertThat(iniciou.await(5, TimeUnit.SECONDS)).isTrue();
+
+            MockHttpServletResponse concorrente = executar(requisicao(1, "chave-1"), responder(201, "{}"));
+            assertThat(concorrente.getStatus()).isEqualTo(409);
+
+            liberar.countDown();
+            assertThat(primeira.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void doFilter_DeveRetornar400_QuandoChaveLongaDemais() throws Exception {
+        MockHttpServletResponse resposta = executar(requisicao(1, "x".repeat(256)), responder(201, "{}"));
+
+        assertThat(resposta.getStatus()).isEqualTo(400);
+        assertThat(execucoes.get()).isZero();
+    }
+
+    @Test
+    void doFilter_DeveIgnorar_QuandoSemCabecalho() throws Exception {
+        FilterChain chain = responder(201, "{}");
+        MockHttpServletRequest request = requisicao(1, null);
+
+        executar(request, chain);
+        executar(request, chain);
+
+        assertThat(execucoes.get()).isEqualTo(2);
+    }
+
+    private MockHttpServletRequest requisicao(long sessaoId, String chave) {
+        return requisicao(sessaoId, chave, "{\"associadoId\":\"11111111111\",\"voto\":\"SIM\"}");
+    }
+
+    private MockHttpServletRequest requisicao(long sessaoId, String chave, String corpo) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/votos/sessao/" + sessaoId);
+        request.setContentType("application/json");
+        request.setContent(corpo.getBytes(StandardCharsets.UTF_8));
+        if (chave != null) {
+            request.addHeader(IdempotenciaFilter.CABECALHO, chave);
+        }
+        return request;
+    }
+
+    private FilterChain responder(int status, String corpo) {
+        return (req, res) -> {
+            execucoes.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) res;
+            http.setStatus(status);
+            http.setContentType("application/json");
+            http.getOutputStream().write(corpo.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse executar(MockHttpServletRequest request, FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
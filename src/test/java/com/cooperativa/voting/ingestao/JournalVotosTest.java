@@ -0,0 +1,146 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.TipoVoto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JournalVotosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    void ler_DeveRetornarRegistrosAnexados_NaMesmaOrdem() throws Exception {
+        LocalDateTime votadoEm = LocalDateTime.of(2026, 1, 10, 14, 30, 15, 123_456_789);
+
+        try (JournalVotos journal = new JournalVotos(diretorio, 1024 * 1024)) {
+            journal.anexar(List.of(
+                new RegistroVoto(1L, "12345678901", 10, TipoVoto.SIM, votadoEm),
+                new RegistroVoto(1L, "associado-ção", 11, TipoVoto.NAO, votadoEm)
+            ));
+
+            List<RegistroVoto> lidos = new ArrayList<>();
+            long proximo = journal.ler(0, 10, lidos);
+
+            assertThat(proximo).isEqualTo(journal.getOffsetDuravel());
+            assertThat(lidos).hasSize(2);
+            assertThat(lidos.get(0).getAssociadoId()).isEqualTo("12345678901");
+            assertThat(lidos.get(0).getAssociadoChave()).isEqualTo(10);
+            assertThat(lidos.get(0).getVotadoEm()).isEqualTo(votadoEm);
+            assertThat(lidos.get(1).getAssociadoId()).isEqualTo("associado-ção");
+            assertThat(lidos.get(1).getTipo()).isEqualTo(TipoVoto.NAO);
+        }
+    }
+
+    @Test
+    void anexar_DeveCriarNovosSegmentos_EPermitirLeituraContinua() throws Exception {
+        try (JournalVotos journal = new JournalVotos(diretorio, 200)) {
+            for (int i = 0; i < 20; i++) {
+                journal.anexar(List.of(registro(i)));
+            }
+
+            List<RegistroVoto> lidos = new ArrayList<>();
+            long offset = 0;
+            while (offset < journal.getOffsetDuravel()) {
+                offset = journal.ler(offset, 3, lidos);
+            }
+
+            assertThat(lidos).extracting(RegistroVoto::getAssociadoChave)
+                .containsExactlyElementsOf(Stream.iterate(0, i -> i + 1).limit(20).toList());
+        }
+
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            assertThat(arquivos.filter(a -> a.toString().endsWith(".journal")).count()).isGreaterThan(1);
+        }
+    }
+
+    @Test
+    void podar_DeveApagarApenasSegmentosInteiramenteProjetados() throws Exception {
+        try (JournalVotos journal = new JournalVotos(diretorio, 200)) {
+            for (int i = 0; i < 20; i++) {
+                journal.anexar(List.of(registro(i)));
+            }
+            int segmentos = journal.getSegmentos();
+            assertThat(segmentos).isGreaterThan(2);
+
+            List<RegistroVoto> lidos = new ArrayList<>();
+            long meio = journal.ler(0, 10, lidos);
+            int apagados = journal.podar(meio);
+
+            assertThat(apagados).isPositive();
+            assertThat(journal.getSegmentos()).isEqualTo(segmentos - apagados);
+            try (Stream<Path> arquivos = Files.list(diretorio)) {
+                assertThat(arquivos.filter(arquivo -> arquivo.toString().endsWith(".journal")).count())
+                    .isEqualTo(journal.getSegmentos());
+            }
+
+            // O restante continua legível a partir do offset projetado
+            lidos.clear();
+            long offset = meio;
+            while (offset < journal.getOffsetDuravel()) {
+                offset = journal.ler(offset, 3, lidos);
+            }
+            assertThat(lidos).extracting(RegistroVoto::getAssociadoChave)
+                .containsExactlyElementsOf(Stream.iterate(10, i -> i + 1).limit(10).toList());
+
+            // Tudo projetado: só o segmento em escrita sobra
+            journal.podar(journal.getOffsetDuravel());
+            assertThat(journal.getSegmentos()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void construtor_DeveDescartarRegistroIncompleto_NoFimDoUltimoSegmento() throws Exception {
+        long duravel;
+        try (JournalVotos journal = new JournalVotos(diretorio, 1024 * 1024)) {
+            journal.anexar(List.of(registro(1), registro(2)));
+            duravel = journal.getOffsetDuravel();
+        }
+
+        Path segmento = diretorio.resolve(String.format("votos-%020d.journal", 0));
+        Files.write(segmento, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (JournalVotos journal = new JournalVotos(diretorio, 1024 * 1024)) {
+            assertThat(journal.getOffsetDuravel()).isEqualTo(duravel);
+            assertThat(Files.size(segmento)).isEqualTo(duravel);
+
+            journal.anexar(List.of(registro(3)));
+            List<RegistroVoto> lidos = new ArrayList<>();
+            journal.ler(0, 10, lidos);
+
+            assertThat(lidos).extracting(RegistroVoto::getAssociadoChave).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Test
+    void salvarProjetado_DevePersistirOffset_EntreAberturas() throws Exception {
+        try (JournalVotos journal = new JournalVotos(diretorio, 1024 * 1024)) {
+            assertThat(journal.lerProjetado()).isZero();
+
+            journal.anexar(List.of(registro(1)));
+            journal.salvarProjetado(journal.getOffsetDuravel());
+        }
+
+        try (JournalVotos journal = new JournalVotos(diretorio, 1024 * 1024)) {
+            assertThat(journal.lerProjetado()).isEqualTo(journal.getOffsetDuravel());
+
+            List<RegistroVoto> lidos = new ArrayList<>();
+            journal.ler(journal.lerProjetado(), 10, lidos);
+            assertThat(lidos).isEmpty();
+        }
+    }
+
+    private RegistroVoto registro(int chave) {
+        return new RegistroVoto(1L, "associado-" + chave, chave, TipoVoto.SIM, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,137 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjetorJournalTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Mock
+    private GravadorLoteVotos gravador;
+
+    private JournalVotos journal;
+    private Sessao sessao;
+    private Counter descartados;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        journal = new JournalVotos(diretorio, 1024 * 1024);
+        descartados = new SimpleMeterRegistry().counter("cooperativa.ingestao.journal.descartados");
+
+        sessao = new Sessao(new Pauta("Pauta", "Descrição"), 60);
+        sessao.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        journal.close();
+    }
+
+    @Test
+    void projetarPendentes_DeveGravarEmLotes_EAvancarOffsetProjetado() throws Exception {
+        journal.anexar(List.of(registro("111", 1), registro("222", 2), registro("333", 3)));
+        when(gravador.projetar(anyList())).thenAnswer(invocacao -> votos(invocacao.getArgument(0)));
+
+        ProjetorJournal projetor = new ProjetorJournal("teste", journal, gravador, 2, null, descartados);
+        long projetados = projetor.projetarPendentes();
+
+        assertThat(projetados).isEqualTo(3);
+        assertThat(projetor.getPendentes()).isZero();
+        assertThat(journal.lerProjetado()).isEqualTo(journal.getOffsetDuravel());
+        verify(gravador, times(2)).projetar(anyList());
+    }
+
+    @Test
+    void projetarPendentes_DeveIgnorarVotosJaGravados_QuandoLoteEReprojetado() throws Exception {
+        journal.anexar(List.of(registro("111", 1), registro("222", 2)));
+        when(gravador.projetar(anyList())).thenAnswer(invocacao -> {
+            List<RegistroVoto> registros = invocacao.getArgument(0);
+            if (registros.size() > 1 || registros.get(0).getAssociadoId().equals("111")) {
+                throw new DataIntegrityViolationException("duplicado");
+            }
+            return votos(registros);
+        });
+
+        when(gravador.jaGravado(argThat(registro -> registro.getAssociadoId().equals("111")))).thenReturn(true);
+
+        long projetados = new ProjetorJournal("teste", journal, gravador, 10, null, descartados).projetarPendentes();
+
+        assertThat(projetados).isEqualTo(2);
+        assertThat(journal.lerProjetado()).isEqualTo(journal.getOffsetDuravel());
+        assertThat(journal.lerDescartados()).isEmpty();
+        assertThat(descartados.count()).isZero();
+        verify(gravador, times(3)).projetar(anyList());
+    }
+
+    @Test
+    void projetarPendentes_DeveMoverParaDescartados_QuandoBancoRecusaVotoNaoGravado() throws Exception {
+        journal.anexar(List.of(registro("111", 1), registro("222", 2)));
+        when(gravador.projetar(anyList())).thenAnswer(invocacao -> {
+            List<RegistroVoto> registros = invocacao.getArgument(0);
+            if (registros.size() > 1 || registros.get(0).getAssociadoId().equals("111")) {
+                throw new DataIntegrityViolationException("recusado");
+            }
+            return votos(registros);
+        });
+        when(gravador.jaGravado(any())).thenReturn(false);
+
+        long projetados = new ProjetorJournal("teste", journal, gravador, 10, null, descartados).projetarPendentes();
+
+        assertThat(projetados).isEqualTo(2);
+        assertThat(journal.lerProjetado()).isEqualTo(journal.getOffsetDuravel());
+        assertThat(journal.lerDescartados()).extracting(RegistroVoto::getAssociadoId).containsExactly("111");
+        assertThat(descartados.count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void projetarPendentes_DeveRetomarDoOffsetProjetado_AposReinicio() throws Exception {
+        journal.anexar(List.of(registro("111", 1)));
+        when(gravador.projetar(anyList())).thenAnswer(invocacao -> votos(invocacao.getArgument(0)));
+        new ProjetorJournal("teste", journal, gravador, 10, null, descartados).projetarPendentes();
+
+        journal.anexar(List.of(registro("222", 2)));
+        journal.close();
+        journal = new JournalVotos(diretorio, 1024 * 1024);
+
+        long projetados = new ProjetorJournal("teste", journal, gravador, 10, null, descartados).projetarPendentes();
+
+        assertThat(projetados).isEqualTo(1);
+        verify(gravador).projetar(argThat(registros -> registros.size() == 1
+                && registros.get(0).getAssociadoId().equals("222")));
+    }
+
+    private RegistroVoto registro(String associadoId, int chave) {
+        return new RegistroVoto(1L, associadoId, chave, TipoVoto.SIM, LocalDateTime.now());
+    }
+
+    private List<Voto> votos(List<RegistroVoto> registros) {
+        return registros.stream().map(registro -> {
+            Voto voto = new Voto(sessao, registro.getAssociadoId(), registro.getAssociadoChave(), registro.getTipo());
+            voto.setId((long) registro.getAssociadoChave());
+            return voto;
+        }).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.cooperativa.voting.ingestao;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferTest {
+
+    @Test
+    void construtor_DeveLancarExcecao_QuandoCapacidadeNaoEPotenciaDeDois() {
+        assertThatThrownBy(() -> new RingBuffer<>(10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void offer_DeveRetornarFalse_QuandoFilaCheia() {
+        RingBuffer<Integer> fila = new RingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(fila.offer(i)).isTrue();
+        }
+
+        assertThat(fila.offer(99)).isFalse();
+        assertThat(fila.size()).isEqualTo(4);
+    }
+
+    @Test
+    void poll_DeveRetornarElementosEmOrdem_EReaproveitarPosicoes() {
+        RingBuffer<Integer> fila = new RingBuffer<>(4);
+
+        for (int volta = 0; volta < 3; volta++) {
+            for (int i = 0; i < 4; i++) {
+                fila.offer(volta * 10 + i);
+            }
+            for (int i = 0; i < 4; i++) {
+                assertThat(fila.poll()).isEqualTo(volta * 10 + i);
+            }
+        }
+
+        assertThat(fila.poll()).isNull();
+        assertThat(fila.isEmpty()).isTrue();
+    }
+
+    @Test
+    void offer_DeveEntregarTodosOsElementos_ComVariosProdutores() throws Exception {
+        RingBuffer<Integer> fila = new RingBuffer<>(1024);
+        int produtores = 4;
+        int porProdutor = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(produtores);
+        CountDownLatch inicio = new CountDownLatch(1);
+
+        for (int p = 0; p < produtores; p++) {
+            int base = p * porProdutor;
+            executor.submit(() -> {
+                inicio.await();
+                for (int i = 0; i < porProdutor; i++) {
+                    while (!fila.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                return null;
+            });
+        }
+
+        inicio.countDown();
+        Set<Integer> recebidos = new HashSet<>();
+        while (recebidos.size() < produtores * porProdutor) {
+            Integer elemento = fila.poll();
+            if (elemento != null) {
+                assertThat(recebidos.add(elemento)).isTrue();
+            }
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fila.poll()).isNull();
+    }
+}
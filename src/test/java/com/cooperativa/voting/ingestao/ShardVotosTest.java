@@ -0,0 +1,153 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.AssociadoChaveService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardVotosTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Mock
+    private SessaoRepository sessaoRepository;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private GravadorLoteVotos gravador;
+
+    @Mock
+    private AssociadoChaveService associadoChaveService;
+
+    private SnapshotVotantes snapshots;
+    private Sessao sessao;
+    private ShardVotos shard;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new SnapshotVotantes(diretorio);
+
+        sessao = new Sessao(new Pauta("Pauta", "Descrição"), 60);
+        sessao.setId(1L);
+        when(sessaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (shard != null) {
+            shard.parar();
+        }
+    }
+
+    @Test
+    void carregar_DeveReaplicarSoACaudaAposOSnapshot_InclusiveComIdDentroDaJanela() throws Exception {
+        EstadoSessao anterior = new EstadoSessao(1L, StatusSessao.ABERTA, LocalDateTime.now().plusMinutes(60), 0);
+        anterior.registrar(1, TipoVoto.SIM);
+        anterior.aplicado(10L);
+        snapshots.salvar(anterior);
+
+        // O voto 7 foi confirmado depois do snapshot, apesar do id menor que a marca d'água, mas dentro da janela
+        when(votoRepository.findVotantesBySessaoIdAposVoto(1L, 5L)).thenReturn(List.<Object[]>of(
+                new Object[] {10L, "11111111111", 1, TipoVoto.SIM},
+                new Object[] {7L, "44444444444", 4, TipoVoto.SIM},
+                new Object[] {11L, "22222222222", 2, TipoVoto.NAO}));
+        when(gravador.gravar(anyList())).thenAnswer(invocacao -> List.of(voto(12L, "33333333333", TipoVoto.SIM)));
+
+        iniciarShard(60_000);
+
+        assertThatThrownBy(() -> votar("11111111111", 1, TipoVoto.NAO))
+            .hasCauseInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> votar("22222222222", 2, TipoVoto.SIM))
+            .hasCauseInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> votar("44444444444", 4, TipoVoto.NAO))
+            .hasCauseInstanceOf(BusinessException.class);
+        assertThat(votar("33333333333", 3, TipoVoto.SIM).getId()).isEqualTo(12L);
+
+        verify(votoRepository).findVotantesBySessaoIdAposVoto(1L, 5L);
+        verify(gravador, times(1)).gravar(anyList());
+    }
+
+    @Test
+    void parar_DeveGravarSnapshotComUltimoVotoGravado() throws Exception {
+        when(votoRepository.findVotantesBySessaoIdAposVoto(1L, 0L)).thenReturn(List.of());
+        when(gravador.gravar(anyList())).thenAnswer(invocacao -> List.of(voto(5L, "11111111111", TipoVoto.SIM)));
+
+        iniciarShard(60_000);
+        votar("11111111111", 1, TipoVoto.SIM);
+        shard.parar();
+        shard = null;
+
+        SnapshotVotantes.Snapshot snapshot = snapshots.carregar(1L).orElseThrow();
+        assertThat(snapshot.getUltimoVotoId()).isEqualTo(5L);
+        assertThat(snapshot.getSim().contains(1)).isTrue();
+    }
+
+    @Test
+    void encerramento_DeveRemoverSnapshotDaSessao() throws Exception {
+        when(votoRepository.findVotantesBySessaoIdAposVoto(1L, 0L)).thenReturn(List.of());
+        when(gravador.gravar(anyList())).thenAnswer(invocacao -> List.of(voto(5L, "11111111111", TipoVoto.SIM)));
+
+        iniciarShard(0);
+        votar("11111111111", 1, TipoVoto.SIM);
+        aguardarSnapshot(true);
+
+        shard.publicar(ComandoVoto.encerramento(1L));
+        aguardarSnapshot(false);
+
+        assertThat(snapshots.sessoesSalvas()).isEmpty();
+    }
+
+    private void iniciarShard(long intervaloSnapshotMillis) {
+        shard = new ShardVotos(0, 64, 16, 60_000, sessaoRepository, votoRepository, gravador,
+                               associadoChaveService, snapshots, intervaloSnapshotMillis, 5, null);
+        shard.iniciar();
+    }
+
+    private VotoResponse votar(String associadoId, int chave, TipoVoto tipo) throws Exception {
+        ComandoVoto comando = ComandoVoto.voto(1L, associadoId, chave, tipo);
+        assertThat(shard.publicar(comando)).isTrue();
+        return comando.getResultado().get(5, TimeUnit.SECONDS);
+    }
+
+    private void aguardarSnapshot(boolean existe) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (snapshots.carregar(1L).isPresent() != existe && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(snapshots.carregar(1L).isPresent()).isEqualTo(existe);
+    }
+
+    private Voto voto(Long id, String associadoId, TipoVoto tipo) {
+        Voto voto = new Voto(sessao, associadoId, tipo);
+        voto.setId(id);
+        return voto;
+    }
+}
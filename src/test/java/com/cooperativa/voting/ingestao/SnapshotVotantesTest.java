@@ -0,0 +1,102 @@
+package com.cooperativa.voting.ingestao;
+
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SnapshotVotantesTest {
+
+    @TempDir
+    Path diretorio;
+
+    private SnapshotVotantes snapshots;
+
+    @BeforeEach
+    void setUp() {
+        snapshots = new SnapshotVotantes(diretorio);
+    }
+
+    @Test
+    void salvar_DeveGravarBitmapsEMarcaDagua_QuandoSessaoTemVotos() throws Exception {
+        EstadoSessao estado = estadoAberto(1L);
+        estado.registrar(1, TipoVoto.SIM);
+        estado.registrar(70_000, TipoVoto.SIM);
+        estado.registrar(2, TipoVoto.NAO);
+        estado.aplicado(42L);
+
+        snapshots.salvar(estado);
+        Optional<SnapshotVotantes.Snapshot> snapshot = snapshots.carregar(1L);
+
+        assertThat(snapshot).isPresent();
+        assertThat(snapshot.get().getUltimoVotoId()).isEqualTo(42L);
+        assertThat(snapshot.get().getSim().getCardinality()).isEqualTo(2);
+        assertThat(snapshot.get().getSim().contains(70_000)).isTrue();
+        assertThat(snapshot.get().getNao().contains(2)).isTrue();
+        assertThat(Files.list(diretorio)).hasSize(1);
+    }
+
+    @Test
+    void restaurar_DeveRejeitarVotantesDoSnapshot_EManterTotais() throws Exception {
+        EstadoSessao original = estadoAberto(1L);
+        original.registrar(1, TipoVoto.SIM);
+        original.registrar(2, TipoVoto.NAO);
+        original.aplicado(10L);
+        SnapshotVotantes.Snapshot snapshot = snapshots.salvar(original);
+
+        EstadoSessao restaurado = estadoAberto(1L);
+        restaurado.restaurar(snapshot.getSim(), snapshot.getNao(), snapshot.getUltimoVotoId());
+
+        assertThat(restaurado.registrar(1, TipoVoto.NAO)).isFalse();
+        assertThat(restaurado.registrar(2, TipoVoto.SIM)).isFalse();
+        assertThat(restaurado.registrar(3, TipoVoto.SIM)).isTrue();
+        assertThat(restaurado.getVotosSim()).isEqualTo(2);
+        assertThat(restaurado.getVotosNao()).isEqualTo(1);
+        assertThat(restaurado.getUltimoVotoId()).isEqualTo(10L);
+    }
+
+    @Test
+    void carregar_DeveIgnorarSnapshot_QuandoArquivoCorrompido() throws Exception {
+        EstadoSessao estado = estadoAberto(1L);
+        estado.registrar(1, TipoVoto.SIM);
+        snapshots.salvar(estado);
+
+        Path arquivo = diretorio.resolve("sessao-1.votantes");
+        byte[] conteudo = Files.readAllBytes(arquivo);
+        conteudo[conteudo.length - 1] ^= 0x7F;
+        Files.write(arquivo, conteudo);
+
+        assertThat(snapshots.carregar(1L)).isEmpty();
+    }
+
+    @Test
+    void carregar_DeveRetornarVazio_QuandoSnapshotNaoExiste() {
+        assertThat(snapshots.carregar(99L)).isEmpty();
+    }
+
+    @Test
+    void sessoesSalvas_DeveListarSessoes_ERemoverDeveApagarSnapshot() throws Exception {
+        snapshots.salvar(estadoAberto(1L));
+        snapshots.salvar(estadoAberto(7L));
+        Files.writeString(diretorio.resolve("outro-arquivo.txt"), "x");
+
+        assertThat(snapshots.sessoesSalvas()).containsExactlyInAnyOrder(1L, 7L);
+
+        snapshots.remover(7L);
+
+        assertThat(snapshots.sessoesSalvas()).containsExactly(1L);
+    }
+
+    private EstadoSessao estadoAberto(Long sessaoId) {
+        return new EstadoSessao(sessaoId, StatusSessao.ABERTA, LocalDateTime.now().plusMinutes(60),
+                                System.currentTimeMillis());
+    }
+}
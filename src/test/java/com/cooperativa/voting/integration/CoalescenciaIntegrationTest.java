@@ -0,0 +1,91 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.SessaoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CoalescenciaIntegrationTest {
+
+    @Autowired
+    private SessaoService sessaoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Coalescida", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void obterResultadoVotacao_DevePassarPeloSingleFlight_ERegistrarMetrica() {
+        double antes = contador("executada");
+
+        sessaoService.obterResultadoVotacao(sessao.getId());
+        sessaoService.obterResultadoVotacao(sessao.getId());
+
+        assertThat(contador("executada") - antes).isEqualTo(2.0);
+    }
+
+    @Test
+    void obterResultadoVotacao_NaoDeveCoalescer_DentroDeTransacao() {
+        sessaoService.obterResultadoVotacao(sessao.getId());
+        double antes = contador("executada");
+
+        transactionTemplate.executeWithoutResult(status -> sessaoService.obterResultadoVotacao(sessao.getId()));
+
+        assertThat(contador("executada")).isEqualTo(antes);
+    }
+
+    private double contador(String papel) {
+        Counter counter = meterRegistry.find("cooperativa.coalescencia.chamadas")
+                .tag("metodo", "SessaoService.obterResultadoVotacao")
+                .tag("papel", papel)
+                .counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+}
@@ -0,0 +1,114 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.compartimento.Compartimento;
+import com.cooperativa.voting.compartimento.CompartimentosDataSource;
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "cooperativa.compartimentos.enabled=true",
+    "cooperativa.compartimentos.relatorio.conexoes=1"
+})
+class CompartimentosIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Compartimentada", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void dataSource_DeveTerUmPoolPorCompartimento() {
+        assertThat(dataSource).isInstanceOf(CompartimentosDataSource.class);
+        CompartimentosDataSource compartimentos = (CompartimentosDataSource) dataSource;
+
+        assertThat(compartimentos.getPool(Compartimento.VOTACAO).getPoolName()).isEqualTo("compartimento-votacao");
+        assertThat(compartimentos.getPool(Compartimento.RELATORIO).getMaximumPoolSize()).isEqualTo(1);
+    }
+
+    @Test
+    void endpoints_DevemUsarPoolDoProprioCompartimento() throws Exception {
+        CompartimentosDataSource compartimentos = (CompartimentosDataSource) dataSource;
+
+        mockMvc.perform(get("/api/pautas"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/sessoes/" + sessao.getId()))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequest("12345678901", TipoVoto.SIM))))
+                .andExpect(status().isCreated());
+
+        for (Compartimento compartimento : Compartimento.values()) {
+            assertThat(compartimentos.getPool(compartimento).getHikariPoolMXBean()).isNotNull();
+            assertThat(meterRegistry.find("hikaricp.connections")
+                .tag("pool", "compartimento-" + compartimento.getNome()).gauge()).isNotNull();
+        }
+        assertThat(meterRegistry.find("cooperativa.compartimentos.em.uso").gauges()).hasSize(3);
+    }
+}
@@ -0,0 +1,107 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.estatisticas.ConsultasLentas;
+import com.cooperativa.voting.estatisticas.EstatisticasHibernateEndpoint;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.VotoService;
+import org.assertj.core.api.Condition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "cooperativa.estatisticas.enabled=true",
+    "cooperativa.estatisticas.limite-ms=0",
+    "cooperativa.estatisticas.consultas-lentas=500"
+})
+class EstatisticasHibernateIntegrationTest {
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private EstatisticasHibernateEndpoint estatisticasHibernateEndpoint;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Medida", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+        estatisticasHibernateEndpoint.resetar();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void estatisticas_DevemTrazerConsultasEntidadesEStatementsComParametros() {
+        votoService.registrarVoto(sessao.getId(), new VotoRequest("22222222222", TipoVoto.SIM));
+
+        Map<String, Object> estatisticas = estatisticasHibernateEndpoint.estatisticas();
+
+        Map<String, Object> consultas = (Map<String, Object>) estatisticas.get("consultas");
+        assertThat(consultas).hasKeySatisfying(new Condition<>(
+                consulta -> consulta.contains("v.associadoId = :associadoId"), "consulta de duplicidade"));
+
+        Map<String, Map<String, Object>> entidades = (Map<String, Map<String, Object>>) estatisticas.get("entidades");
+        assertThat((Long) entidades.get("Voto").get("insercoes")).isEqualTo(1L);
+
+        List<ConsultasLentas.ConsultaLenta> lentas = (List<ConsultasLentas.ConsultaLenta>) estatisticas.get("consultasLentas");
+        assertThat(lentas).anySatisfy(consulta -> {
+            assertThat(consulta.getSql()).containsIgnoringCase("insert into votos");
+            assertThat(consulta.getParametros()).doesNotContain("22222222222")
+                    .anySatisfy(parametro -> assertThat(parametro).matches("#[0-9a-f]{12}"));
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void resetar_DeveZerarEstatisticasEConsultasLentas() {
+        votoService.registrarVoto(sessao.getId(), new VotoRequest("33333333333", TipoVoto.NAO));
+
+        estatisticasHibernateEndpoint.resetar();
+        Map<String, Object> estatisticas = estatisticasHibernateEndpoint.estatisticas();
+
+        assertThat((Map<String, Object>) estatisticas.get("consultas")).isEmpty();
+        assertThat((Long) ((Map<String, Object>) estatisticas.get("geral")).get("transacoes")).isZero();
+        assertThat((List<?>) estatisticas.get("consultasLentas")).isEmpty();
+    }
+}
@@ -0,0 +1,113 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.idempotencia.IdempotenciaFilter;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "cooperativa.idempotencia.enabled=true")
+class IdempotenciaIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private IdempotenciaFilter idempotenciaFilter;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(idempotenciaFilter)
+                .build();
+
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Idempotente", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @Test
+    void registrarVoto_DeveRepetirPrimeiraResposta_QuandoMesmaIdempotencyKey() throws Exception {
+        String corpo = objectMapper.writeValueAsString(new VotoRequest("12345678901", TipoVoto.SIM));
+
+        MvcResult primeira = mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .header(IdempotenciaFilter.CABECALHO, "terminal-7-voto-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotenciaFilter.CABECALHO_REPETIDA))
+                .andReturn();
+
+        MvcResult repetida = mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .header(IdempotenciaFilter.CABECALHO, "terminal-7-voto-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotenciaFilter.CABECALHO_REPETIDA, "true"))
+                .andReturn();
+
+        assertThat(repetida.getResponse().getContentAsByteArray())
+                .isEqualTo(primeira.getResponse().getContentAsByteArray());
+        assertThat(votoRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void registrarVoto_DeveRecusarDuplicado_QuandoOutraIdempotencyKey() throws Exception {
+        String corpo = objectMapper.writeValueAsString(new VotoRequest("12345678902", TipoVoto.NAO));
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .header(IdempotenciaFilter.CABECALHO, "chave-a")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .header(IdempotenciaFilter.CABECALHO, "chave-b")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(IdempotenciaFilter.CABECALHO_REPETIDA));
+    }
+}
@@ -0,0 +1,129 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.exception.VotoDuplicadoException;
+import com.cooperativa.voting.jfr.JfrEndpoint;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.SessaoService;
+import com.cooperativa.voting.service.VotoService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "cooperativa.jfr.enabled=true",
+    "cooperativa.jfr.diretorio=${java.io.tmpdir}/cooperativa-jfr-teste",
+    "cooperativa.jfr.dumps-mantidos=2"
+})
+class JfrIntegrationTest {
+
+    @Autowired
+    private VotoService votoService;
+
+    @Autowired
+    private SessaoService sessaoService;
+
+    @Autowired
+    private JfrEndpoint jfrEndpoint;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Gravada", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void despejar_DeveConterEventosDeVotoEResultado() throws Exception {
+        votoService.registrarVoto(sessao.getId(), new VotoRequest("11111111111", TipoVoto.SIM));
+        assertThatThrownBy(() -> votoService.registrarVoto(sessao.getId(), new VotoRequest("11111111111", TipoVoto.NAO)))
+                .isInstanceOf(VotoDuplicadoException.class);
+        sessaoService.obterResultadoVotacao(sessao.getId());
+
+        Map<String, Object> resposta = jfrEndpoint.despejar();
+        Path arquivo = Path.of((String) resposta.get("arquivo"));
+        try {
+            assertThat((Long) resposta.get("bytes")).isPositive();
+
+            List<RecordedEvent> votos = eventos(arquivo, "cooperativa.Voto");
+            assertThat(votos).extracting(evento -> evento.getString("resultado"))
+                    .containsExactly("registrado", "duplicado");
+            assertThat(votos).allSatisfy(evento -> assertThat(evento.getLong("sessaoId")).isEqualTo(sessao.getId()));
+            assertThat(votos.get(0).getDuration("commitTransacao")).isPositive();
+
+            assertThat(eventos(arquivo, "cooperativa.ResultadoVotacao"))
+                    .anySatisfy(evento -> assertThat(evento.getLong("sessaoId")).isEqualTo(sessao.getId()));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void despejar_DeveManterApenasOsDumpsMaisRecentes() throws Exception {
+        Path ultimo = null;
+        for (int i = 0; i < 4; i++) {
+            ultimo = Path.of((String) jfrEndpoint.despejar().get("arquivo"));
+            Thread.sleep(5);
+        }
+
+        try (Stream<Path> arquivos = Files.list(ultimo.getParent())) {
+            assertThat(arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(".jfr")))
+                    .hasSize(2)
+                    .contains(ultimo);
+        }
+    }
+
+    private List<RecordedEvent> eventos(Path arquivo, String nome) throws Exception {
+        return RecordingFile.readAllEvents(arquivo).stream()
+                .filter(evento -> evento.getEventType().getName().equals(nome))
+                .filter(evento -> !evento.hasField("sessaoId") || evento.getLong("sessaoId") == sessao.getId())
+                .sorted(Comparator.comparing(RecordedEvent::getStartTime))
+                .toList();
+    }
+}
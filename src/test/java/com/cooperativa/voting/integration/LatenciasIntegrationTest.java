@@ -0,0 +1,58 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.latencia.HistogramasLatencia;
+import com.cooperativa.voting.latencia.LatenciasEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "cooperativa.latencias.enabled=true")
+@Transactional
+class LatenciasIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private HistogramasLatencia histogramasLatencia;
+
+    @Autowired
+    private LatenciasEndpoint latenciasEndpoint;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        // Descarta o que outros testes do mesmo contexto deixaram na janela
+        for (int i = 0; i < 10; i++) {
+            histogramasLatencia.rotacionar();
+        }
+    }
+
+    @Test
+    void percentis_DevemIncluirEndpointChamado_AposRotacao() throws Exception {
+        mockMvc.perform(get("/api/pautas")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/pautas/999999")).andExpect(status().isNotFound());
+
+        histogramasLatencia.rotacionar();
+
+        assertThat(latenciasEndpoint.percentis().get("PautaController.listarPautas").getContagem()).isEqualTo(1);
+        assertThat(latenciasEndpoint.percentis().get("PautaController.buscarPautaPorId").getContagem()).isEqualTo(1);
+        assertThat(latenciasEndpoint.exportar("hlog")).contains("Tag=PautaController.listarPautas");
+        assertThat(latenciasEndpoint.exportar("csv")).isNull();
+    }
+}
@@ -0,0 +1,168 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.PodeVotarLoteRequest;
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.limitetaxa.LimiteTaxaFilter;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = {
+    "cooperativa.limite-taxa.enabled=true",
+    "cooperativa.limite-taxa.voto.associado.por-segundo=0.01",
+    "cooperativa.limite-taxa.voto.associado.rajada=1",
+    "cooperativa.limite-taxa.pode-votar.associado.por-segundo=0.01",
+    "cooperativa.limite-taxa.pode-votar.associado.rajada=2",
+    "cooperativa.limite-taxa.pode-votar-lote.sessao.por-segundo=0.01",
+    "cooperativa.limite-taxa.pode-votar-lote.sessao.rajada=2",
+    "cooperativa.limite-taxa.corpo-maximo-bytes=256"
+})
+class LimiteTaxaIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private LimiteTaxaFilter limiteTaxaFilter;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilters(limiteTaxaFilter)
+                .build();
+
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Limitada", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @Test
+    void verificarSePodeVotar_DeveRetornar429_QuandoAssociadoExcedeLimite() throws Exception {
+        String url = "/api/votos/sessao/" + sessao.getId() + "/associado/11111111111/pode-votar";
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"));
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+
+        mockMvc.perform(get(url))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "100"))
+                .andExpect(header().string("RateLimit-Remaining", "0"))
+                .andExpect(jsonPath("$.status").value(429));
+
+        mockMvc.perform(get("/api/votos/sessao/" + sessao.getId() + "/associado/22222222222/pode-votar"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void registrarVoto_DeveRetornar429_QuandoAssociadoReenviaVoto() throws Exception {
+        String url = "/api/votos/sessao/" + sessao.getId();
+
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequest("33333333333", TipoVoto.SIM))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.associadoId").value("33333333333"));
+
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequest("33333333333", TipoVoto.NAO))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequest("44444444444", TipoVoto.NAO))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.associadoId").value("44444444444"));
+    }
+
+    @Test
+    void registrarVoto_DeveRetornar429_QuandoAssociadoReenviaVotoEmCbor() throws Exception {
+        String url = "/api/votos/sessao/" + sessao.getId();
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        MediaType tipoCbor = MediaType.parseMediaType("application/cbor");
+
+        mockMvc.perform(post(url)
+                        .contentType(tipoCbor)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(cbor.writeValueAsBytes(new VotoRequest("66666666666", TipoVoto.SIM))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post(url)
+                        .contentType(tipoCbor)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(cbor.writeValueAsBytes(new VotoRequest("66666666666", TipoVoto.NAO))))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void registrarVoto_DeveRetornar413_QuandoCorpoAcimaDoMaximo() throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"associadoId\": \"" + "7".repeat(300) + "\", \"voto\": \"SIM\"}"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+    }
+
+    @Test
+    void verificarQuemPodeVotar_DeveRetornar429_QuandoSessaoExcedeLimite() throws Exception {
+        String url = "/api/votos/sessao/" + sessao.getId() + "/pode-votar";
+        String corpo = objectMapper.writeValueAsString(new PodeVotarLoteRequest(List.of("55555555555")));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post(url).contentType(MediaType.APPLICATION_JSON).content(corpo))
+                    .andExpect(status().isOk());
+        }
+
+        mockMvc.perform(post(url).contentType(MediaType.APPLICATION_JSON).content(corpo))
+                .andExpect(status().isTooManyRequests());
+    }
+}
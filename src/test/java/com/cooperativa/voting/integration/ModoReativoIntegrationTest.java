@@ -0,0 +1,41 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.controller.PautaController;
+import com.cooperativa.voting.controller.SessaoController;
+import com.cooperativa.voting.controller.VotoController;
+import com.cooperativa.voting.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// No perfil reativo só as rotas WebFlux atendem /api: nada do MVC (bloqueante) sobe no Netty
+@SpringBootTest(properties = {
+    "spring.main.web-application-type=reactive",
+    "cooperativa.reativo.enabled=true",
+    "cooperativa.compartimentos.enabled=true",
+    "cooperativa.admissao.enabled=true"
+})
+@ActiveProfiles("test")
+class ModoReativoIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void contexto_NaoDeveCarregarControllersFiltrosNemInterceptorsDoMvc() {
+        assertThat(applicationContext.getBeanNamesForType(RouterFunction.class)).isNotEmpty();
+
+        assertThat(applicationContext.getBeanNamesForType(PautaController.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(SessaoController.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(VotoController.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(GlobalExceptionHandler.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(jakarta.servlet.Filter.class)).isEmpty();
+        assertThat(applicationContext.getBeanNamesForType(HandlerInterceptor.class)).isEmpty();
+    }
+}
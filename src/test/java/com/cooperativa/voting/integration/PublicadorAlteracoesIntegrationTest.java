@@ -0,0 +1,105 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.PosicaoFeed;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.PosicaoFeedRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.AlteracoesService;
+import com.cooperativa.voting.service.PublicadorAlteracoes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PublicadorAlteracoesIntegrationTest {
+
+    @Autowired
+    private PublicadorAlteracoes publicadorAlteracoes;
+
+    @Autowired
+    private AlteracoesService alteracoesService;
+
+    @Autowired
+    private PosicaoFeedRepository posicaoFeedRepository;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Publicada", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+        posicaoFeedRepository.deleteAll();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publicarVotos_DeveEntregarVotoConfirmadoTarde_DepoisDoCursorDoConsumidor() {
+        Voto confirmadoTarde = votoRepository.save(new Voto(sessao, "11111111111", TipoVoto.SIM));
+        Voto confirmadoAntes = votoRepository.save(new Voto(sessao, "22222222222", TipoVoto.NAO));
+
+        // Publicação anterior, quando só o voto de id maior estava confirmado: o consumidor já leu até ele
+        transactionTemplate.executeWithoutResult(status -> {
+            votoRepository.publicar(0L, confirmadoAntes.getId(), confirmadoAntes.getId());
+            posicaoFeedRepository.save(new PosicaoFeed("votos", confirmadoAntes.getId()));
+        });
+        long cursorConsumidor = confirmadoAntes.getId();
+        // Publicação seguinte, como faria o job agendado, já com o voto de id menor confirmado
+        assertThat(publicadorAlteracoes.publicarVotos()).isEqualTo(1);
+
+        AlteracoesResponse<VotoResponse> pagina =
+            (AlteracoesResponse<VotoResponse>) alteracoesService.listarAlteracoesVotos(cursorConsumidor, 100, 0).getResult();
+
+        assertThat(pagina.getItens()).extracting(VotoResponse::getAssociadoId).containsExactly("11111111111");
+        assertThat(pagina.getCursor()).isGreaterThan(cursorConsumidor);
+        assertThat(votoRepository.findById(confirmadoTarde.getId()).orElseThrow().getPosicao())
+            .isGreaterThan(confirmadoAntes.getId());
+    }
+
+    @Test
+    void publicarVotos_NaoDeveAtribuirPosicaoMenorQueOId() {
+        Voto voto = votoRepository.save(new Voto(sessao, "33333333333", TipoVoto.SIM));
+
+        assertThat(publicadorAlteracoes.publicarVotos()).isEqualTo(1);
+        assertThat(publicadorAlteracoes.publicarVotos()).isZero();
+        assertThat(votoRepository.findById(voto.getId()).orElseThrow().getPosicao()).isGreaterThanOrEqualTo(voto.getId());
+    }
+}
@@ -0,0 +1,140 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(metrics = false)
+@TestPropertySource(properties = {
+    "cooperativa.rastreamento.enabled=true",
+    "management.tracing.sampling.probability=1.0"
+})
+class RastreamentoIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_CHAMADOR = "00f067aa0ba902b7";
+    private static final AttributeKey<String> METODO = AttributeKey.stringKey("metodo");
+
+    @TestConfiguration
+    static class ExportadorEmMemoria {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private InMemorySpanExporter exportador;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta Rastreada", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        exportador.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void registrarVoto_DeveGerarSpansDeServicoERepositorio_NoTraceRecebido() throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                        .header("traceparent", "00-" + TRACE_ID + "-" + SPAN_CHAMADOR + "-01")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new VotoRequest("11111111111", TipoVoto.SIM))))
+                .andExpect(status().isCreated());
+
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        List<SpanData> spans = exportador.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+        // O nome do span é normalizado pelo Micrometer; o método, como no código, está no atributo metodo
+        Map<String, SpanData> porNome = spans.stream()
+                .filter(span -> span.getAttributes().get(METODO) != null)
+                .collect(Collectors.toMap(span -> span.getAttributes().get(METODO), Function.identity(), (primeiro, outro) -> primeiro));
+
+        SpanData servico = porNome.get("VotoService.registrarVoto");
+        assertThat(servico).isNotNull();
+        assertThat(servico.getName()).isEqualTo("voto-service.registrar-voto");
+        SpanData http = spans.stream()
+                .filter(span -> span.getParentSpanId().equals(SPAN_CHAMADOR))
+                .findFirst().orElseThrow();
+        assertThat(servico.getParentSpanId()).isEqualTo(http.getSpanId());
+        assertThat(servico.getAttributes().get(AttributeKey.stringKey("sessaoId"))).isEqualTo(sessao.getId().toString());
+
+        SpanData duplicidade = porNome.get("VotoRepository.existsBySessaoIdAndAssociadoId");
+        assertThat(duplicidade).isNotNull();
+        assertThat(duplicidade.getParentSpanId()).isEqualTo(servico.getSpanId());
+        assertThat(duplicidade.getAttributes().get(AttributeKey.stringKey("sessaoId"))).isEqualTo(sessao.getId().toString());
+
+        assertThat(porNome).containsKeys("SessaoService.buscarSessaoEntityPorId", "VotoRepository.save");
+        assertThat(porNome.get("VotoRepository.save").getParentSpanId()).isEqualTo(servico.getSpanId());
+    }
+}
@@ -0,0 +1,114 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.PautaRequest;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.PautaService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "cooperativa.respostas-imutaveis.enabled=true",
+    "cooperativa.respostas-imutaveis.gzip-minimo-bytes=64"
+})
+class RespostasImutaveisIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PautaService pautaService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Pauta pauta;
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        limparBase();
+
+        pauta = pautaRepository.save(new Pauta("Pauta Encerrada", "Descrição da pauta"));
+        sessao = new Sessao(pauta, 60);
+        sessao.setStatus(StatusSessao.ENCERRADA);
+        sessao = sessaoRepository.save(sessao);
+        votoRepository.save(new Voto(sessao, "12345678901", 1, TipoVoto.SIM));
+        votoRepository.save(new Voto(sessao, "12345678902", 2, TipoVoto.NAO));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void obterResultado_DeveServirDoCache_AteAPautaSerAlterada() throws Exception {
+        mockMvc.perform(get("/api/sessoes/" + sessao.getId() + "/resultado"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVotos").value(2));
+
+        // Alteração direta na base, sem evento: a resposta guardada continua valendo
+        votoRepository.deleteAll();
+        mockMvc.perform(get("/api/sessoes/" + sessao.getId() + "/resultado"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Vary", "Accept-Encoding"))
+                .andExpect(jsonPath("$.totalVotos").value(2));
+
+        PautaRequest request = new PautaRequest();
+        request.setTitulo("Pauta Renomeada");
+        request.setDescricao("Descrição da pauta");
+        pautaService.atualizarPauta(pauta.getId(), request);
+
+        mockMvc.perform(get("/api/sessoes/" + sessao.getId() + "/resultado"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.pautaTitulo").value("Pauta Renomeada"))
+                .andExpect(jsonPath("$.totalVotos").value(0));
+    }
+
+    @Test
+    void listarVotos_DeveResponderGzip_QuandoClienteAceita() throws Exception {
+        mockMvc.perform(get("/api/votos/sessao/" + sessao.getId()).header("Accept-Encoding", "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"));
+
+        mockMvc.perform(get("/api/votos/sessao/" + sessao.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+}
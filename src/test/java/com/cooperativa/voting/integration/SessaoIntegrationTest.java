@@ -1,10 +1,13 @@
 package com.cooperativa.voting.integration;
 
 import com.cooperativa.voting.dto.request.SessaoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
 import com.cooperativa.voting.model.Pauta;
 import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
 import com.cooperativa.voting.repository.PautaRepository;
 import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,9 @@ class SessaoIntegrationTest {
     @Autowired
     private SessaoRepository sessaoRepository;
 
+    @Autowired
+    private VotoRepository votoRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,6 +52,7 @@ class SessaoIntegrationTest {
     void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
         
+        votoRepository.deleteAll();
         sessaoRepository.deleteAll();
         pautaRepository.deleteAll();
 
@@ -151,6 +158,30 @@ class SessaoIntegrationTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    void deveRetornarResultadosDeVariasSessoesEPautas() throws Exception {
+        Pauta outraPauta = pautaRepository.save(new Pauta("Outra Pauta", "Descrição da outra pauta"));
+        Sessao primeira = sessaoRepository.save(new Sessao(pauta, 60));
+        Sessao segunda = sessaoRepository.save(new Sessao(outraPauta, 60));
+        votoRepository.save(new Voto(primeira, "12345678901", TipoVoto.SIM));
+        votoRepository.save(new Voto(primeira, "12345678902", TipoVoto.NAO));
+        votoRepository.save(new Voto(segunda, "12345678901", TipoVoto.SIM));
+
+        mockMvc.perform(get("/api/sessoes/resultados").param("ids", segunda.getId() + "," + primeira.getId() + ",999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].sessaoId").value(segunda.getId()))
+                .andExpect(jsonPath("$[0].votosSim").value(1))
+                .andExpect(jsonPath("$[1].pautaTitulo").value("Pauta para Sessão"))
+                .andExpect(jsonPath("$[1].totalVotos").value(2));
+
+        mockMvc.perform(get("/api/sessoes/resultados").param("pautaIds", outraPauta.getId() + "," + pauta.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].pautaId").value(outraPauta.getId()))
+                .andExpect(jsonPath("$[1].votosNao").value(1));
+    }
+
     @Test
     void deveRetornarNotFoundParaSessaoInexistente() throws Exception {
         mockMvc.perform(get("/api/sessoes/999"))
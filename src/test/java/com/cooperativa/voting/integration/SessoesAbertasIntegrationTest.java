@@ -0,0 +1,107 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.SessaoRequest;
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Sem @Transactional: o índice é mantido pelos eventos publicados após o commit
+@SpringBootTest
+@ActiveProfiles("test")
+class SessoesAbertasIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Pauta pauta;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        limparBase();
+
+        pauta = pautaRepository.save(new Pauta("Pauta do Painel", "Descrição da pauta"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void listarSessoesAbertas_DeveAcompanharAberturaVotosEEncerramento() throws Exception {
+        SessaoRequest sessaoRequest = new SessaoRequest();
+        sessaoRequest.setDuracaoMinutos(10);
+        String response = mockMvc.perform(post("/api/sessoes/pauta/" + pauta.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(sessaoRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Long sessaoId = objectMapper.readTree(response).get("id").asLong();
+
+        votar(sessaoId, "12345678901", TipoVoto.SIM);
+        votar(sessaoId, "12345678902", TipoVoto.SIM);
+        votar(sessaoId, "12345678903", TipoVoto.NAO);
+
+        String filtro = "$[?(@.sessaoId == " + sessaoId + ")]";
+        mockMvc.perform(get("/api/sessoes/abertas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(filtro + ".pautaTitulo").value(contains("Pauta do Painel")))
+                .andExpect(jsonPath(filtro + ".votosSim").value(contains(2)))
+                .andExpect(jsonPath(filtro + ".votosNao").value(contains(1)))
+                .andExpect(jsonPath(filtro + ".totalVotos").value(contains(3)));
+
+        mockMvc.perform(put("/api/sessoes/" + sessaoId + "/encerrar"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/sessoes/abertas"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(filtro).value(empty()));
+    }
+
+    private void votar(Long sessaoId, String associadoId, TipoVoto tipo) throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/" + sessaoId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new VotoRequest(associadoId, tipo))))
+                .andExpect(status().isCreated());
+    }
+}
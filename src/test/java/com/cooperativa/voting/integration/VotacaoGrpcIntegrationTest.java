@@ -0,0 +1,169 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.grpc.VotacaoGrpcService;
+import com.cooperativa.voting.grpc.v1.ConfirmacaoVoto;
+import com.cooperativa.voting.grpc.v1.ObterResultadoRequest;
+import com.cooperativa.voting.grpc.v1.PodeVotarRequest;
+import com.cooperativa.voting.grpc.v1.RegistrarVotoRequest;
+import com.cooperativa.voting.grpc.v1.Resultado;
+import com.cooperativa.voting.grpc.v1.TipoVoto;
+import com.cooperativa.voting.grpc.v1.VotacaoGrpc;
+import com.cooperativa.voting.grpc.v1.Voto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "cooperativa.grpc.enabled=true",
+    "cooperativa.grpc.porta=0"
+})
+class VotacaoGrpcIntegrationTest {
+
+    @Autowired
+    private VotacaoGrpcService votacaoGrpcService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Server servidor;
+    private ManagedChannel canal;
+    private VotacaoGrpc.VotacaoBlockingStub stub;
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta gRPC", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+
+        // Mesmo serviço do contexto, servido em processo
+        String nome = InProcessServerBuilder.generateName();
+        servidor = InProcessServerBuilder.forName(nome).addService(votacaoGrpcService).build().start();
+        canal = InProcessChannelBuilder.forName(nome).build();
+        stub = VotacaoGrpc.newBlockingStub(canal);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        canal.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        servidor.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void registrarVoto_DeveGravarVoto_EAtualizarPodeVotarEResultado() {
+        Voto voto = stub.registrarVoto(voto("12345678901", TipoVoto.SIM, 0));
+
+        assertThat(voto.getId()).isPositive();
+        assertThat(voto.getVoto()).isEqualTo(TipoVoto.SIM);
+        assertThat(stub.podeVotar(PodeVotarRequest.newBuilder()
+                .setSessaoId(sessao.getId()).setAssociadoId("12345678901").build()).getPodeVotar()).isFalse();
+
+        Resultado resultado = stub.obterResultado(ObterResultadoRequest.newBuilder().setSessaoId(sessao.getId()).build());
+        assertThat(resultado.getTotalVotos()).isEqualTo(1);
+        assertThat(resultado.getVotosSim()).isEqualTo(1);
+        assertThat(resultado.getPautaTitulo()).isEqualTo("Pauta gRPC");
+    }
+
+    @Test
+    void registrarVoto_DeveUsarMesmosErrosDaApiRest() {
+        assertThatThrownBy(() -> stub.registrarVoto(RegistrarVotoRequest.newBuilder()
+                .setSessaoId(999L).setAssociadoId("12345678901").setVoto(TipoVoto.SIM).build()))
+            .isInstanceOf(StatusRuntimeException.class)
+            .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+            .isEqualTo(Status.Code.NOT_FOUND);
+
+        assertThatThrownBy(() -> stub.registrarVoto(voto("", TipoVoto.TIPO_VOTO_NAO_INFORMADO, 0)))
+            .isInstanceOf(StatusRuntimeException.class)
+            .hasMessageContaining("associadoId")
+            .hasMessageContaining("voto")
+            .extracting(ex -> ((StatusRuntimeException) ex).getStatus().getCode())
+            .isEqualTo(Status.Code.INVALID_ARGUMENT);
+    }
+
+    @Test
+    void registrarVotos_DeveConfirmarCadaVoto_SemFecharCanalNoErro() throws Exception {
+        List<ConfirmacaoVoto> confirmacoes = new CopyOnWriteArrayList<>();
+        CountDownLatch concluido = new CountDownLatch(1);
+
+        StreamObserver<RegistrarVotoRequest> envio = VotacaoGrpc.newStub(canal).registrarVotos(new StreamObserver<>() {
+            @Override
+            public void onNext(ConfirmacaoVoto confirmacao) {
+                confirmacoes.add(confirmacao);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                concluido.countDown();
+            }
+
+            @Override
+            public void onCompleted() {
+                concluido.countDown();
+            }
+        });
+
+        envio.onNext(voto("12345678901", TipoVoto.SIM, 1));
+        envio.onNext(voto("12345678901", TipoVoto.NAO, 2));
+        envio.onNext(voto("12345678902", TipoVoto.NAO, 3));
+        envio.onCompleted();
+
+        assertThat(concluido.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(confirmacoes).extracting(ConfirmacaoVoto::getSequencia).containsExactlyInAnyOrder(1L, 2L, 3L);
+
+        ConfirmacaoVoto duplicado = confirmacoes.stream().filter(c -> c.getSequencia() == 2L).findFirst().orElseThrow();
+        assertThat(duplicado.hasErro()).isTrue();
+        assertThat(duplicado.getErro().getCodigo()).isEqualTo("INVALID_ARGUMENT");
+        assertThat(duplicado.getErro().getMensagem()).isEqualTo("Este associado já votou nesta pauta");
+        assertThat(confirmacoes.stream().filter(ConfirmacaoVoto::hasVoto)).hasSize(2);
+        assertThat(votoRepository.count()).isEqualTo(2);
+    }
+
+    private RegistrarVotoRequest voto(String associadoId, TipoVoto tipo, long sequencia) {
+        return RegistrarVotoRequest.newBuilder()
+                .setSessaoId(sessao.getId())
+                .setAssociadoId(associadoId)
+                .setVoto(tipo)
+                .setSequencia(sequencia)
+                .build();
+    }
+}
@@ -0,0 +1,182 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.exception.VotacaoEncerradaException;
+import com.cooperativa.voting.ingestao.ProcessadorVotos;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.SessaoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "cooperativa.ingestao.enabled=true",
+    "cooperativa.ingestao.shards=2",
+    "cooperativa.ingestao.capacidade=1024"
+})
+@ActiveProfiles("test")
+class VotoIngestaoIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProcessadorVotos processadorVotos;
+
+    @Autowired
+    private SessaoService sessaoService;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta para Ingestão", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void registrarVoto_DeveAceitarApenasUmVoto_QuandoMesmoAssociadoVotaConcorrentemente() throws Exception {
+        List<Future<VotoResponse>> resultados = executarConcorrentemente(16,
+                i -> () -> processadorVotos.registrarVoto(sessao.getId(), new VotoRequest("12345678901", TipoVoto.SIM)));
+
+        int aceitos = 0;
+        int duplicados = 0;
+        for (Future<VotoResponse> resultado : resultados) {
+            try {
+                assertThat(resultado.get().getId()).isNotNull();
+                aceitos++;
+            } catch (java.util.concurrent.ExecutionException ex) {
+                assertThat(ex.getCause()).isInstanceOf(BusinessException.class)
+                        .hasMessage("Este associado já votou nesta pauta");
+                duplicados++;
+            }
+        }
+
+        assertThat(aceitos).isEqualTo(1);
+        assertThat(duplicados).isEqualTo(15);
+        assertThat(votoRepository.countBySessaoId(sessao.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void registrarVoto_DeveGravarTodosOsVotos_QuandoAssociadosDistintosVotamConcorrentemente() throws Exception {
+        int total = 200;
+        List<Future<VotoResponse>> resultados = executarConcorrentemente(total,
+                i -> () -> processadorVotos.registrarVoto(sessao.getId(),
+                        new VotoRequest(String.format("%011d", i), i % 4 == 0 ? TipoVoto.NAO : TipoVoto.SIM)));
+
+        for (Future<VotoResponse> resultado : resultados) {
+            assertThat(resultado.get().getSessaoId()).isEqualTo(sessao.getId());
+        }
+
+        assertThat(votoRepository.countBySessaoIdAndTipo(sessao.getId(), TipoVoto.SIM)).isEqualTo(150);
+        assertThat(votoRepository.countBySessaoIdAndTipo(sessao.getId(), TipoVoto.NAO)).isEqualTo(50);
+    }
+
+    @Test
+    void registrarVoto_DeveRejeitar_QuandoSessaoEncerradaAposPrimeiroVoto() {
+        processadorVotos.registrarVoto(sessao.getId(), new VotoRequest("11111111111", TipoVoto.SIM));
+
+        sessaoService.encerrarSessao(sessao.getId());
+
+        assertThatThrownBy(() -> processadorVotos.registrarVoto(sessao.getId(), new VotoRequest("22222222222", TipoVoto.SIM)))
+            .isInstanceOf(VotacaoEncerradaException.class);
+    }
+
+    @Test
+    void registrarVoto_DeveLancarResourceNotFoundException_QuandoSessaoNaoExiste() {
+        assertThatThrownBy(() -> processadorVotos.registrarVoto(999L, new VotoRequest("11111111111", TipoVoto.SIM)))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void endpointDeVoto_DeveUsarProcessador_EManterCodigosDeResposta() throws Exception {
+        VotoRequest voto = new VotoRequest("12345678901", TipoVoto.SIM);
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.associadoId").value("12345678901"));
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Este associado já votou nesta pauta"));
+    }
+
+    private <T> List<Future<T>> executarConcorrentemente(int quantidade,
+            java.util.function.IntFunction<Callable<T>> tarefa) {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Callable<T>> tarefas = new ArrayList<>();
+            for (int i = 0; i < quantidade; i++) {
+                tarefas.add(tarefa.apply(i));
+            }
+            return executor.invokeAll(tarefas);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.cooperativa.voting.integration;
 
+import com.cooperativa.voting.dto.request.PodeVotarLoteRequest;
 import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.VotoResponse;
 import com.cooperativa.voting.enums.TipoVoto;
 import com.cooperativa.voting.model.Pauta;
 import com.cooperativa.voting.model.Sessao;
 import com.cooperativa.voting.repository.PautaRepository;
 import com.cooperativa.voting.repository.SessaoRepository;
 import com.cooperativa.voting.repository.VotoRepository;
+import com.cooperativa.voting.service.PublicadorAlteracoes;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,10 +19,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +45,9 @@ class VotoIntegrationTest {
     @Autowired
     private PautaRepository pautaRepository;
 
+    @Autowired
+    private PublicadorAlteracoes publicadorAlteracoes;
+
     @Autowired
     private SessaoRepository sessaoRepository;
 
@@ -127,6 +139,33 @@ class VotoIntegrationTest {
                 .andExpect(jsonPath("$.votosNao").value(1));
     }
 
+    @Test
+    void deveRegistrarEListarVotosEmSmile() throws Exception {
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        ObjectMapper smileMapper = objectMapper.copyWith(new SmileFactory());
+
+        VotoRequest voto = new VotoRequest();
+        voto.setAssociadoId("12345678901");
+        voto.setVoto(TipoVoto.NAO);
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(smile)
+                .accept(smile)
+                .content(smileMapper.writeValueAsBytes(voto)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(smile));
+
+        byte[] corpo = mockMvc.perform(get("/api/votos/sessao/" + sessao.getId()).accept(smile))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        VotoResponse[] votos = smileMapper.readValue(corpo, VotoResponse[].class);
+        assertThat(votos).hasSize(1);
+        assertThat(votos[0].getVoto()).isEqualTo(TipoVoto.NAO);
+        assertThat(votos[0].getVotadoEm()).isNotNull();
+    }
+
     @Test
     void deveRejeitarVotoDuplicado() throws Exception {
         // Registrar primeiro voto
@@ -147,6 +186,27 @@ class VotoIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Este associado já votou nesta pauta"));
     }
 
+    @Test
+    void deveVerificarEmLoteQuemAindaPodeVotar() throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new VotoRequest("12345678902", TipoVoto.NAO))))
+                .andExpect(status().isCreated());
+
+        PodeVotarLoteRequest fila = new PodeVotarLoteRequest(List.of("12345678903", "12345678902", "12345678901"));
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId() + "/pode-votar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(fila)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.votacaoAberta").value(true))
+                .andExpect(jsonPath("$.podemVotar").value(contains("12345678903", "12345678901")));
+
+        mockMvc.perform(post("/api/votos/sessao/999/pode-votar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(fila)))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deveRejeitarVotoEmSessaoEncerrada() throws Exception {
         // Encerrar a sessão
@@ -244,4 +304,61 @@ class VotoIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(3)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveListarVotosNoFeedDeAlteracoes_EmPaginasPorCursor() throws Exception {
+        for (String associadoId : new String[] {"11111111111", "22222222222"}) {
+            VotoRequest voto = new VotoRequest(associadoId, TipoVoto.SIM);
+            mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(voto)))
+                    .andExpect(status().isCreated());
+        }
+
+        // As posições são publicadas após o commit, fora da requisição; aqui, como faria o job agendado
+        publicadorAlteracoes.publicarVotos();
+
+        MvcResult primeira = mockMvc.perform(get("/api/votos/changes").param("after", "0").param("limit", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String resposta = mockMvc.perform(asyncDispatch(primeira))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(1)))
+                .andExpect(jsonPath("$.itens[0].associadoId").value("11111111111"))
+                .andExpect(jsonPath("$.temMais").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        long cursor = objectMapper.readTree(resposta).get("cursor").asLong();
+
+        MvcResult segunda = mockMvc.perform(get("/api/votos/changes").param("after", String.valueOf(cursor)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(segunda))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens", hasSize(1)))
+                .andExpect(jsonPath("$.itens[0].associadoId").value("22222222222"))
+                .andExpect(jsonPath("$.temMais").value(false));
+    }
+
+    @Test
+    void deveAguardarResultadoPorVersao_ERetornar304_QuandoNadaMudou() throws Exception {
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new VotoRequest("12345678901", TipoVoto.SIM))))
+                .andExpect(status().isCreated());
+
+        MvcResult mudou = mockMvc.perform(get("/api/sessoes/" + sessao.getId() + "/resultado").param("sinceVersion", "0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mudou))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalVotos").value(1))
+                .andExpect(jsonPath("$.versao").value(1));
+
+        MvcResult semMudanca = mockMvc.perform(get("/api/sessoes/" + sessao.getId() + "/resultado").param("sinceVersion", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(semMudanca))
+                .andExpect(status().isNotModified());
+    }
+}
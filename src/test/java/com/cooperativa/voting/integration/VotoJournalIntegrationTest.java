@@ -0,0 +1,141 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.ingestao.ProcessadorVotos;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class VotoJournalIntegrationTest {
+
+    @TempDir
+    static Path diretorioJournal;
+
+    @DynamicPropertySource
+    static void configurarJournal(DynamicPropertyRegistry registry) {
+        registry.add("cooperativa.ingestao.enabled", () -> "true");
+        registry.add("cooperativa.ingestao.shards", () -> "2");
+        registry.add("cooperativa.ingestao.journal.diretorio", () -> diretorioJournal.toString());
+    }
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProcessadorVotos processadorVotos;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        limparBase();
+
+        Pauta pauta = pautaRepository.save(new Pauta("Pauta com Journal", "Descrição da pauta"));
+        sessao = sessaoRepository.save(new Sessao(pauta, 60));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        aguardarProjecao();
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void registrarVoto_DeveConfirmarAposJournal_EProjetarNoBanco() throws Exception {
+        VotoRequest voto = new VotoRequest("12345678901", TipoVoto.NAO);
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").doesNotExist())
+                .andExpect(jsonPath("$.associadoId").value("12345678901"));
+
+        aguardarProjecao();
+
+        List<Voto> votos = votoRepository.findBySessaoId(sessao.getId());
+        assertThat(votos).hasSize(1);
+        assertThat(votos.get(0).getTipo()).isEqualTo(TipoVoto.NAO);
+        assertThat(votos.get(0).getAssociadoChave()).isNotNull();
+        assertThat(Files.list(diretorioJournal.resolve("shard-0"))).isNotEmpty();
+    }
+
+    @Test
+    void registrarVoto_DeveRejeitarDuplicado_AntesDaProjecao() throws Exception {
+        VotoRequest voto = new VotoRequest("12345678901", TipoVoto.SIM);
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(voto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Este associado já votou nesta pauta"));
+
+        aguardarProjecao();
+
+        assertThat(votoRepository.countBySessaoId(sessao.getId())).isEqualTo(1);
+    }
+
+    private void aguardarProjecao() throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (processadorVotos.getPendentesProjecao() > 0 && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertThat(processadorVotos.getPendentesProjecao()).isZero();
+    }
+}
@@ -0,0 +1,232 @@
+package com.cooperativa.voting.integration;
+
+import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.PautaRepository;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Mesmos cenários de VotoIntegrationTest executados contra a stack WebFlux + R2DBC (H2)
+@SpringBootTest(properties = "cooperativa.reativo.enabled=true")
+@ActiveProfiles("test")
+class VotoReativoIntegrationTest {
+
+    @Autowired
+    private RouterFunction<ServerResponse> votoReativoRoutes;
+
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PautaRepository pautaRepository;
+
+    @Autowired
+    private SessaoRepository sessaoRepository;
+
+    @Autowired
+    private VotoRepository votoRepository;
+
+    private Pauta pauta;
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToRouterFunction(votoReativoRoutes).build();
+
+        limparBase();
+
+        pauta = new Pauta("Pauta para Votação Reativa", "Descrição da pauta");
+        pauta = pautaRepository.save(pauta);
+
+        sessao = new Sessao(pauta, 60);
+        sessao = sessaoRepository.save(sessao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limparBase();
+    }
+
+    private void limparBase() {
+        votoRepository.deleteAll();
+        sessaoRepository.deleteAll();
+        pautaRepository.deleteAll();
+    }
+
+    @Test
+    void devePermitirFluxoCompletoDeVotacao() {
+        // 1. Verificar se pode votar
+        webTestClient.get().uri("/api/votos/sessao/" + sessao.getId() + "/associado/12345678901/pode-votar")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.podeVotar").isEqualTo(true);
+
+        // 2. Registrar um voto SIM
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("12345678901", TipoVoto.SIM))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isNotEmpty()
+                .jsonPath("$.sessaoId").isEqualTo(sessao.getId())
+                .jsonPath("$.associadoId").isEqualTo("12345678901")
+                .jsonPath("$.voto").isEqualTo("SIM");
+
+        // 3. Registrar um voto NÃO
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("98765432100", TipoVoto.NAO))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.voto").isEqualTo("NAO");
+
+        // 4. Verificar que o primeiro associado não pode mais votar
+        webTestClient.get().uri("/api/votos/sessao/" + sessao.getId() + "/associado/12345678901/pode-votar")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.podeVotar").isEqualTo(false);
+
+        // 5. Verificar resultado da votação
+        webTestClient.get().uri("/api/sessoes/" + sessao.getId() + "/resultado")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.pautaTitulo").isEqualTo("Pauta para Votação Reativa")
+                .jsonPath("$.votacaoAberta").isEqualTo(true)
+                .jsonPath("$.votosSim").isEqualTo(1)
+                .jsonPath("$.votosNao").isEqualTo(1)
+                .jsonPath("$.totalVotos").isEqualTo(2);
+
+        // 6. O voto gravado pela stack reativa é visível pelo JPA
+        assertThat(votoRepository.countBySessaoId(sessao.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void deveRejeitarVotoDuplicado() {
+        VotoRequest voto = new VotoRequest("12345678901", TipoVoto.SIM);
+
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(voto)
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(voto)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Este associado já votou nesta pauta");
+    }
+
+    @Test
+    void deveRejeitarVotoEmSessaoEncerrada() {
+        sessao.encerrar();
+        sessaoRepository.save(sessao);
+
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("12345678901", TipoVoto.SIM))
+                .exchange()
+                .expectStatus().isForbidden()
+                .expectBody().jsonPath("$.error").isEqualTo("Votação encerrada");
+
+        webTestClient.get().uri("/api/votos/sessao/" + sessao.getId() + "/associado/12345678901/pode-votar")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.podeVotar").isEqualTo(false);
+    }
+
+    @Test
+    void deveRejeitarVotoComDadosInvalidos() {
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("", TipoVoto.SIM))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.fieldErrors.associadoId").isNotEmpty();
+
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("12345678901", null))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"associadoId\": \"12345678901\", \"voto\": \"TALVEZ\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Formato inválido");
+    }
+
+    @Test
+    void deveRetornarBadRequestParaIdNaoNumerico() {
+        webTestClient.post().uri("/api/votos/sessao/abc")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("12345678901", TipoVoto.SIM))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Formato inválido");
+
+        webTestClient.get().uri("/api/votos/sessao/abc/associado/12345678901/pode-votar")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/sessoes/abc/resultado")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void deveRetornarNotFoundParaSessaoInexistente() {
+        webTestClient.post().uri("/api/votos/sessao/999")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new VotoRequest("12345678901", TipoVoto.SIM))
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get().uri("/api/votos/sessao/999/associado/12345678901/pode-votar")
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webTestClient.get().uri("/api/sessoes/999/resultado")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void devePermitirMultiplosVotosNaMesmaSessao() {
+        String[] associados = {"11111111111", "22222222222", "33333333333"};
+        TipoVoto[] votos = {TipoVoto.SIM, TipoVoto.NAO, TipoVoto.SIM};
+
+        for (int i = 0; i < associados.length; i++) {
+            webTestClient.post().uri("/api/votos/sessao/" + sessao.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new VotoRequest(associados[i], votos[i]))
+                    .exchange()
+                    .expectStatus().isCreated();
+        }
+
+        webTestClient.get().uri("/api/sessoes/" + sessao.getId() + "/resultado")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.votosSim").isEqualTo(2)
+                .jsonPath("$.votosNao").isEqualTo(1);
+    }
+}
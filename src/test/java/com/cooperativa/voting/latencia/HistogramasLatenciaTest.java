@@ -0,0 +1,70 @@
+package com.cooperativa.voting.latencia;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HistogramasLatenciaTest {
+
+    @Test
+    void resumir_DeveCalcularPercentisDaJanela_EmMilissegundos() {
+        HistogramasLatencia histogramas = new HistogramasLatencia(6, "");
+
+        for (int i = 1; i <= 1000; i++) {
+            histogramas.registrar("VotoController.registrarVoto", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(histogramas.resumir().get("VotoController.registrarVoto").getContagem()).isZero();
+
+        histogramas.rotacionar();
+        HistogramasLatencia.Resumo resumo = histogramas.resumir().get("VotoController.registrarVoto");
+
+        assertThat(resumo.getContagem()).isEqualTo(1000);
+        assertThat(resumo.getP50()).isCloseTo(500.0, within(1.0));
+        assertThat(resumo.getP99()).isCloseTo(990.0, within(1.0));
+        assertThat(resumo.getMaximo()).isCloseTo(1000.0, within(1.0));
+    }
+
+    @Test
+    void rotacionar_DeveDescartarIntervalosForaDaJanela() {
+        HistogramasLatencia histogramas = new HistogramasLatencia(2, "");
+
+        histogramas.registrar("PautaController.listarPautas", TimeUnit.SECONDS.toNanos(5));
+        histogramas.rotacionar();
+        histogramas.registrar("PautaController.listarPautas", TimeUnit.MILLISECONDS.toNanos(2));
+        histogramas.rotacionar();
+        assertThat(histogramas.resumir().get("PautaController.listarPautas").getContagem()).isEqualTo(2);
+
+        histogramas.rotacionar();
+        HistogramasLatencia.Resumo resumo = histogramas.resumir().get("PautaController.listarPautas");
+        assertThat(resumo.getContagem()).isEqualTo(1);
+        assertThat(resumo.getMaximo()).isCloseTo(2.0, within(0.01));
+    }
+
+    @Test
+    void exportar_DeveGerarLogLegivelPeloHdrHistogram_ComTagPorEndpoint() {
+        HistogramasLatencia histogramas = new HistogramasLatencia(6, "");
+        histogramas.registrar("VotoController.registrarVoto", TimeUnit.MILLISECONDS.toNanos(3));
+        histogramas.registrar("SessaoController.obterResultadoVotacao", TimeUnit.MILLISECONDS.toNanos(7));
+        histogramas.rotacionar();
+
+        HistogramLogReader leitor = new HistogramLogReader(
+            new ByteArrayInputStream(histogramas.exportar().getBytes(StandardCharsets.UTF_8)));
+        List<Histogram> intervalos = new ArrayList<>();
+        while (leitor.hasNext()) {
+            intervalos.add((Histogram) leitor.nextIntervalHistogram());
+        }
+
+        assertThat(intervalos).extracting(Histogram::getTag)
+            .containsExactlyInAnyOrder("VotoController.registrarVoto", "SessaoController.obterResultadoVotacao");
+        assertThat(intervalos).allSatisfy(intervalo -> assertThat(intervalo.getTotalCount()).isEqualTo(1));
+    }
+}
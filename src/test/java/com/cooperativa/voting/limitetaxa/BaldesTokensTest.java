@@ -0,0 +1,72 @@
+package com.cooperativa.voting.limitetaxa;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaldesTokensTest {
+
+    private final AtomicLong relogio = new AtomicLong(1_000);
+
+    @Test
+    void consumir_DevePermitirRajadaERecusarExcedente() {
+        BaldesTokens baldes = new BaldesTokens(1, 3, relogio::get);
+
+        assertThat(baldes.consumir("a").getRestantes()).isEqualTo(2);
+        assertThat(baldes.consumir("a").getRestantes()).isEqualTo(1);
+        BaldesTokens.Consumo ultimo = baldes.consumir("a");
+        assertThat(ultimo.isPermitido()).isTrue();
+        assertThat(ultimo.getRestantes()).isZero();
+        assertThat(ultimo.getCheioEmNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(3));
+
+        BaldesTokens.Consumo recusado = baldes.consumir("a");
+        assertThat(recusado.isPermitido()).isFalse();
+        assertThat(recusado.getLimite()).isEqualTo(3);
+        assertThat(recusado.getRestantes()).isZero();
+        assertThat(recusado.getTentarEmNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void consumir_DeveSepararChaves() {
+        BaldesTokens baldes = new BaldesTokens(1, 1, relogio::get);
+
+        assertThat(baldes.consumir("a").isPermitido()).isTrue();
+        assertThat(baldes.consumir("a").isPermitido()).isFalse();
+        assertThat(baldes.consumir("b").isPermitido()).isTrue();
+    }
+
+    @Test
+    void consumir_DeveRepor_ConformeTaxa() {
+        BaldesTokens baldes = new BaldesTokens(10, 1, relogio::get);
+        assertThat(baldes.consumir("a").isPermitido()).isTrue();
+
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        BaldesTokens.Consumo cedo = baldes.consumir("a");
+        assertThat(cedo.isPermitido()).isFalse();
+        assertThat(cedo.getTentarEmNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+
+        relogio.addAndGet(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(baldes.consumir("a").isPermitido()).isTrue();
+    }
+
+    @Test
+    void consumir_DeveDescartarBaldesCheios_QuandoVarreduraVence() {
+        BaldesTokens baldes = new BaldesTokens(100, 10, relogio::get);
+
+        for (int i = 0; i < 1_000_000; i++) {
+            assertThat(baldes.consumir("associado-" + i).isPermitido()).isTrue();
+        }
+        assertThat(baldes.getChaves()).isEqualTo(1_000_000);
+
+        // Todos os baldes já se encheram; cada acesso varre a própria faixa
+        relogio.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        for (int i = 0; i < 10_000; i++) {
+            baldes.consumir("associado-" + i);
+        }
+
+        assertThat(baldes.getChaves()).isLessThanOrEqualTo(10_000);
+    }
+}
@@ -0,0 +1,70 @@
+package com.cooperativa.voting.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LogAmostradoTest {
+
+    private final ListAppender<ILoggingEvent> eventos = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        LoggerContext contexto = new LoggerContext();
+        eventos.setContext(contexto);
+        eventos.start();
+        logger = contexto.getLogger(LogAmostradoTest.class);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(eventos);
+    }
+
+    @Test
+    void contar_DeveRegistrarPrimeiraOcorrenciaEAgruparAsSeguintes() {
+        LogAmostrado amostrado = new LogAmostrado(logger, "Votos registrados", org.slf4j.event.Level.INFO, 1, TimeUnit.HOURS);
+
+        for (int i = 0; i < 1000; i++) {
+            amostrado.contar();
+        }
+
+        assertThat(eventos.list).hasSize(1);
+        assertThat(eventos.list.get(0).getLevel()).isEqualTo(Level.INFO);
+        assertThat(eventos.list.get(0).getFormattedMessage()).isEqualTo("Votos registrados: 1 desde o último registro");
+    }
+
+    @Test
+    void contar_DeveRegistrarContagemDoPeriodo_QuandoIntervaloVence() throws InterruptedException {
+        LogAmostrado amostrado = new LogAmostrado(logger, "Votos registrados", org.slf4j.event.Level.INFO, 20, TimeUnit.MILLISECONDS);
+
+        amostrado.contar();
+        amostrado.contar();
+        amostrado.contar();
+        Thread.sleep(30);
+        amostrado.contar();
+
+        assertThat(eventos.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+            "Votos registrados: 1 desde o último registro",
+            "Votos registrados: 3 desde o último registro");
+    }
+
+    @Test
+    void registrar_DeveUsarNivelInformadoEIncluirUltimaMensagem() {
+        LogAmostrado amostrado = new LogAmostrado(logger, "Votos recusados", org.slf4j.event.Level.WARN, 1, TimeUnit.HOURS);
+
+        amostrado.registrar("sessão 42");
+        amostrado.registrar("sessão 43");
+
+        assertThat(eventos.list).hasSize(1);
+        assertThat(eventos.list.get(0).getLevel()).isEqualTo(Level.WARN);
+        assertThat(eventos.list.get(0).getFormattedMessage())
+            .isEqualTo("Votos recusados: 1 desde o último registro. Última: sessão 42");
+    }
+}
@@ -0,0 +1,134 @@
+package com.cooperativa.voting.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.logging.logback.StructuredLogEncoder;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+// Custo de log por voto: as três linhas INFO do caminho antigo (controller e service), escritas
+// na thread da requisição ou pelo appender assíncrono, contra o caminho novo (DEBUG desligado e
+// contagem amostrada). A saída é descartada, então o número é CPU de formatação e contenção,
+// sem o I/O do console. Com 4 threads, como várias requisições simultâneas; se a fila assíncrona
+// encher, os eventos são descartados como em produção.
+// Não é executado pelo surefire: mvn -Pbenchmark test-compile exec:exec -Djmh.args="LogVoto -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LogVotoBenchmark {
+
+    private static final Long SESSAO_ID = 42L;
+    private static final String ASSOCIADO_ID = "12345678901";
+    private static final String VOTO = "SIM";
+    private static final Long VOTO_ID = 1_000_000L;
+
+    @Param({"texto", "json"})
+    private String formato;
+
+    private LoggerContext contexto;
+    private Logger sincrono;
+    private Logger assincrono;
+    private Logger amostrado;
+    private LogAmostrado votosRegistrados;
+
+    @Setup
+    public void setUp() {
+        contexto = new LoggerContext();
+        contexto.putObject(Environment.class.getName(), new StandardEnvironment());
+
+        OutputStreamAppender<ILoggingEvent> descarte = new OutputStreamAppender<>();
+        descarte.setContext(contexto);
+        descarte.setEncoder(encoder());
+        descarte.setOutputStream(OutputStream.nullOutputStream());
+        descarte.start();
+
+        AsyncAppender fila = new AsyncAppender();
+        fila.setContext(contexto);
+        fila.setQueueSize(8192);
+        fila.setNeverBlock(true);
+        fila.addAppender(descarte);
+        fila.start();
+
+        sincrono = logger("sincrono", Level.INFO);
+        sincrono.addAppender(descarte);
+        assincrono = logger("assincrono", Level.INFO);
+        assincrono.addAppender(fila);
+        amostrado = logger("amostrado", Level.INFO);
+        amostrado.addAppender(fila);
+        votosRegistrados = new LogAmostrado(amostrado, "Votos registrados", org.slf4j.event.Level.INFO, 10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        contexto.stop();
+    }
+
+    @Benchmark
+    public void tresLinhasInfoSincronas() {
+        registrarVotoAntigo(sincrono);
+    }
+
+    @Benchmark
+    public void tresLinhasInfoAssincronas() {
+        registrarVotoAntigo(assincrono);
+    }
+
+    @Benchmark
+    public void contagemAmostrada() {
+        amostrado.debug("Recebida requisição para registrar voto - Sessão: {}, Associado: {}, Voto: {}",
+            SESSAO_ID, ASSOCIADO_ID, VOTO);
+        amostrado.debug("Registrando voto - Sessão: {}, Associado: {}, Voto: {}", SESSAO_ID, ASSOCIADO_ID, VOTO);
+        amostrado.debug("Voto registrado com sucesso - ID: {}", VOTO_ID);
+        votosRegistrados.contar();
+    }
+
+    private static void registrarVotoAntigo(Logger logger) {
+        logger.info("Recebida requisição para registrar voto - Sessão: {}, Associado: {}, Voto: {}",
+            SESSAO_ID, ASSOCIADO_ID, VOTO);
+        logger.info("Registrando voto - Sessão: {}, Associado: {}, Voto: {}", SESSAO_ID, ASSOCIADO_ID, VOTO);
+        logger.info("Voto registrado com sucesso - ID: {}", VOTO_ID);
+    }
+
+    private Logger logger(String nome, Level nivel) {
+        Logger logger = contexto.getLogger("com.cooperativa.voting.benchmark." + nome);
+        logger.setLevel(nivel);
+        logger.setAdditive(false);
+        return logger;
+    }
+
+    private Encoder<ILoggingEvent> encoder() {
+        if ("json".equals(formato)) {
+            StructuredLogEncoder encoder = new StructuredLogEncoder();
+            encoder.setContext(contexto);
+            encoder.setFormat("logstash");
+            encoder.start();
+            return encoder;
+        }
+        // Mesmo padrão do console do Spring Boot, sem as cores
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(contexto);
+        encoder.setPattern("%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+        return encoder;
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
@@ -193,4 +194,30 @@ class VotoRepositoryTest {
         assertThat(savedVoto.getTipo()).isEqualTo(TipoVoto.SIM);
         assertThat(savedVoto.getVotadoEm()).isNotNull();
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAssociadoChaveByPautaId_DeveRetornarApenasChavesPreenchidas() {
+        entityManager.persistAndFlush(new Voto(sessao, "12345678901", 10, TipoVoto.SIM));
+        entityManager.persistAndFlush(new Voto(sessao, "98765432100", 20, TipoVoto.NAO));
+        entityManager.persistAndFlush(new Voto(sessao, "11111111111", TipoVoto.SIM));
+
+        List<Integer> chaves = votoRepository.findAssociadoChaveByPautaId(pauta.getId());
+
+        assertThat(chaves).containsExactlyInAnyOrder(10, 20);
+    }
+
+    @Test
+    void atualizarAssociadoChave_DevePreencherApenasVotosSemChave() {
+        Voto semChave = entityManager.persistAndFlush(new Voto(sessao, "12345678901", TipoVoto.SIM));
+
+        assertThat(votoRepository.findAssociadoIdSemChave(PageRequest.of(0, 10))).containsExactly("12345678901");
+
+        int atualizados = votoRepository.atualizarAssociadoChave("12345678901", 7);
+        entityManager.clear();
+
+        assertThat(atualizados).isEqualTo(1);
+        assertThat(votoRepository.findById(semChave.getId()).get().getAssociadoChave()).isEqualTo(7);
+        assertThat(votoRepository.findAssociadoIdSemChave(PageRequest.of(0, 10))).isEmpty();
+        assertThat(votoRepository.atualizarAssociadoChave("12345678901", 8)).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AcompanhamentoResultadoServiceTest {
+
+    @Mock
+    private SessaoService sessaoService;
+
+    @InjectMocks
+    private AcompanhamentoResultadoService acompanhamentoResultadoService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(acompanhamentoResultadoService, "esperaMaximaMs", 30000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        acompanhamentoResultadoService.encerrar();
+    }
+
+    @Test
+    void aguardarResultado_DeveResponderNaHora_QuandoVersaoJaMudou() {
+        when(sessaoService.obterResultadoVotacao(1L)).thenReturn(resultado(3, 2, true));
+
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado =
+            acompanhamentoResultadoService.aguardarResultado(1L, 4L, 20000L);
+
+        assertThat(resultado.hasResult()).isTrue();
+        ResponseEntity<?> resposta = (ResponseEntity<?>) resultado.getResult();
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(((ResultadoVotacaoResponse) resposta.getBody()).getVersao()).isEqualTo(5L);
+        verify(sessaoService, times(1)).obterResultadoVotacao(1L);
+    }
+
+    @Test
+    void aguardarResultado_DeveResponder304_QuandoSemEsperaENadaMudou() {
+        when(sessaoService.obterResultadoVotacao(1L)).thenReturn(resultado(3, 2, true));
+
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado =
+            acompanhamentoResultadoService.aguardarResultado(1L, 5L, 0L);
+
+        ResponseEntity<?> resposta = (ResponseEntity<?>) resultado.getResult();
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(resposta.getBody()).isNull();
+    }
+
+    @Test
+    void aguardarResultado_DeveResponderQuandoChegaVotoNaSessao() throws Exception {
+        when(sessaoService.obterResultadoVotacao(1L))
+            .thenReturn(resultado(3, 2, true), resultado(3, 2, true), resultado(4, 2, true));
+
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado =
+            acompanhamentoResultadoService.aguardarResultado(1L, 5L, 20000L);
+        assertThat(resultado.hasResult()).isFalse();
+
+        // Voto em outra sessão não acorda a espera
+        acompanhamentoResultadoService.onVotosRegistrados(new VotosRegistradosEvent(2L, TipoVoto.SIM));
+        acompanhamentoResultadoService.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+
+        aguardar(resultado);
+        ResponseEntity<?> resposta = (ResponseEntity<?>) resultado.getResult();
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(((ResultadoVotacaoResponse) resposta.getBody()).getVersao()).isEqualTo(6L);
+        verify(sessaoService, never()).obterResultadoVotacao(2L);
+    }
+
+    @Test
+    void aguardarResultado_DeveResponderQuandoSessaoEncerra_MesmoSemVotosNovos() throws Exception {
+        when(sessaoService.obterResultadoVotacao(1L))
+            .thenReturn(resultado(3, 2, true), resultado(3, 2, true), resultado(3, 2, false));
+
+        DeferredResult<ResponseEntity<ResultadoVotacaoResponse>> resultado =
+            acompanhamentoResultadoService.aguardarResultado(1L, 5L, 20000L);
+
+        acompanhamentoResultadoService.onSessaoEncerrada(new SessaoEncerradaEvent(1L));
+
+        aguardar(resultado);
+        ResponseEntity<?> resposta = (ResponseEntity<?>) resultado.getResult();
+        ResultadoVotacaoResponse corpo = (ResultadoVotacaoResponse) resposta.getBody();
+        assertThat(corpo.isVotacaoAberta()).isFalse();
+        assertThat(corpo.getVersao()).isEqualTo(6L);
+    }
+
+    @Test
+    void aguardarResultado_DevePropagarResourceNotFound_QuandoSessaoNaoExiste() {
+        when(sessaoService.obterResultadoVotacao(999L)).thenThrow(new ResourceNotFoundException("Sessão", "id", 999L));
+
+        assertThatThrownBy(() -> acompanhamentoResultadoService.aguardarResultado(999L, 0L, 20000L))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void aguardar(DeferredResult<?> resultado) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 2000;
+        while (!resultado.hasResult() && System.currentTimeMillis() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(resultado.hasResult()).isTrue();
+    }
+
+    private ResultadoVotacaoResponse resultado(int sim, int nao, boolean aberta) {
+        return new ResultadoVotacaoResponse(1L, 1L, "Pauta", "Descrição",
+            aberta ? StatusSessao.ABERTA : StatusSessao.ENCERRADA, aberta,
+            LocalDateTime.now().minusMinutes(5), LocalDateTime.now().plusMinutes(55), sim, nao);
+    }
+}
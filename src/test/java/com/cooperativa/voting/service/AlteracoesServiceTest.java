@@ -0,0 +1,125 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.AlteracoesResponse;
+import com.cooperativa.voting.dto.response.EventoSessaoResponse;
+import com.cooperativa.voting.dto.response.VotoResponse;
+import com.cooperativa.voting.enums.StatusSessao;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.model.EventoSessao;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.model.Voto;
+import com.cooperativa.voting.repository.EventoSessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlteracoesServiceTest {
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private EventoSessaoRepository eventoSessaoRepository;
+
+    @Mock
+    private PublicadorAlteracoes publicadorAlteracoes;
+
+    @InjectMocks
+    private AlteracoesService alteracoesService;
+
+    private Sessao sessao;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(alteracoesService, "limiteMaximo", 1000);
+        ReflectionTestUtils.setField(alteracoesService, "esperaMaximaMs", 30000L);
+
+        Pauta pauta = new Pauta("Pauta", "Descrição");
+        pauta.setId(1L);
+        sessao = new Sessao(pauta, 60);
+        sessao.setId(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        alteracoesService.encerrar();
+    }
+
+    @Test
+    void listarAlteracoesVotos_DeveRetornarPaginaLimitada_QuandoExistemMaisVotos() {
+        when(votoRepository.findAposPosicao(10L, PageRequest.of(0, 3)))
+            .thenReturn(List.of(voto(11L), voto(12L), voto(13L)));
+
+        DeferredResult<AlteracoesResponse<VotoResponse>> resultado = alteracoesService.listarAlteracoesVotos(10L, 2, 5000);
+
+        assertThat(resultado.hasResult()).isTrue();
+        AlteracoesResponse<?> pagina = (AlteracoesResponse<?>) resultado.getResult();
+        assertThat(pagina.getItens()).hasSize(2);
+        assertThat(pagina.getCursor()).isEqualTo(12L);
+        assertThat(pagina.isTemMais()).isTrue();
+        verifyNoInteractions(publicadorAlteracoes);
+    }
+
+    @Test
+    void listarAlteracoesVotos_DeveRetornarPaginaVaziaComMesmoCursor_QuandoSemEspera() {
+        when(votoRepository.findAposPosicao(eq(20L), any())).thenReturn(List.of());
+
+        DeferredResult<AlteracoesResponse<VotoResponse>> resultado = alteracoesService.listarAlteracoesVotos(20L, 100, 0);
+
+        assertThat(resultado.hasResult()).isTrue();
+        AlteracoesResponse<?> pagina = (AlteracoesResponse<?>) resultado.getResult();
+        assertThat(pagina.getItens()).isEmpty();
+        assertThat(pagina.getCursor()).isEqualTo(20L);
+        assertThat(pagina.isTemMais()).isFalse();
+    }
+
+    @Test
+    void listarAlteracoesSessoes_DeveResponderEspera_QuandoChegaAvisoDeEncerramento() throws Exception {
+        EventoSessao evento = new EventoSessao(sessao);
+        evento.setId(3L);
+        evento.setPosicao(3L);
+        evento.setStatus(StatusSessao.ENCERRADA);
+        when(eventoSessaoRepository.findAposPosicao(eq(2L), any()))
+            .thenReturn(List.of(), List.of(), List.of(evento));
+
+        DeferredResult<AlteracoesResponse<EventoSessaoResponse>> resultado =
+            alteracoesService.listarAlteracoesSessoes(2L, 100, 5000);
+        assertThat(resultado.hasResult()).isFalse();
+
+        alteracoesService.onSessaoEncerrada(new SessaoEncerradaEvent(1L));
+
+        long limite = System.currentTimeMillis() + 2000;
+        while (!resultado.hasResult() && System.currentTimeMillis() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(resultado.hasResult()).isTrue();
+        AlteracoesResponse<?> pagina = (AlteracoesResponse<?>) resultado.getResult();
+        assertThat(pagina.getCursor()).isEqualTo(3L);
+        assertThat(((EventoSessaoResponse) pagina.getItens().get(0)).getStatus()).isEqualTo(StatusSessao.ENCERRADA);
+    }
+
+    private Voto voto(Long id) {
+        Voto voto = new Voto(sessao, "associado-" + id, id.intValue(), TipoVoto.SIM);
+        voto.setId(id);
+        voto.setPosicao(id);
+        return voto;
+    }
+}
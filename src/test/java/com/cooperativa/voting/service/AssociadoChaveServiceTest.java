@@ -0,0 +1,106 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.model.AssociadoChave;
+import com.cooperativa.voting.repository.AssociadoChaveRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AssociadoChaveServiceTest {
+
+    @Mock
+    private AssociadoChaveRepository associadoChaveRepository;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AssociadoChaveService associadoChaveService;
+
+    @BeforeEach
+    void setUp() {
+        associadoChaveService = new AssociadoChaveService(associadoChaveRepository, votoRepository, transactionManager, 10);
+    }
+
+    @Test
+    void chave_DeveRetornarChaveExistente_EUsarCacheNaSegundaChamada() {
+        when(associadoChaveRepository.findByAssociadoId("12345678901"))
+                .thenReturn(Optional.of(chave(5, "12345678901")));
+
+        assertThat(associadoChaveService.chave("12345678901")).isEqualTo(5);
+        assertThat(associadoChaveService.chave("12345678901")).isEqualTo(5);
+
+        verify(associadoChaveRepository, times(1)).findByAssociadoId("12345678901");
+        verify(associadoChaveRepository, never()).saveAndFlush(any(AssociadoChave.class));
+    }
+
+    @Test
+    void chave_DeveCriarNovaChave_QuandoAssociadoNaoExiste() {
+        when(associadoChaveRepository.findByAssociadoId("12345678901")).thenReturn(Optional.empty());
+        when(associadoChaveRepository.saveAndFlush(any(AssociadoChave.class))).thenReturn(chave(1, "12345678901"));
+
+        assertThat(associadoChaveService.chave("12345678901")).isEqualTo(1);
+
+        verify(associadoChaveRepository).saveAndFlush(any(AssociadoChave.class));
+    }
+
+    @Test
+    void chave_DeveBuscarNovamente_QuandoOutraThreadCriouAChave() {
+        when(associadoChaveRepository.findByAssociadoId("12345678901"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(chave(3, "12345678901")));
+        when(associadoChaveRepository.saveAndFlush(any(AssociadoChave.class)))
+                .thenThrow(new DataIntegrityViolationException("associado_id duplicado"));
+
+        assertThat(associadoChaveService.chave("12345678901")).isEqualTo(3);
+
+        verify(associadoChaveRepository, times(2)).findByAssociadoId("12345678901");
+    }
+
+    @Test
+    void chave_DevePropagarExcecao_QuandoChaveNaoEncontradaAposConflito() {
+        when(associadoChaveRepository.findByAssociadoId("12345678901")).thenReturn(Optional.empty());
+        when(associadoChaveRepository.saveAndFlush(any(AssociadoChave.class)))
+                .thenThrow(new DataIntegrityViolationException("falha"));
+
+        assertThatThrownBy(() -> associadoChaveService.chave("12345678901"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void preencherChavesPendentes_DeveAtualizarVotosSemChave() {
+        when(votoRepository.findAssociadoIdSemChave(any(Pageable.class))).thenReturn(List.of("111", "222"));
+        when(associadoChaveRepository.findByAssociadoId("111")).thenReturn(Optional.of(chave(1, "111")));
+        when(associadoChaveRepository.findByAssociadoId("222")).thenReturn(Optional.of(chave(2, "222")));
+        when(votoRepository.atualizarAssociadoChave("111", 1)).thenReturn(2);
+        when(votoRepository.atualizarAssociadoChave("222", 2)).thenReturn(1);
+
+        associadoChaveService.preencherChavesPendentes();
+
+        verify(votoRepository).atualizarAssociadoChave("111", 1);
+        verify(votoRepository).atualizarAssociadoChave("222", 2);
+    }
+
+    private AssociadoChave chave(int valor, String associadoId) {
+        AssociadoChave chave = new AssociadoChave(associadoId);
+        chave.setChave(valor);
+        return chave;
+    }
+}
@@ -0,0 +1,73 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.ParticipacaoResponse;
+import com.cooperativa.voting.exception.BusinessException;
+import com.cooperativa.voting.exception.ResourceNotFoundException;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParticipacaoServiceTest {
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @Mock
+    private PautaService pautaService;
+
+    @InjectMocks
+    private ParticipacaoService participacaoService;
+
+    @Test
+    void votantesDaPauta_DeveMontarBitmapComAsChaves() {
+        when(votoRepository.findAssociadoChaveByPautaId(1L)).thenReturn(List.of(1, 5, 1_000_000));
+
+        RoaringBitmap votantes = participacaoService.votantesDaPauta(1L);
+
+        assertThat(votantes.getCardinality()).isEqualTo(3);
+        assertThat(votantes.contains(1_000_000)).isTrue();
+        verify(pautaService).buscarPautaEntityPorId(1L);
+    }
+
+    @Test
+    void calcularParticipacao_DeveCalcularUniaoEIntersecao() {
+        when(votoRepository.findAssociadoChaveByPautaId(1L)).thenReturn(List.of(1, 2, 3));
+        when(votoRepository.findAssociadoChaveByPautaId(2L)).thenReturn(List.of(2, 3, 4, 5));
+
+        ParticipacaoResponse response = participacaoService.calcularParticipacao(List.of(1L, 2L, 1L));
+
+        assertThat(response.getPautaIds()).containsExactly(1L, 2L);
+        assertThat(response.getVotantesPorPauta()).containsEntry(1L, 3L).containsEntry(2L, 4L);
+        assertThat(response.getAssociadosDistintos()).isEqualTo(5);
+        assertThat(response.getAssociadosEmTodasAsPautas()).isEqualTo(2);
+    }
+
+    @Test
+    void calcularParticipacao_DeveLancarBusinessException_QuandoSemPautas() {
+        assertThatThrownBy(() -> participacaoService.calcularParticipacao(List.of()))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("Informe ao menos uma pauta");
+    }
+
+    @Test
+    void calcularParticipacao_DeveLancarResourceNotFoundException_QuandoPautaNaoExiste() {
+        when(pautaService.buscarPautaEntityPorId(999L))
+                .thenThrow(new ResourceNotFoundException("Pauta", "id", 999L));
+
+        assertThatThrownBy(() -> participacaoService.calcularParticipacao(List.of(999L)))
+            .isInstanceOf(ResourceNotFoundException.class);
+
+        verify(votoRepository, never()).findAssociadoChaveByPautaId(999L);
+    }
+}
@@ -2,6 +2,7 @@ package com.cooperativa.voting.service;
 
 import com.cooperativa.voting.dto.request.PautaRequest;
 import com.cooperativa.voting.dto.response.PautaResponse;
+import com.cooperativa.voting.event.PautaAlteradaEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.model.Pauta;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -29,6 +31,9 @@ class PautaServiceTest {
     @Mock
     private PautaRepository pautaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PautaService pautaService;
 
@@ -141,6 +146,7 @@ class PautaServiceTest {
         verify(pautaRepository).findById(1L);
         verify(pautaRepository).existsByTituloIgnoreCase("Título Atualizado");
         verify(pautaRepository).save(any(Pauta.class));
+        verify(eventPublisher).publishEvent(any(PautaAlteradaEvent.class));
     }
 
     @Test
@@ -5,10 +5,13 @@ import com.cooperativa.voting.dto.response.ResultadoVotacaoResponse;
 import com.cooperativa.voting.dto.response.SessaoResponse;
 import com.cooperativa.voting.enums.StatusSessao;
 import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.SessaoAbertaEvent;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.model.Pauta;
 import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.EventoSessaoRepository;
 import com.cooperativa.voting.repository.SessaoRepository;
 import com.cooperativa.voting.repository.VotoRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +20,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -26,6 +31,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +43,15 @@ class SessaoServiceTest {
     @Mock
     private VotoRepository votoRepository;
 
+    @Mock
+    private EventoSessaoRepository eventoSessaoRepository;
+
     @Mock
     private PautaService pautaService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private SessaoService sessaoService;
 
@@ -81,6 +93,8 @@ class SessaoServiceTest {
         verify(pautaService).buscarPautaEntityPorId(1L);
         verify(sessaoRepository).existsActiveSessaoByPautaId(1L);
         verify(sessaoRepository).save(any(Sessao.class));
+        verify(eventoSessaoRepository).save(argThat(evento -> evento.getStatus() == StatusSessao.ABERTA));
+        verify(eventPublisher).publishEvent(any(SessaoAbertaEvent.class));
     }
 
     @Test
@@ -153,6 +167,38 @@ class SessaoServiceTest {
         verify(votoRepository).countBySessaoIdAndTipo(1L, TipoVoto.NAO);
     }
 
+    @Test
+    void obterResultadosVotacao_DeveUsarUmaAgregacao_EManterOrdemPedida() {
+        ReflectionTestUtils.setField(sessaoService, "idsMaximo", 100);
+        Sessao outra = new Sessao(pauta, 30);
+        outra.setId(2L);
+        when(sessaoRepository.findAllWithPautaByIdIn(List.of(2L, 1L, 999L))).thenReturn(List.of(sessao, outra));
+        when(votoRepository.countBySessaoIdsGroupByTipo(List.of(2L, 1L))).thenReturn(List.of(
+            new Object[]{1L, TipoVoto.SIM, 5L},
+            new Object[]{1L, TipoVoto.NAO, 3L},
+            new Object[]{2L, TipoVoto.NAO, 4L}));
+
+        List<ResultadoVotacaoResponse> resultados = sessaoService.obterResultadosVotacao(List.of(2L, 1L, 999L, 2L));
+
+        assertThat(resultados).extracting(ResultadoVotacaoResponse::getSessaoId).containsExactly(2L, 1L);
+        assertThat(resultados.get(0).getVotosSim()).isZero();
+        assertThat(resultados.get(0).getVotosNao()).isEqualTo(4);
+        assertThat(resultados.get(1).getVotosSim()).isEqualTo(5);
+        assertThat(resultados.get(1).getVotosNao()).isEqualTo(3);
+        verify(votoRepository, never()).countBySessaoIdAndTipo(any(), any());
+    }
+
+    @Test
+    void obterResultadosVotacaoPorPautas_DeveLancarBusinessException_QuandoAcimaDoLimite() {
+        ReflectionTestUtils.setField(sessaoService, "idsMaximo", 2);
+
+        assertThatThrownBy(() -> sessaoService.obterResultadosVotacaoPorPautas(List.of(1L, 2L, 3L)))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("Informe no máximo 2 pautas por consulta");
+
+        verifyNoInteractions(sessaoRepository, votoRepository);
+    }
+
     @Test
     void encerrarSessao_DeveRetornarSessaoEncerrada_QuandoSessaoAberta() {
         when(sessaoRepository.findById(1L)).thenReturn(Optional.of(sessao));
@@ -164,6 +210,8 @@ class SessaoServiceTest {
         
         verify(sessaoRepository).findById(1L);
         verify(sessaoRepository).save(any(Sessao.class));
+        verify(eventoSessaoRepository).save(argThat(evento -> evento.getStatus() == StatusSessao.ENCERRADA));
+        verify(eventPublisher).publishEvent(any(SessaoEncerradaEvent.class));
     }
 
     @Test
@@ -188,6 +236,7 @@ class SessaoServiceTest {
 
         verify(sessaoRepository).findExpiredSessions(any(LocalDateTime.class));
         verify(sessaoRepository).saveAll(sessoesExpiradas);
+        verify(eventoSessaoRepository).saveAll(anyList());
     }
 
     @Test
@@ -0,0 +1,153 @@
+package com.cooperativa.voting.service;
+
+import com.cooperativa.voting.dto.response.SessaoAbertaResponse;
+import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.PautaAlteradaEvent;
+import com.cooperativa.voting.event.SessaoAbertaEvent;
+import com.cooperativa.voting.event.SessaoEncerradaEvent;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
+import com.cooperativa.voting.model.Pauta;
+import com.cooperativa.voting.model.Sessao;
+import com.cooperativa.voting.repository.SessaoRepository;
+import com.cooperativa.voting.repository.VotoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessoesAbertasServiceTest {
+
+    @Mock
+    private SessaoRepository sessaoRepository;
+
+    @Mock
+    private VotoRepository votoRepository;
+
+    @InjectMocks
+    private SessoesAbertasService sessoesAbertasService;
+
+    @Test
+    void start_DeveCarregarSessoesAbertasComVotos_OrdenadasPeloFim() {
+        Sessao longa = sessao(1L, 10L, "Pauta Longa", 30);
+        Sessao curta = sessao(2L, 20L, "Pauta Curta", 5);
+        when(sessaoRepository.findAllAbertasWithPauta()).thenReturn(List.of(longa, curta));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(List.of(
+                new Object[]{1L, TipoVoto.SIM, 3L},
+                new Object[]{1L, TipoVoto.NAO, 1L},
+                new Object[]{2L, TipoVoto.NAO, 2L}));
+
+        sessoesAbertasService.start();
+        List<SessaoAbertaResponse> abertas = sessoesAbertasService.listarSessoesAbertas();
+
+        assertThat(abertas).extracting(SessaoAbertaResponse::getSessaoId).containsExactly(2L, 1L);
+        assertThat(abertas.get(0).getPautaTitulo()).isEqualTo("Pauta Curta");
+        assertThat(abertas.get(0).getSegundosRestantes()).isBetween(298L, 300L);
+        assertThat(abertas.get(1).getVotosSim()).isEqualTo(3);
+        assertThat(abertas.get(1).getVotosNao()).isEqualTo(1);
+        assertThat(abertas.get(1).getTotalVotos()).isEqualTo(4);
+    }
+
+    @Test
+    void eventos_DevemManterIndice_SemConsultarVotosNaListagem() {
+        when(sessaoRepository.findAllWithPautaByIdIn(List.of(1L))).thenReturn(List.of(sessao(1L, 10L, "Pauta", 10)));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(Collections.emptyList());
+
+        sessoesAbertasService.onSessaoAberta(new SessaoAbertaEvent(1L));
+        sessoesAbertasService.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+        sessoesAbertasService.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.NAO));
+        sessoesAbertasService.onVotosRegistrados(new VotosRegistradosEvent(99L, TipoVoto.SIM));
+
+        SessaoAbertaResponse aberta = sessoesAbertasService.listarSessoesAbertas().get(0);
+        assertThat(aberta.getVotosSim()).isEqualTo(1);
+        assertThat(aberta.getVotosNao()).isEqualTo(1);
+
+        sessoesAbertasService.onSessaoEncerrada(new SessaoEncerradaEvent(1L));
+
+        assertThat(sessoesAbertasService.listarSessoesAbertas()).isEmpty();
+        verify(votoRepository, times(1)).countBySessaoIdsGroupByTipo(anyCollection());
+    }
+
+    @Test
+    void onSessaoAberta_DeveIncluirSessaoNoIndiceAntesDaContagem() {
+        when(sessaoRepository.findAllWithPautaByIdIn(List.of(1L))).thenReturn(List.of(sessao(1L, 10L, "Pauta", 10)));
+        List<Long> visiveisDuranteContagem = new ArrayList<>();
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenAnswer(invocacao -> {
+            sessoesAbertasService.listarSessoesAbertas().forEach(aberta -> visiveisDuranteContagem.add(aberta.getSessaoId()));
+            return List.<Object[]>of(new Object[]{1L, TipoVoto.SIM, 1L});
+        });
+
+        sessoesAbertasService.onSessaoAberta(new SessaoAbertaEvent(1L));
+        // Voto confirmado depois da contagem: o aviso encontra a sessão no índice
+        sessoesAbertasService.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+
+        assertThat(visiveisDuranteContagem).containsExactly(1L);
+        assertThat(sessoesAbertasService.listarSessoesAbertas().get(0).getVotosSim()).isEqualTo(2);
+    }
+
+    @Test
+    void reconciliar_DeveRecontarVotos_ERemoverSessoesQueNaoEstaoMaisAbertas() {
+        when(sessaoRepository.findAllAbertasWithPauta()).thenReturn(List.of(sessao(1L, 10L, "Um", 10), sessao(2L, 20L, "Dois", 10)));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(Collections.emptyList());
+        sessoesAbertasService.start();
+        sessoesAbertasService.onVotosRegistrados(new VotosRegistradosEvent(1L, TipoVoto.SIM));
+
+        when(sessaoRepository.findAllAbertasWithPauta()).thenReturn(List.of(sessao(1L, 10L, "Um", 10)));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(List.of(
+                new Object[]{1L, TipoVoto.SIM, 4L},
+                new Object[]{1L, TipoVoto.NAO, 2L}));
+        sessoesAbertasService.reconciliar();
+
+        List<SessaoAbertaResponse> abertas = sessoesAbertasService.listarSessoesAbertas();
+        assertThat(abertas).extracting(SessaoAbertaResponse::getSessaoId).containsExactly(1L);
+        assertThat(abertas.get(0).getVotosSim()).isEqualTo(4);
+        assertThat(abertas.get(0).getVotosNao()).isEqualTo(2);
+    }
+
+    @Test
+    void listarSessoesAbertas_DeveOmitirSessoesVencidas_AntesDoJobDeExpiracao() {
+        Sessao vencida = sessao(1L, 10L, "Pauta", 10);
+        vencida.setFimEm(LocalDateTime.now().minusSeconds(1));
+        when(sessaoRepository.findAllAbertasWithPauta()).thenReturn(List.of(vencida));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(Collections.emptyList());
+
+        sessoesAbertasService.start();
+
+        assertThat(sessoesAbertasService.listarSessoesAbertas()).isEmpty();
+    }
+
+    @Test
+    void onPautaAlterada_DeveAtualizarTitulo_ERemoverSessoesDePautaExcluida() {
+        when(sessaoRepository.findAllAbertasWithPauta()).thenReturn(List.of(sessao(1L, 10L, "Antigo", 10)));
+        when(votoRepository.countBySessaoIdsGroupByTipo(anyCollection())).thenReturn(Collections.emptyList());
+        sessoesAbertasService.start();
+
+        when(sessaoRepository.findAllWithPautaByPautaIdIn(List.of(10L))).thenReturn(List.of(sessao(1L, 10L, "Novo", 10)));
+        sessoesAbertasService.onPautaAlterada(new PautaAlteradaEvent(10L));
+
+        assertThat(sessoesAbertasService.listarSessoesAbertas().get(0).getPautaTitulo()).isEqualTo("Novo");
+
+        when(sessaoRepository.findAllWithPautaByPautaIdIn(List.of(10L))).thenReturn(Collections.emptyList());
+        sessoesAbertasService.onPautaAlterada(new PautaAlteradaEvent(10L));
+
+        assertThat(sessoesAbertasService.listarSessoesAbertas()).isEmpty();
+    }
+
+    private Sessao sessao(Long id, Long pautaId, String titulo, int duracaoMinutos) {
+        Pauta pauta = new Pauta(titulo, "Descrição");
+        pauta.setId(pautaId);
+        Sessao sessao = new Sessao(pauta, duracaoMinutos);
+        sessao.setId(id);
+        return sessao;
+    }
+}
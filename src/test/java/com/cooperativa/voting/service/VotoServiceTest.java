@@ -1,9 +1,11 @@
 package com.cooperativa.voting.service;
 
 import com.cooperativa.voting.dto.request.VotoRequest;
+import com.cooperativa.voting.dto.response.PodeVotarLoteResponse;
 import com.cooperativa.voting.dto.response.VotoResponse;
 import com.cooperativa.voting.enums.StatusSessao;
 import com.cooperativa.voting.enums.TipoVoto;
+import com.cooperativa.voting.event.VotosRegistradosEvent;
 import com.cooperativa.voting.exception.BusinessException;
 import com.cooperativa.voting.exception.ResourceNotFoundException;
 import com.cooperativa.voting.exception.VotacaoEncerradaException;
@@ -14,18 +16,27 @@ import com.cooperativa.voting.repository.VotoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +48,15 @@ class VotoServiceTest {
     @Mock
     private SessaoService sessaoService;
 
+    @Mock
+    private AssociadoChaveService associadoChaveService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private VotoService votoService;
 
@@ -74,6 +94,7 @@ class VotoServiceTest {
     void registrarVoto_DeveRetornarVotoResponse_QuandoDadosValidos() {
         when(sessaoService.buscarSessaoEntityPorId(1L)).thenReturn(sessao);
         when(votoRepository.existsBySessaoIdAndAssociadoId(1L, "12345678901")).thenReturn(false);
+        when(associadoChaveService.chave("12345678901")).thenReturn(7);
         when(votoRepository.save(any(Voto.class))).thenReturn(voto);
 
         VotoResponse response = votoService.registrarVoto(1L, votoRequest);
@@ -86,7 +107,23 @@ class VotoServiceTest {
         
         verify(sessaoService).buscarSessaoEntityPorId(1L);
         verify(votoRepository).existsBySessaoIdAndAssociadoId(1L, "12345678901");
-        verify(votoRepository).save(any(Voto.class));
+        verify(votoRepository).save(argThat(v -> v.getAssociadoChave() == 7));
+        verify(eventPublisher).publishEvent(any(VotosRegistradosEvent.class));
+    }
+
+    @Test
+    void registrarVoto_DeveResolverChaveDoAssociado_AntesDeAbrirATransacaoDoVoto() {
+        when(sessaoService.buscarSessaoEntityPorId(1L)).thenReturn(sessao);
+        when(votoRepository.existsBySessaoIdAndAssociadoId(1L, "12345678901")).thenReturn(false);
+        when(associadoChaveService.chave("12345678901")).thenReturn(7);
+        when(votoRepository.save(any(Voto.class))).thenReturn(voto);
+
+        votoService.registrarVoto(1L, votoRequest);
+
+        InOrder ordem = inOrder(associadoChaveService, transactionManager, sessaoService);
+        ordem.verify(associadoChaveService).chave("12345678901");
+        ordem.verify(transactionManager).getTransaction(any());
+        ordem.verify(sessaoService).buscarSessaoEntityPorId(1L);
     }
 
     @Test
@@ -205,4 +242,60 @@ class VotoServiceTest {
         verify(sessaoService).buscarSessaoEntityPorId(1L);
         verify(votoRepository).existsBySessaoIdAndAssociadoId(1L, "12345678901");
     }
+
+    @Test
+    void verificarQuemPodeVotar_DeveRetornarQuemNaoVotou_NaOrdemRecebida() {
+        ReflectionTestUtils.setField(votoService, "podeVotarIdsMaximo", 5000);
+        when(sessaoService.buscarSessaoEntityPorId(1L)).thenReturn(sessao);
+        when(votoRepository.findAssociadoIdsBySessaoIdAndAssociadoIdIn(eq(1L), anyCollection()))
+            .thenReturn(List.of("00000000002"));
+
+        PodeVotarLoteResponse resposta = votoService.verificarQuemPodeVotar(1L,
+            List.of("00000000003", "00000000002", "00000000001", "00000000003"));
+
+        assertThat(resposta.isVotacaoAberta()).isTrue();
+        assertThat(resposta.getPodemVotar()).containsExactly("00000000003", "00000000001");
+        verify(sessaoService, times(1)).buscarSessaoEntityPorId(1L);
+        verify(votoRepository, times(1)).findAssociadoIdsBySessaoIdAndAssociadoIdIn(eq(1L), anyCollection());
+        verify(votoRepository, never()).existsBySessaoIdAndAssociadoId(anyLong(), any());
+    }
+
+    @Test
+    void verificarQuemPodeVotar_DeveConsultarEmBlocos_QuandoListaGrande() {
+        ReflectionTestUtils.setField(votoService, "podeVotarIdsMaximo", 5000);
+        when(sessaoService.buscarSessaoEntityPorId(1L)).thenReturn(sessao);
+        when(votoRepository.findAssociadoIdsBySessaoIdAndAssociadoIdIn(eq(1L), anyCollection())).thenReturn(List.of());
+        List<String> associados = IntStream.range(0, 2500)
+            .mapToObj(i -> String.format("%011d", i))
+            .toList();
+
+        PodeVotarLoteResponse resposta = votoService.verificarQuemPodeVotar(1L, associados);
+
+        assertThat(resposta.getPodemVotar()).hasSize(2500);
+        verify(votoRepository, times(3)).findAssociadoIdsBySessaoIdAndAssociadoIdIn(eq(1L), anyCollection());
+    }
+
+    @Test
+    void verificarQuemPodeVotar_NaoDeveConsultarVotos_QuandoSessaoEncerrada() {
+        ReflectionTestUtils.setField(votoService, "podeVotarIdsMaximo", 5000);
+        sessao.setStatus(StatusSessao.ENCERRADA);
+        when(sessaoService.buscarSessaoEntityPorId(1L)).thenReturn(sessao);
+
+        PodeVotarLoteResponse resposta = votoService.verificarQuemPodeVotar(1L, List.of("12345678901"));
+
+        assertThat(resposta.isVotacaoAberta()).isFalse();
+        assertThat(resposta.getPodemVotar()).isEmpty();
+        verifyNoInteractions(votoRepository);
+    }
+
+    @Test
+    void verificarQuemPodeVotar_DeveLancarExcecao_QuandoAcimaDoLimite() {
+        ReflectionTestUtils.setField(votoService, "podeVotarIdsMaximo", 2);
+
+        assertThatThrownBy(() -> votoService.verificarQuemPodeVotar(1L, List.of("1", "2", "3")))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage("Informe no máximo 2 associados por consulta");
+
+        verifyNoInteractions(sessaoService, votoRepository);
+    }
 }
\ No newline at end of file